@@ -24,6 +24,7 @@ import com.dangdang.ddframe.rdb.sharding.api.rule.TableRule;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.database.DatabaseShardingStrategy;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.database.MultipleKeysDatabaseShardingAlgorithm;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.database.SingleKeyDatabaseShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.AbstractStandardShardingAlgorithm;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.table.MultipleKeysTableShardingAlgorithm;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.table.SingleKeyTableShardingAlgorithm;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.table.TableShardingStrategy;
@@ -34,6 +35,7 @@ import com.dangdang.ddframe.rdb.sharding.config.common.api.config.StrategyConfig
 import com.dangdang.ddframe.rdb.sharding.config.common.api.config.TableRuleConfig;
 import com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm.ClosureDatabaseShardingAlgorithm;
 import com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm.ClosureTableShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm.StandardShardingAlgorithmFactory;
 import com.dangdang.ddframe.rdb.sharding.config.common.internal.parser.InlineParser;
 import com.dangdang.ddframe.rdb.sharding.keygen.KeyGenerator;
 import com.dangdang.ddframe.rdb.sharding.routing.strategy.MultipleKeysShardingAlgorithm;
@@ -92,6 +94,9 @@ public final class ShardingRuleBuilder {
         if (!Strings.isNullOrEmpty(shardingRuleConfig.getKeyGeneratorClass())) {
             shardingRuleBuilder.keyGenerator(loadClass(shardingRuleConfig.getKeyGeneratorClass(), KeyGenerator.class));
         }
+        if (!Strings.isNullOrEmpty(shardingRuleConfig.getBroadcastTables())) {
+            shardingRuleBuilder.broadcastTables(new InlineParser(shardingRuleConfig.getBroadcastTables()).evaluate());
+        }
         return shardingRuleBuilder.tableRules(tableRules).bindingTableRules(buildBindingTableRules(tableRules))
                 .databaseShardingStrategy(buildShardingStrategy(shardingRuleConfig.getDefaultDatabaseStrategy(), DatabaseShardingStrategy.class))
                 .tableShardingStrategy(buildShardingStrategy(shardingRuleConfig.getDefaultTableStrategy(), TableShardingStrategy.class)).build();
@@ -161,16 +166,37 @@ public final class ShardingRuleBuilder {
         if (null == config) {
             return null;
         }
-        Preconditions.checkArgument(Strings.isNullOrEmpty(config.getAlgorithmExpression()) && !Strings.isNullOrEmpty(config.getAlgorithmClassName())
-                || !Strings.isNullOrEmpty(config.getAlgorithmExpression()) && Strings.isNullOrEmpty(config.getAlgorithmClassName()));
+        Preconditions.checkArgument(1 == countConfigured(config.getAlgorithmExpression(), config.getAlgorithmClassName(), config.getAlgorithmType()), 
+                "Sharding-JDBC: one and only one of algorithmExpression, algorithmClassName and algorithmType should be configured");
         Preconditions.checkState(returnClass.isAssignableFrom(DatabaseShardingStrategy.class) || returnClass.isAssignableFrom(TableShardingStrategy.class), "Sharding-JDBC: returnClass is illegal");
         List<String> shardingColumns = new InlineParser(config.getShardingColumns()).split();
+        if (!Strings.isNullOrEmpty(config.getAlgorithmType())) {
+            return buildShardingAlgorithmType(shardingColumns, config.getAlgorithmType(), config.getAlgorithmProps(), returnClass);
+        }
         if (Strings.isNullOrEmpty(config.getAlgorithmClassName())) {
             return buildShardingAlgorithmExpression(shardingColumns, config.getAlgorithmExpression(), returnClass);
         }
         return buildShardingAlgorithmClassName(shardingColumns, config.getAlgorithmClassName(), returnClass);
     }
     
+    private int countConfigured(final String... values) {
+        int result = 0;
+        for (String each : values) {
+            if (!Strings.isNullOrEmpty(each)) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T extends ShardingStrategy> T buildShardingAlgorithmType(final List<String> shardingColumns, final String algorithmType, final String algorithmProps, final Class<T> returnClass) {
+        Preconditions.checkArgument(1 == shardingColumns.size(), "Sharding-JDBC: standard sharding algorithm must have only ONE sharding column");
+        AbstractStandardShardingAlgorithm<?, ?> shardingAlgorithm = StandardShardingAlgorithmFactory.createShardingAlgorithm(algorithmType, algorithmProps);
+        return returnClass.isAssignableFrom(DatabaseShardingStrategy.class) ? (T) new DatabaseShardingStrategy(shardingColumns.get(0), shardingAlgorithm)
+                : (T) new TableShardingStrategy(shardingColumns.get(0), shardingAlgorithm);
+    }
+    
     @SuppressWarnings("unchecked")
     private <T extends ShardingStrategy> T buildShardingAlgorithmExpression(final List<String> shardingColumns, final String algorithmExpression, final Class<T> returnClass) {
         return returnClass.isAssignableFrom(DatabaseShardingStrategy.class) ? (T) new DatabaseShardingStrategy(shardingColumns, new ClosureDatabaseShardingAlgorithm(algorithmExpression, logRoot))
@@ -43,6 +43,8 @@ public class ShardingRuleConfig {
     
     private List<BindingTableRuleConfig> bindingTables = new ArrayList<>();
     
+    private String broadcastTables;
+    
     private StrategyConfig defaultDatabaseStrategy;
     
     private StrategyConfig defaultTableStrategy;
@@ -34,4 +34,8 @@ public class StrategyConfig {
     private String algorithmClassName;
     
     private String algorithmExpression;
+    
+    private String algorithmType;
+    
+    private String algorithmProps;
 }
@@ -19,9 +19,13 @@ package com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm;
 
 import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
 import com.dangdang.ddframe.rdb.sharding.routing.strategy.MultipleKeysShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.UnboundedRangeShardingAlgorithm;
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import groovy.lang.Binding;
 import groovy.lang.Closure;
@@ -31,24 +35,38 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * 基于闭包的数据源划分算法.
  * 
+ * <p>
+ * 范围分片值在可枚举时转换为多个分片值计算, 无法枚举时路由至全部目标.
+ * 整数范围不超过上限时逐个枚举, 否则对取模表达式按取模周期计算; 时间范围对时间格式化表达式按格式的最小时间单位枚举.
+ * </p>
+ * 
  * @author gaohongtao
  */
-public class ClosureShardingAlgorithm implements MultipleKeysShardingAlgorithm {
+public class ClosureShardingAlgorithm implements MultipleKeysShardingAlgorithm, UnboundedRangeShardingAlgorithm {
+    
+    private static final int MAX_RANGE_VALUES_SIZE = 1024;
     
     private final Closure<?> closureTemplate;
     
+    private final Optional<CompiledInlineExpression> compiledExpression;
+    
     public ClosureShardingAlgorithm(final String expression, final String logRoot) {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(expression));
         Preconditions.checkArgument(!Strings.isNullOrEmpty(logRoot));
         Binding binding = new Binding();
         binding.setVariable("log", LoggerFactory.getLogger(Joiner.on(".").join("com.dangdang.ddframe.rdb.sharding.configFile", logRoot.trim())));
         closureTemplate = (Closure) new GroovyShell(binding).evaluate(Joiner.on("").join("{it -> \"", expression.trim(), "\"}"));
+        compiledExpression = CompiledInlineExpression.compile(expression.trim());
     }
     
     @Override
@@ -65,19 +83,62 @@ public class ClosureShardingAlgorithm implements MultipleKeysShardingAlgorithm {
                     valuesDim.add(Sets.<Comparable>newHashSet(each.getValues()));
                     break;
                 case RANGE:
-                    throw new UnsupportedOperationException("Inline expression does not support BETWEEN, please use Java API Config");
+                    Optional<Set<Comparable>> rangeValues = getRangeValues(each.getColumnName(), each.getValueRange());
+                    if (!rangeValues.isPresent()) {
+                        return availableTargetNames;
+                    }
+                    valuesDim.add(rangeValues.get());
+                    break;
                 default:
                     throw new UnsupportedOperationException(each.getType().name());
             }
         }
         Set<List<Comparable>> cartesianValues = Sets.cartesianProduct(valuesDim);
-        List<String> result = new ArrayList<>(cartesianValues.size());
+        Set<String> result = new LinkedHashSet<>(cartesianValues.size());
+        boolean compiled = compiledExpression.isPresent() && compiledExpression.get().isEvaluable(columnNames);
         for (List<Comparable> each : cartesianValues) {
-            result.add(cloneClosure(columnNames, each).call().toString());
+            result.add(compiled ? evaluate(columnNames, each) : cloneClosure(columnNames, each).call().toString());
         }
         return result;
     }
     
+    private Optional<Set<Comparable>> getRangeValues(final String columnName, final Range<?> range) {
+        if (!range.hasLowerBound() || !range.hasUpperBound()) {
+            return Optional.absent();
+        }
+        if (isIntegral(range.lowerEndpoint()) && isIntegral(range.upperEndpoint())) {
+            long lower = ((Number) range.lowerEndpoint()).longValue() + (BoundType.OPEN == range.lowerBoundType() ? 1L : 0L);
+            long upper = ((Number) range.upperEndpoint()).longValue() - (BoundType.OPEN == range.upperBoundType() ? 1L : 0L);
+            if (lower > upper) {
+                return Optional.absent();
+            }
+            if (upper - lower >= 0L && upper - lower < MAX_RANGE_VALUES_SIZE) {
+                Set<Comparable> result = new LinkedHashSet<>();
+                for (long i = lower; i <= upper; i++) {
+                    result.add(i);
+                }
+                return Optional.of(result);
+            }
+            return compiledExpression.isPresent() ? compiledExpression.get().getModuloRangeValues(columnName, lower, upper, MAX_RANGE_VALUES_SIZE) : Optional.<Set<Comparable>>absent();
+        }
+        if (range.lowerEndpoint() instanceof Date && range.upperEndpoint() instanceof Date && compiledExpression.isPresent()) {
+            return compiledExpression.get().getDateRangeValues(columnName, (Date) range.lowerEndpoint(), (Date) range.upperEndpoint(), MAX_RANGE_VALUES_SIZE);
+        }
+        return Optional.absent();
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private String evaluate(final List<String> columnNames, final List<Comparable> values) {
+        Map<String, ShardingValueWrapper> shardingValues = new HashMap<>(values.size(), 1);
+        for (int i = 0; i < values.size(); i++) {
+            shardingValues.put(columnNames.get(i), new ShardingValueWrapper(values.get(i)));
+        }
+        return compiledExpression.get().evaluate(shardingValues);
+    }
+    
     private Closure<?> cloneClosure(final List<String> columnNames, final List<Comparable> values) {
         Closure<?> result = closureTemplate.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
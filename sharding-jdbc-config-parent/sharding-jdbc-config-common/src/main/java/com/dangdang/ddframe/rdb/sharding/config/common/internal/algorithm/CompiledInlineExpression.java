@@ -0,0 +1,381 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm;
+
+import com.google.common.base.Optional;
+import com.google.common.math.LongMath;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 编译后的分片算法行表达式.
+ *
+ * <p>
+ * 在配置时将常用的分片算法表达式(字符串拼接, 取模, 哈希取模和字符串截取)编译为Java求值器, 路由时无需创建Groovy闭包.
+ * 求值结果与Groovy执行结果一致, 无法编译的表达式仍由Groovy执行.
+ * 编译后的取模和时间格式化表达式还可以分析范围分片值覆盖的计算结果.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final String PLACEHOLDER_BEGIN = "${";
+    
+    private static final char PLACEHOLDER_END = '}';
+    
+    private static final String RESERVED_LOG_VARIABLE = "log";
+    
+    private static final String DATE_PATTERN_LETTERS = "yMdHmsS";
+    
+    private static final int[] DATE_FIELDS = {Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND};
+    
+    private final List<Segment> segments;
+    
+    @Getter
+    private final Set<String> columnNames;
+    
+    /**
+     * 编译分片算法表达式.
+     *
+     * @param expression 分片算法表达式
+     * @return 编译后的表达式, 包含无法编译的Groovy代码时返回空
+     */
+    public static Optional<CompiledInlineExpression> compile(final String expression) {
+        List<Segment> segments = new ArrayList<>();
+        Set<String> columnNames = new LinkedHashSet<>();
+        int index = 0;
+        while (index < expression.length()) {
+            int beginIndex = expression.indexOf(PLACEHOLDER_BEGIN, index);
+            String literal = -1 == beginIndex ? expression.substring(index) : expression.substring(index, beginIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.absent();
+            }
+            if (!literal.isEmpty()) {
+                segments.add(new LiteralSegment(literal));
+            }
+            if (-1 == beginIndex) {
+                break;
+            }
+            int endIndex = expression.indexOf(PLACEHOLDER_END, beginIndex);
+            if (-1 == endIndex) {
+                return Optional.absent();
+            }
+            Optional<PlaceholderSegment> placeholder = compilePlaceholder(expression.substring(beginIndex + PLACEHOLDER_BEGIN.length(), endIndex).trim());
+            if (!placeholder.isPresent()) {
+                return Optional.absent();
+            }
+            segments.add(placeholder.get());
+            columnNames.add(placeholder.get().columnName);
+            index = endIndex + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(segments, Collections.unmodifiableSet(columnNames)));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return !literal.contains("$") && !literal.contains("\\") && !literal.contains("\"");
+    }
+    
+    private static Optional<PlaceholderSegment> compilePlaceholder(final String placeholder) {
+        for (PlaceholderType each : PlaceholderType.values()) {
+            Matcher matcher = each.pattern.matcher(placeholder);
+            if (matcher.matches() && !RESERVED_LOG_VARIABLE.equals(matcher.group(1))) {
+                Object[] arguments = new Object[matcher.groupCount() - 1];
+                for (int i = 0; i < arguments.length; i++) {
+                    arguments[i] = each.parseArgument(matcher.group(i + 2));
+                }
+                return Optional.of(new PlaceholderSegment(each, matcher.group(1), arguments));
+            }
+        }
+        return Optional.absent();
+    }
+    
+    /**
+     * 计算表达式.
+     *
+     * @param shardingValues 分片列名称和分片值的映射, 需包含表达式引用的全部分片列
+     * @return 计算结果
+     */
+    public String evaluate(final Map<String, ShardingValueWrapper> shardingValues) {
+        StringBuilder result = new StringBuilder();
+        for (Segment each : segments) {
+            each.appendTo(result, shardingValues);
+        }
+        return result.toString();
+    }
+    
+    /**
+     * 判断是否可以使用给定的分片列计算表达式.
+     *
+     * @param shardingColumns 分片列名称集合
+     * @return 是否可以计算
+     */
+    public boolean isEvaluable(final Collection<String> shardingColumns) {
+        return shardingColumns.containsAll(columnNames);
+    }
+    
+    /**
+     * 获取整数范围内能够覆盖全部计算结果的分片值.
+     * 
+     * <p>
+     * 仅支持分片列只用于取模计算的表达式. 同一符号区间内连续的取模周期个值即可覆盖该区间的全部余数.
+     * </p>
+     * 
+     * @param columnName 分片列名称
+     * @param lower 范围下界, 包含
+     * @param upper 范围上界, 包含
+     * @param maxSize 取模周期上限
+     * @return 分片值集合, 无法计算时返回空
+     */
+    public Optional<Set<Comparable>> getModuloRangeValues(final String columnName, final long lower, final long upper, final int maxSize) {
+        long period = 1L;
+        for (PlaceholderSegment each : findPlaceholders(columnName)) {
+            if (PlaceholderType.MODULO != each.type || 0 == (Integer) each.arguments[0]) {
+                return Optional.absent();
+            }
+            int modulus = (Integer) each.arguments[0];
+            period = period / LongMath.gcd(period, modulus) * modulus;
+            if (period > maxSize) {
+                return Optional.absent();
+            }
+        }
+        Set<Comparable> result = new LinkedHashSet<>();
+        if (lower < 0L) {
+            long negativeUpper = Math.min(upper, -1L);
+            addRangeValues(result, negativeUpper - lower < period ? lower : negativeUpper - period + 1, negativeUpper);
+        }
+        if (upper >= 0L) {
+            long positiveLower = Math.max(lower, 0L);
+            addRangeValues(result, positiveLower, upper - positiveLower < period ? upper : positiveLower + period - 1);
+        }
+        return Optional.of(result);
+    }
+    
+    private void addRangeValues(final Set<Comparable> result, final long lower, final long upper) {
+        for (long i = lower; i <= upper; i++) {
+            result.add(i);
+        }
+    }
+    
+    /**
+     * 获取时间范围内能够覆盖全部计算结果的分片值.
+     * 
+     * <p>
+     * 仅支持分片列只用于时间格式化的表达式. 按格式中最小的时间单位步进, 每个单位内的格式化结果相同.
+     * </p>
+     * 
+     * @param columnName 分片列名称
+     * @param lower 范围下界
+     * @param upper 范围上界
+     * @param maxSize 分片值数量上限
+     * @return 分片值集合, 无法计算或超过数量上限时返回空
+     */
+    public Optional<Set<Comparable>> getDateRangeValues(final String columnName, final Date lower, final Date upper, final int maxSize) {
+        int dateFieldIndex = -1;
+        for (PlaceholderSegment each : findPlaceholders(columnName)) {
+            if (PlaceholderType.DATE_FORMAT != each.type) {
+                return Optional.absent();
+            }
+            Optional<Integer> patternDateFieldIndex = findSmallestDateFieldIndex((String) each.arguments[0]);
+            if (!patternDateFieldIndex.isPresent()) {
+                return Optional.absent();
+            }
+            dateFieldIndex = Math.max(dateFieldIndex, patternDateFieldIndex.get());
+        }
+        Set<Comparable> result = new LinkedHashSet<>();
+        result.add(lower);
+        if (-1 == dateFieldIndex) {
+            return Optional.of(result);
+        }
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(lower);
+        for (int i = dateFieldIndex + 1; i < DATE_FIELDS.length; i++) {
+            calendar.set(DATE_FIELDS[i], calendar.getActualMinimum(DATE_FIELDS[i]));
+        }
+        calendar.add(DATE_FIELDS[dateFieldIndex], 1);
+        while (!calendar.getTime().after(upper)) {
+            if (result.size() >= maxSize) {
+                return Optional.absent();
+            }
+            result.add(calendar.getTime());
+            calendar.add(DATE_FIELDS[dateFieldIndex], 1);
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Integer> findSmallestDateFieldIndex(final String pattern) {
+        int result = -1;
+        for (char each : pattern.toCharArray()) {
+            if (!Character.isLetter(each)) {
+                continue;
+            }
+            int index = DATE_PATTERN_LETTERS.indexOf(each);
+            if (-1 == index) {
+                return Optional.absent();
+            }
+            result = Math.max(result, index);
+        }
+        return -1 == result ? Optional.<Integer>absent() : Optional.of(result);
+    }
+    
+    private Collection<PlaceholderSegment> findPlaceholders(final String columnName) {
+        Collection<PlaceholderSegment> result = new ArrayList<>(segments.size());
+        for (Segment each : segments) {
+            if (each instanceof PlaceholderSegment && columnName.equals(((PlaceholderSegment) each).columnName)) {
+                result.add((PlaceholderSegment) each);
+            }
+        }
+        return result;
+    }
+    
+    private interface Segment {
+        
+        void appendTo(StringBuilder builder, Map<String, ShardingValueWrapper> shardingValues);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralSegment implements Segment {
+        
+        private final String literal;
+        
+        @Override
+        public void appendTo(final StringBuilder builder, final Map<String, ShardingValueWrapper> shardingValues) {
+            builder.append(literal);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PlaceholderSegment implements Segment {
+        
+        private final PlaceholderType type;
+        
+        private final String columnName;
+        
+        private final Object[] arguments;
+        
+        @Override
+        public void appendTo(final StringBuilder builder, final Map<String, ShardingValueWrapper> shardingValues) {
+            builder.append(type.evaluate(shardingValues.get(columnName), arguments));
+        }
+    }
+    
+    /**
+     * 可编译的表达式类型.
+     *
+     * <p>
+     * 第一个分组为分片列名称, 其余分组为整数参数. 计算方式与Groovy的运算语义一致.
+     * </p>
+     */
+    private enum PlaceholderType {
+        
+        VALUE("([a-zA-Z_]\\w*)(?:\\.toString\\(\\))?") {
+            
+            @Override
+            Object evaluate(final ShardingValueWrapper value, final Object[] arguments) {
+                return value.toString();
+            }
+        },
+        
+        LONG_VALUE("([a-zA-Z_]\\w*)\\.longValue\\(\\)") {
+            
+            @Override
+            Object evaluate(final ShardingValueWrapper value, final Object[] arguments) {
+                return value.longValue();
+            }
+        },
+        
+        MODULO("([a-zA-Z_]\\w*)\\.longValue\\(\\)\\s*%\\s*(\\d{1,9})(?:\\s*\\+\\s*(\\d{1,9}))?") {
+            
+            @Override
+            Object evaluate(final ShardingValueWrapper value, final Object[] arguments) {
+                return value.longValue() % (Integer) arguments[0] + (Integer) arguments[1];
+            }
+        },
+        
+        HASH_MODULO("([a-zA-Z_]\\w*)\\.toString\\(\\)\\.hashCode\\(\\)\\s*%\\s*(\\d{1,9})") {
+            
+            @Override
+            Object evaluate(final ShardingValueWrapper value, final Object[] arguments) {
+                return value.toString().hashCode() % (Integer) arguments[0];
+            }
+        },
+        
+        ABS_HASH_MODULO("Math\\.abs\\(\\s*([a-zA-Z_]\\w*)\\.toString\\(\\)\\.hashCode\\(\\)\\s*%\\s*(\\d{1,9})\\s*\\)") {
+            
+            @Override
+            Object evaluate(final ShardingValueWrapper value, final Object[] arguments) {
+                return Math.abs(value.toString().hashCode() % (Integer) arguments[0]);
+            }
+        },
+        
+        SUBSTRING("([a-zA-Z_]\\w*)\\.toString\\(\\)\\.substring\\(\\s*(\\d{1,9})\\s*\\)") {
+            
+            @Override
+            Object evaluate(final ShardingValueWrapper value, final Object[] arguments) {
+                return value.toString().substring((Integer) arguments[0]);
+            }
+        },
+        
+        SUBSTRING_RANGE("([a-zA-Z_]\\w*)\\.toString\\(\\)\\.substring\\(\\s*(\\d{1,9})\\s*,\\s*(\\d{1,9})\\s*\\)") {
+            
+            @Override
+            Object evaluate(final ShardingValueWrapper value, final Object[] arguments) {
+                return value.toString().substring((Integer) arguments[0], (Integer) arguments[1]);
+            }
+        },
+        
+        DATE_FORMAT("([a-zA-Z_]\\w*)\\.toString\\(\\s*['\"]([^'\"]+)['\"]\\s*\\)") {
+            
+            @Override
+            Object evaluate(final ShardingValueWrapper value, final Object[] arguments) {
+                return value.toString((String) arguments[0]);
+            }
+            
+            @Override
+            Object parseArgument(final String argument) {
+                return argument;
+            }
+        };
+        
+        private final Pattern pattern;
+        
+        PlaceholderType(final String regex) {
+            pattern = Pattern.compile(regex);
+        }
+        
+        abstract Object evaluate(ShardingValueWrapper value, Object[] arguments);
+        
+        Object parseArgument(final String argument) {
+            return null == argument ? 0 : Integer.parseInt(argument);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm;
+
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.AbstractStandardShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.ConsistentHashShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.HashModuloShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.ModuloShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.RangeShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.TimeIntervalShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.TimeIntervalUnit;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 标准分片算法工厂.
+ * 
+ * <p>
+ * 算法属性格式为{@code key1=value1;key2=value2}, 各算法支持的属性如下:
+ * </p>
+ * 
+ * <ul>
+ *     <li>MOD, HASH_MOD: shardingCount, 分片数量, 可选.</li>
+ *     <li>RANGE: boundaries, 以逗号分隔的升序分界值, 必填.</li>
+ *     <li>TIME_INTERVAL: unit, 时间单位, 可选值为YEAR, MONTH, DAY和HOUR, 必填.</li>
+ *     <li>CONSISTENT_HASH: virtualNodeCount, 每个目标的虚拟节点数量, 可选.</li>
+ * </ul>
+ * 
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StandardShardingAlgorithmFactory {
+    
+    private static final String SHARDING_COUNT = "shardingCount";
+    
+    private static final String BOUNDARIES = "boundaries";
+    
+    private static final String UNIT = "unit";
+    
+    private static final String VIRTUAL_NODE_COUNT = "virtualNodeCount";
+    
+    /**
+     * 创建标准分片算法.
+     * 
+     * @param algorithmType 算法类型
+     * @param algorithmProps 算法属性
+     * @return 标准分片算法
+     */
+    public static AbstractStandardShardingAlgorithm<?, ?> createShardingAlgorithm(final String algorithmType, final String algorithmProps) {
+        Map<String, String> props = parseProps(algorithmProps);
+        switch (algorithmType.trim().toUpperCase()) {
+            case "MOD":
+                return new ModuloShardingAlgorithm<Comparable<?>>(getShardingCount(props));
+            case "HASH_MOD":
+                return new HashModuloShardingAlgorithm<Comparable<?>>(getShardingCount(props));
+            case "RANGE":
+                Preconditions.checkArgument(props.containsKey(BOUNDARIES), "Sharding-JDBC: RANGE algorithm must have property '%s'.", BOUNDARIES);
+                List<String> boundaries = Splitter.on(',').trimResults().omitEmptyStrings().splitToList(props.get(BOUNDARIES));
+                long[] boundaryValues = new long[boundaries.size()];
+                for (int i = 0; i < boundaryValues.length; i++) {
+                    boundaryValues[i] = Long.parseLong(boundaries.get(i));
+                }
+                return new RangeShardingAlgorithm<Comparable<?>>(boundaryValues);
+            case "TIME_INTERVAL":
+                Preconditions.checkArgument(props.containsKey(UNIT), "Sharding-JDBC: TIME_INTERVAL algorithm must have property '%s'.", UNIT);
+                return new TimeIntervalShardingAlgorithm<Comparable<?>>(TimeIntervalUnit.valueOf(props.get(UNIT).toUpperCase()));
+            case "CONSISTENT_HASH":
+                return new ConsistentHashShardingAlgorithm<Comparable<?>>(props.containsKey(VIRTUAL_NODE_COUNT)
+                        ? Integer.parseInt(props.get(VIRTUAL_NODE_COUNT)) : ConsistentHashShardingAlgorithm.DEFAULT_VIRTUAL_NODE_COUNT);
+            default:
+                throw new IllegalArgumentException(String.format("Sharding-JDBC: Unsupported algorithm type '%s'.", algorithmType));
+        }
+    }
+    
+    private static Map<String, String> parseProps(final String algorithmProps) {
+        return Strings.isNullOrEmpty(algorithmProps) ? Collections.<String, String>emptyMap()
+                : Splitter.on(';').trimResults().omitEmptyStrings().withKeyValueSeparator(Splitter.on('=').trimResults()).split(algorithmProps);
+    }
+    
+    private static int getShardingCount(final Map<String, String> props) {
+        return props.containsKey(SHARDING_COUNT) ? Integer.parseInt(props.get(SHARDING_COUNT)) : 0;
+    }
+}
@@ -19,8 +19,10 @@ package com.dangdang.ddframe.rdb.sharding.config.common;
 
 import com.dangdang.ddframe.rdb.sharding.config.common.api.ShardingRuleBuilderTest;
 import com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm.ClosureDatabaseShardingAlgorithmTest;
+import com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm.CompiledInlineExpressionTest;
 import com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm.ClosureTableShardingAlgorithmTest;
 import com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm.ShardingValueWrapperTest;
+import com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm.StandardShardingAlgorithmFactoryTest;
 import com.dangdang.ddframe.rdb.sharding.config.common.internal.parser.InlineParserTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -31,6 +33,8 @@ import org.junit.runners.Suite;
         ClosureDatabaseShardingAlgorithmTest.class, 
         ClosureTableShardingAlgorithmTest.class, 
         ShardingValueWrapperTest.class, 
+        CompiledInlineExpressionTest.class, 
+        StandardShardingAlgorithmFactoryTest.class, 
         InlineParserTest.class
     })
 public class AllTests {
@@ -35,6 +35,8 @@ public abstract class AbstractClosureShardingAlgorithmTest {
     
     protected static final String EXPRESSION = "target_${log.info(id.toString()); id.longValue() % 2}";
     
+    protected static final String COMPILABLE_EXPRESSION = "target_${id.longValue() % 2}";
+    
     protected static final String WRONG_EXPRESSION = "target_${log.info(id.error());}";
     
     protected static final String LOG_ROOT = "default";
@@ -43,6 +45,8 @@ public abstract class AbstractClosureShardingAlgorithmTest {
     
     protected abstract ClosureShardingAlgorithm createErrorClosureShardingAlgorithm();
     
+    protected abstract ClosureShardingAlgorithm createCompilableClosureShardingAlgorithm();
+    
     @Test
     public void assertEqual() {
         Collection<String> result = createClosureShardingAlgorithm().doSharding(
@@ -59,11 +63,45 @@ public abstract class AbstractClosureShardingAlgorithmTest {
         assertThat(result, hasItem("target_0"));
         assertThat(result, hasItem("target_1"));
     }
-        
-    @Test(expected = UnsupportedOperationException.class)
+    
+    @Test
+    public void assertInWithCompilableExpression() {
+        Collection<String> result = createCompilableClosureShardingAlgorithm().doSharding(Arrays.asList("target_0", "target_1"), 
+                Collections.<ShardingValue<?>>singletonList(new ShardingValue<>("target", "id", Arrays.asList(1, 2, 3))));
+        assertThat(result.size(), is(2));
+        assertThat(result, hasItem("target_0"));
+        assertThat(result, hasItem("target_1"));
+    }
+    
+    @Test
     public void assertBetween() {
-        createClosureShardingAlgorithm().doSharding(Arrays.asList("target_0", "target_1"), 
+        Collection<String> result = createClosureShardingAlgorithm().doSharding(Arrays.asList("target_0", "target_1"), 
                 Collections.<ShardingValue<?>>singletonList(new ShardingValue<>("target", "id", Range.range(1, BoundType.CLOSED, 2, BoundType.OPEN))));
+        assertThat(result.size(), is(1));
+        assertThat(result, hasItem("target_1"));
+    }
+    
+    @Test
+    public void assertBetweenWithLargeRange() {
+        Collection<String> result = createClosureShardingAlgorithm().doSharding(Arrays.asList("target_0", "target_1", "target_2"), 
+                Collections.<ShardingValue<?>>singletonList(new ShardingValue<>("target", "id", Range.closed(1L, 100000L))));
+        assertThat(result.size(), is(3));
+    }
+    
+    @Test
+    public void assertBetweenWithLargeRangeAndCompilableExpression() {
+        Collection<String> result = createCompilableClosureShardingAlgorithm().doSharding(Arrays.asList("target_0", "target_1", "target_2"), 
+                Collections.<ShardingValue<?>>singletonList(new ShardingValue<>("target", "id", Range.closed(1L, 100000L))));
+        assertThat(result.size(), is(2));
+        assertThat(result, hasItem("target_0"));
+        assertThat(result, hasItem("target_1"));
+    }
+    
+    @Test
+    public void assertUnboundedRange() {
+        Collection<String> result = createClosureShardingAlgorithm().doSharding(Arrays.asList("target_0", "target_1"), 
+                Collections.<ShardingValue<?>>singletonList(new ShardingValue<>("target", "id", Range.greaterThan(1))));
+        assertThat(result.size(), is(2));
     }
     
     @Test(expected = MissingMethodException.class)
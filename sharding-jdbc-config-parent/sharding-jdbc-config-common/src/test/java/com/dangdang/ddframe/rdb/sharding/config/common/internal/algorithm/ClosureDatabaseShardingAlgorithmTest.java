@@ -28,4 +28,9 @@ public final class ClosureDatabaseShardingAlgorithmTest extends AbstractClosureS
     protected ClosureShardingAlgorithm createErrorClosureShardingAlgorithm() {
         return new ClosureDatabaseShardingAlgorithm(WRONG_EXPRESSION, LOG_ROOT);
     }
+    
+    @Override
+    protected ClosureShardingAlgorithm createCompilableClosureShardingAlgorithm() {
+        return new ClosureDatabaseShardingAlgorithm(COMPILABLE_EXPRESSION, LOG_ROOT);
+    }
 }
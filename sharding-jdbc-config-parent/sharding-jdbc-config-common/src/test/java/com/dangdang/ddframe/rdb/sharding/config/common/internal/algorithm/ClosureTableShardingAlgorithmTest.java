@@ -28,4 +28,9 @@ public final class ClosureTableShardingAlgorithmTest extends AbstractClosureShar
     protected ClosureShardingAlgorithm createErrorClosureShardingAlgorithm() {
         return new ClosureTableShardingAlgorithm(WRONG_EXPRESSION, LOG_ROOT);
     }
+    
+    @Override
+    protected ClosureShardingAlgorithm createCompilableClosureShardingAlgorithm() {
+        return new ClosureTableShardingAlgorithm(COMPILABLE_EXPRESSION, LOG_ROOT);
+    }
 }
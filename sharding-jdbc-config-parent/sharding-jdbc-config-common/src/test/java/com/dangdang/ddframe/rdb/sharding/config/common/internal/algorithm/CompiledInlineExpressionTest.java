@@ -0,0 +1,124 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertCompileLiteral() {
+        assertThat(CompiledInlineExpression.compile("table_test").get().evaluate(Collections.<String, ShardingValueWrapper>emptyMap()), is("table_test"));
+    }
+    
+    @Test
+    public void assertCompileValue() {
+        assertThat(evaluate("t_order_${order_id}", "order_id", 10L), is("t_order_10"));
+        assertThat(evaluate("t_order_${ order_id.toString() }", "order_id", "abc"), is("t_order_abc"));
+    }
+    
+    @Test
+    public void assertCompileLongValue() {
+        assertThat(evaluate("t_order_${order_id.longValue()}", "order_id", "10"), is("t_order_10"));
+    }
+    
+    @Test
+    public void assertCompileModulo() {
+        assertThat(evaluate("t_order_${order_id.longValue() % 4}", "order_id", 10), is("t_order_2"));
+        assertThat(evaluate("t_order_${order_id.longValue() % 4}", "order_id", -10L), is("t_order_-2"));
+        assertThat(evaluate("data_source_${id.longValue() % 2 + 1}", "id", 11L), is("data_source_2"));
+    }
+    
+    @Test
+    public void assertCompileHashModulo() {
+        assertThat(evaluate("t_order_${order_id.toString().hashCode() % 4}", "order_id", "order"), is("t_order_" + "order".hashCode() % 4));
+        assertThat(evaluate("t_order_${Math.abs(order_id.toString().hashCode() % 4)}", "order_id", "order"), is("t_order_" + Math.abs("order".hashCode() % 4)));
+    }
+    
+    @Test
+    public void assertCompileSubstring() {
+        assertThat(evaluate("t_order_${order_id.toString().substring(4)}", "order_id", "201701"), is("t_order_01"));
+        assertThat(evaluate("t_order_${order_id.toString().substring(0, 4)}", "order_id", "201701"), is("t_order_2017"));
+    }
+    
+    @Test
+    public void assertCompileMultipleColumns() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_${user_id.longValue() % 2}_${order_id.longValue() % 4}").get();
+        assertThat(actual.evaluate(ImmutableMap.of("user_id", new ShardingValueWrapper(3), "order_id", new ShardingValueWrapper(6))), is("t_1_2"));
+        assertTrue(actual.isEvaluable(Arrays.asList("order_id", "user_id")));
+        assertFalse(actual.isEvaluable(Collections.singletonList("order_id")));
+    }
+    
+    @Test
+    public void assertCompileDateFormat() throws ParseException {
+        assertThat(evaluate("t_order_${create_time.toString('yyyyMM')}", "create_time", new SimpleDateFormat("yyyy-MM-dd").parse("2017-03-08")), is("t_order_201703"));
+    }
+    
+    @Test
+    public void assertGetModuloRangeValues() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_${order_id.longValue() % 2}_${order_id.longValue() % 3}").get();
+        assertThat(actual.getModuloRangeValues("order_id", 10L, 100000L, 1024).get().size(), is(6));
+        assertThat(actual.getModuloRangeValues("order_id", 10L, 12L, 1024).get().size(), is(3));
+        assertThat(actual.getModuloRangeValues("order_id", -100000L, 100000L, 1024).get().size(), is(12));
+        assertThat(actual.getModuloRangeValues("user_id", 10L, 100000L, 1024).get().size(), is(1));
+        assertFalse(actual.getModuloRangeValues("order_id", 10L, 100000L, 4).isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_${order_id}").get().getModuloRangeValues("order_id", 10L, 100000L, 1024).isPresent());
+    }
+    
+    @Test
+    public void assertGetDateRangeValues() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${create_time.toString('yyyyMM')}").get();
+        Set<Comparable> rangeValues = actual.getDateRangeValues("create_time", format.parse("2016-11-15 10:00:00"), format.parse("2017-02-01 00:00:00"), 1024).get();
+        Set<String> result = new LinkedHashSet<>();
+        for (Comparable each : rangeValues) {
+            result.add(actual.evaluate(Collections.singletonMap("create_time", new ShardingValueWrapper(each))));
+        }
+        assertThat(result, is((Set<String>) new LinkedHashSet<>(Arrays.asList("t_order_201611", "t_order_201612", "t_order_201701", "t_order_201702"))));
+        assertFalse(actual.getDateRangeValues("create_time", format.parse("2016-11-15 10:00:00"), format.parse("2017-02-01 00:00:00"), 3).isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${create_time.toString('EEE')}").get()
+                .getDateRangeValues("create_time", format.parse("2016-11-15 10:00:00"), format.parse("2017-02-01 00:00:00"), 1024).isPresent());
+    }
+    
+    @Test
+    public void assertNotCompile() {
+        assertFalse(CompiledInlineExpression.compile("target_${log.info(id.toString()); id.longValue() % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("target_${id.doubleValue() % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("target_${log}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("target_$id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("target_${id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("target_\\n${id}").isPresent());
+    }
+    
+    private String evaluate(final String expression, final String columnName, final Comparable<?> value) {
+        return CompiledInlineExpression.compile(expression).get().evaluate(Collections.singletonMap(columnName, new ShardingValueWrapper(value)));
+    }
+}
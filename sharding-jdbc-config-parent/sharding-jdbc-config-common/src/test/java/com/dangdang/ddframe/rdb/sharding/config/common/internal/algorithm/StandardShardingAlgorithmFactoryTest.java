@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.config.common.internal.algorithm;
+
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.ConsistentHashShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.HashModuloShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.ModuloShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.RangeShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.TimeIntervalShardingAlgorithm;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public final class StandardShardingAlgorithmFactoryTest {
+    
+    @Test
+    public void assertCreateModuloShardingAlgorithm() {
+        assertThat(StandardShardingAlgorithmFactory.createShardingAlgorithm("mod", null), instanceOf(ModuloShardingAlgorithm.class));
+        assertThat(StandardShardingAlgorithmFactory.createShardingAlgorithm("MOD", "shardingCount=4"), instanceOf(ModuloShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertCreateHashModuloShardingAlgorithm() {
+        assertThat(StandardShardingAlgorithmFactory.createShardingAlgorithm("HASH_MOD", ""), instanceOf(HashModuloShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertCreateRangeShardingAlgorithm() {
+        assertThat(StandardShardingAlgorithmFactory.createShardingAlgorithm("RANGE", "boundaries=1000, 2000"), instanceOf(RangeShardingAlgorithm.class));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCreateRangeShardingAlgorithmWithoutBoundaries() {
+        StandardShardingAlgorithmFactory.createShardingAlgorithm("RANGE", null);
+    }
+    
+    @Test
+    public void assertCreateTimeIntervalShardingAlgorithm() {
+        assertThat(StandardShardingAlgorithmFactory.createShardingAlgorithm("TIME_INTERVAL", "unit=month"), instanceOf(TimeIntervalShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertCreateConsistentHashShardingAlgorithm() {
+        assertThat(StandardShardingAlgorithmFactory.createShardingAlgorithm("CONSISTENT_HASH", "virtualNodeCount=64"), instanceOf(ConsistentHashShardingAlgorithm.class));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCreateUnsupportedShardingAlgorithm() {
+        StandardShardingAlgorithmFactory.createShardingAlgorithm("UNKNOWN", null);
+    }
+}
@@ -67,6 +67,7 @@ public class ShardingJdbcDataSourceBeanDefinitionParser extends AbstractBeanDefi
         parseDefaultDataSource(factory, shardingRuleElement);
         factory.addPropertyValue("tables", parseTableRulesConfig(shardingRuleElement));
         factory.addPropertyValue("bindingTables", parseBindingTablesConfig(shardingRuleElement));
+        parseBroadcastTables(factory, shardingRuleElement);
         factory.addPropertyValue("defaultDatabaseStrategy", parseDefaultDatabaseStrategyConfig(shardingRuleElement));
         factory.addPropertyValue("defaultTableStrategy", parseDefaultTableStrategyConfig(shardingRuleElement));
         parseKeyGenerator(factory, shardingRuleElement);
@@ -96,6 +97,13 @@ public class ShardingJdbcDataSourceBeanDefinitionParser extends AbstractBeanDefi
         }
     }
     
+    private void parseBroadcastTables(final BeanDefinitionBuilder factory, final Element element) {
+        String broadcastTables = element.getAttribute(ShardingJdbcDataSourceBeanDefinitionParserTag.BROADCAST_TABLES_ATTRIBUTE);
+        if (!Strings.isNullOrEmpty(broadcastTables)) {
+            factory.addPropertyValue("broadcastTables", broadcastTables);
+        }
+    }
+    
     private Map<String, BeanDefinition> parseTableRulesConfig(final Element element) {
         Element tableRulesElement = DomUtils.getChildElementByTagName(element, ShardingJdbcDataSourceBeanDefinitionParserTag.TABLE_RULES_TAG);
         List<Element> tableRuleElements = DomUtils.getChildElementsByTagName(tableRulesElement, ShardingJdbcDataSourceBeanDefinitionParserTag.TABLE_RULE_TAG);
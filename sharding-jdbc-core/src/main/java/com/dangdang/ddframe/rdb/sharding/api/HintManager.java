@@ -138,6 +138,14 @@ public final class HintManager implements AutoCloseable {
                 return new ShardingValue(logicTable, shardingColumn, Arrays.asList(values));
             case BETWEEN:
                 return new ShardingValue(logicTable, shardingColumn, Range.range(values[0], BoundType.CLOSED, values[1], BoundType.CLOSED));
+            case LESS_THAN:
+                return new ShardingValue(logicTable, shardingColumn, Range.lessThan(values[0]));
+            case LESS_THAN_OR_EQUAL:
+                return new ShardingValue(logicTable, shardingColumn, Range.atMost(values[0]));
+            case GREATER_THAN:
+                return new ShardingValue(logicTable, shardingColumn, Range.greaterThan(values[0]));
+            case GREATER_THAN_OR_EQUAL:
+                return new ShardingValue(logicTable, shardingColumn, Range.atLeast(values[0]));
             default:
                 throw new UnsupportedOperationException(operator.getExpression());
         }
@@ -31,8 +31,14 @@ import com.google.common.collect.Range;
  * 分片值.
  * 
  * <p>
- * 目前支持{@code =, IN, BETWEEN};
- * 不支持{@code , >, <=, >=, LIKE, NOT, NOT IN}.
+ * 目前支持{@code =, IN, BETWEEN, <, >, <=, >=};
+ * 不支持{@code LIKE, NOT, NOT IN}.
+ * </p>
+ * 
+ * <p>
+ * 比较运算符及同一分片键上的多个范围条件会合并为一个范围分片值.
+ * 只有实现{@code UnboundedRangeShardingAlgorithm}的分片算法才会接收开区间或无边界的范围, 需通过{@code hasLowerBound}和{@code lowerBoundType}等方法判断边界;
+ * 其他分片算法接收的范围分片值总是闭区间.
  * </p>
  * 
  * @author zhangliang
@@ -26,8 +26,13 @@ import com.dangdang.ddframe.rdb.sharding.keygen.DefaultKeyGenerator;
 import com.dangdang.ddframe.rdb.sharding.keygen.KeyGenerator;
 import com.dangdang.ddframe.rdb.sharding.keygen.KeyGeneratorFactory;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Column;
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.NondeterministicShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.ShardingStrategy;
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.TargetNameAwareShardingAlgorithm;
+import com.google.common.base.CharMatcher;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -37,11 +42,21 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 分库分表规则配置对象.
  * 
+ * <p>
+ * 构造时按逻辑表名称建立忽略大小写的表规则和绑定表规则索引.
+ * 广播表在每个数据源中都有完整的副本, 不配置表规则.
+ * </p>
+ * 
  * @author zhangliang
  */
 @Getter
@@ -53,6 +68,8 @@ public final class ShardingRule {
     
     private final Collection<BindingTableRule> bindingTableRules;
     
+    private final Collection<String> broadcastTables;
+    
     private final DatabaseShardingStrategy databaseShardingStrategy;
     
     private final TableShardingStrategy tableShardingStrategy;
@@ -63,6 +80,15 @@ public final class ShardingRule {
     @Getter(AccessLevel.NONE)
     private final KeyGenerator defaultGenerator;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> tableRuleMap = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> bindingTableRuleMap = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<String, TableRule> defaultDataSourceTableRuleMap = new ConcurrentHashMap<>();
+    
     /**
      * 全属性构造器.
      * 
@@ -82,6 +108,29 @@ public final class ShardingRule {
     public ShardingRule(
             final DataSourceRule dataSourceRule, final Collection<TableRule> tableRules, final Collection<BindingTableRule> bindingTableRules, 
             final DatabaseShardingStrategy databaseShardingStrategy, final TableShardingStrategy tableShardingStrategy, final KeyGenerator keyGenerator) {
+        this(dataSourceRule, tableRules, bindingTableRules, Collections.<String>emptyList(), databaseShardingStrategy, tableShardingStrategy, keyGenerator);
+    }
+    
+    /**
+     * 全属性构造器.
+     * 
+     * <p>用于Spring非命名空间的配置.</p>
+     * 
+     * <p>未来将改为private权限, 不在对外公开, 不建议使用非Spring命名空间的配置.</p>
+     * 
+     * @deprecated 未来将改为private权限, 不在对外公开, 不建议使用非Spring命名空间的配置.
+     * @param dataSourceRule 数据源配置规则
+     * @param tableRules 表配置规则
+     * @param bindingTableRules 绑定表配置规则
+     * @param broadcastTables 广播表名称集合
+     * @param databaseShardingStrategy 默认分库策略
+     * @param tableShardingStrategy 默认分表策略
+     * @param keyGenerator 默认主键生成器
+     */
+    @Deprecated
+    public ShardingRule(
+            final DataSourceRule dataSourceRule, final Collection<TableRule> tableRules, final Collection<BindingTableRule> bindingTableRules, final Collection<String> broadcastTables, 
+            final DatabaseShardingStrategy databaseShardingStrategy, final TableShardingStrategy tableShardingStrategy, final KeyGenerator keyGenerator) {
         Preconditions.checkNotNull(dataSourceRule);
         this.dataSourceRule = dataSourceRule;
         this.tableRules = null == tableRules ? Collections.<TableRule>emptyList() : tableRules;
@@ -92,6 +141,42 @@ public final class ShardingRule {
                 Collections.<String>emptyList(), new NoneTableShardingAlgorithm()) : tableShardingStrategy;
         this.keyGenerator = keyGenerator;
         defaultGenerator = KeyGeneratorFactory.createKeyGenerator(DefaultKeyGenerator.class);
+        for (TableRule each : this.tableRules) {
+            putIgnoreCase(tableRuleMap, each.getLogicTable(), each);
+        }
+        for (BindingTableRule each : this.bindingTableRules) {
+            for (TableRule tableRule : each.getTableRules()) {
+                putIgnoreCase(bindingTableRuleMap, tableRule.getLogicTable(), each);
+            }
+        }
+        this.broadcastTables = createBroadcastTables(broadcastTables);
+    }
+    
+    private Collection<String> createBroadcastTables(final Collection<String> broadcastTables) {
+        if (null == broadcastTables || broadcastTables.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : broadcastTables) {
+            Preconditions.checkArgument(!tableRuleMap.containsKey(each) && !tableRuleMap.containsKey(each.toLowerCase(Locale.ENGLISH)), "Broadcast table '%s' can not have table rule.", each);
+            result.add(each);
+        }
+        return Collections.unmodifiableCollection(result);
+    }
+    
+    private static <T> void putIgnoreCase(final Map<String, T> map, final String key, final T value) {
+        if (!map.containsKey(key)) {
+            map.put(key, value);
+        }
+        String lowerCaseKey = key.toLowerCase(Locale.ENGLISH);
+        if (!map.containsKey(lowerCaseKey)) {
+            map.put(lowerCaseKey, value);
+        }
+    }
+    
+    private static <T> T getIgnoreCase(final Map<String, T> map, final String key) {
+        T result = map.get(key);
+        return null == result && null != key ? map.get(key.toLowerCase(Locale.ENGLISH)) : result;
     }
     
     /**
@@ -110,12 +195,7 @@ public final class ShardingRule {
      * @return 该逻辑表的分片规则
      */
     public Optional<TableRule> tryFindTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(getIgnoreCase(tableRuleMap, logicTableName));
     }
     
     /**
@@ -130,11 +210,21 @@ public final class ShardingRule {
             return tableRule.get();
         }
         if (dataSourceRule.getDefaultDataSource().isPresent()) {
-            return createTableRuleWithDefaultDataSource(logicTableName, dataSourceRule);
+            return getTableRuleWithDefaultDataSource(logicTableName);
         }
         throw new ShardingJdbcException("Cannot find table rule and default data source with logic table: '%s'", logicTableName);
     }
     
+    private TableRule getTableRuleWithDefaultDataSource(final String logicTableName) {
+        TableRule result = defaultDataSourceTableRuleMap.get(logicTableName);
+        if (null != result) {
+            return result;
+        }
+        result = createTableRuleWithDefaultDataSource(logicTableName, dataSourceRule);
+        TableRule existed = defaultDataSourceTableRuleMap.putIfAbsent(logicTableName, result);
+        return null == existed ? result : existed;
+    }
+    
     private TableRule createTableRuleWithDefaultDataSource(final String logicTableName, final DataSourceRule defaultDataSourceRule) {
         Map<String, DataSource> defaultDataSourceMap = new HashMap<>(1);
         defaultDataSourceMap.put(defaultDataSourceRule.getDefaultDataSourceName(), defaultDataSourceRule.getDefaultDataSource().get());
@@ -172,6 +262,31 @@ public final class ShardingRule {
         return null == tableRule.getTableShardingStrategy() ? tableShardingStrategy : tableRule.getTableShardingStrategy();
     }
     
+    /**
+     * 判断逻辑表名称集合的分片结果是否确定.
+     * 
+     * <p>
+     * 任一逻辑表的分库或分表算法为非确定性分片算法时, 分片结果不确定.
+     * </p>
+     * 
+     * @param logicTables 逻辑表名称集合
+     * @return 分片结果是否确定
+     */
+    public boolean isDeterministicSharding(final Collection<String> logicTables) {
+        for (String each : logicTables) {
+            Optional<TableRule> tableRule = tryFindTableRule(each);
+            if (tableRule.isPresent() && (isNondeterministic(getDatabaseShardingStrategy(tableRule.get())) || isNondeterministic(getTableShardingStrategy(tableRule.get())))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isNondeterministic(final ShardingStrategy shardingStrategy) {
+        return null != shardingStrategy && shardingStrategy.getShardingAlgorithm() instanceof NondeterministicShardingAlgorithm
+                && ((NondeterministicShardingAlgorithm) shardingStrategy.getShardingAlgorithm()).isNondeterministic();
+    }
+    
     /**
      * 判断逻辑表名称集合是否全部属于Binding表.
      *
@@ -219,12 +334,54 @@ public final class ShardingRule {
      * @return binding表配置的逻辑表名称集合
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTable) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTable)) {
-                return Optional.of(each);
+        return Optional.fromNullable(getIgnoreCase(bindingTableRuleMap, logicTable));
+    }
+    
+    /**
+     * 判断是否为广播表.
+     * 
+     * @param logicTableName 逻辑表名称
+     * @return 是否为广播表
+     */
+    public boolean isBroadcastTable(final String logicTableName) {
+        return broadcastTables.contains(logicTableName);
+    }
+    
+    /**
+     * 判断逻辑表名称集合是否全部为广播表.
+     * 
+     * @param logicTables 逻辑表名称集合
+     * @return 是否全部为广播表
+     */
+    public boolean isAllBroadcastTables(final Collection<String> logicTables) {
+        if (logicTables.isEmpty()) {
+            return false;
+        }
+        for (String each : logicTables) {
+            if (!isBroadcastTable(each)) {
+                return false;
             }
         }
-        return Optional.absent();
+        return true;
+    }
+    
+    /**
+     * 过滤掉广播表名称.
+     * 
+     * @param logicTables 逻辑表名称集合
+     * @return 不包含广播表的逻辑表名称集合
+     */
+    public Collection<String> excludeBroadcastTables(final Collection<String> logicTables) {
+        if (broadcastTables.isEmpty()) {
+            return logicTables;
+        }
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : logicTables) {
+            if (!isBroadcastTable(each)) {
+                result.add(each);
+            }
+        }
+        return result;
     }
     
     /**
@@ -237,18 +394,83 @@ public final class ShardingRule {
         if (databaseShardingStrategy.getShardingColumns().contains(column.getName()) || tableShardingStrategy.getShardingColumns().contains(column.getName())) {
             return true;
         }
-        for (TableRule each : tableRules) {
-            if (!each.getLogicTable().equalsIgnoreCase(column.getTableName())) {
-                continue;
-            }
-            if (null != each.getDatabaseShardingStrategy() && each.getDatabaseShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
-            }
-            if (null != each.getTableShardingStrategy() && each.getTableShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
+        Optional<TableRule> tableRule = tryFindTableRule(column.getTableName());
+        if (!tableRule.isPresent()) {
+            return false;
+        }
+        if (null != tableRule.get().getDatabaseShardingStrategy() && tableRule.get().getDatabaseShardingStrategy().getShardingColumns().contains(column.getName())) {
+            return true;
+        }
+        return null != tableRule.get().getTableShardingStrategy() && tableRule.get().getTableShardingStrategy().getShardingColumns().contains(column.getName());
+    }
+    
+    /**
+     * 判断等值关联的两列所属的表是否为同位分片表.
+     * 
+     * <p>
+     * 同位分片表的真实表数量和所属数据源顺序相同, 且相同序号的真实表名称后缀相同.
+     * 分库和分表策略均以关联列为唯一分片列且分片算法相等, 只有唯一目标的维度无需比较.
+     * 分片算法需只根据目标名称后缀选择目标, 根据目标完整名称分片的算法不视为同位分片.
+     * 关联列值相等的数据位于序号相同的真实表中, 与Binding表相同, 真实表按配置顺序一一对应.
+     * </p>
+     * 
+     * @param leftColumn 左侧关联列
+     * @param rightColumn 右侧关联列
+     * @return 是否为同位分片表
+     */
+    public boolean isColocatedTables(final Column leftColumn, final Column rightColumn) {
+        if (leftColumn.getTableName().equalsIgnoreCase(rightColumn.getTableName())) {
+            return false;
+        }
+        Optional<TableRule> leftTableRule = tryFindTableRule(leftColumn.getTableName());
+        Optional<TableRule> rightTableRule = tryFindTableRule(rightColumn.getTableName());
+        if (!leftTableRule.isPresent() || !rightTableRule.isPresent() || !isSameDataNodeLayout(leftTableRule.get(), rightTableRule.get())) {
+            return false;
+        }
+        int dataSourceSize = leftTableRule.get().getActualDatasourceNames().size();
+        boolean isDatabaseColocated = 1 == dataSourceSize 
+                || isColocatedStrategy(getDatabaseShardingStrategy(leftTableRule.get()), leftColumn, getDatabaseShardingStrategy(rightTableRule.get()), rightColumn);
+        boolean isTableColocated = dataSourceSize == leftTableRule.get().getActualTables().size() 
+                || isColocatedStrategy(getTableShardingStrategy(leftTableRule.get()), leftColumn, getTableShardingStrategy(rightTableRule.get()), rightColumn);
+        return isDatabaseColocated && isTableColocated;
+    }
+    
+    private boolean isSameDataNodeLayout(final TableRule leftTableRule, final TableRule rightTableRule) {
+        if (leftTableRule.isDynamic() || rightTableRule.isDynamic() || leftTableRule.getActualTables().size() != rightTableRule.getActualTables().size()) {
+            return false;
+        }
+        List<String> leftSuffixes = getActualTableSuffixes(leftTableRule);
+        List<String> rightSuffixes = getActualTableSuffixes(rightTableRule);
+        for (int i = 0; i < leftTableRule.getActualTables().size(); i++) {
+            if (!leftTableRule.getActualTables().get(i).getDataSourceName().equals(rightTableRule.getActualTables().get(i).getDataSourceName())
+                    || !leftSuffixes.get(i).equals(rightSuffixes.get(i))) {
+                return false;
             }
         }
-        return false;
+        return true;
+    }
+    
+    private List<String> getActualTableSuffixes(final TableRule tableRule) {
+        String prefix = null;
+        for (DataNode each : tableRule.getActualTables()) {
+            prefix = null == prefix ? each.getTableName() : Strings.commonPrefix(prefix, each.getTableName());
+        }
+        prefix = null == prefix ? "" : CharMatcher.DIGIT.trimTrailingFrom(prefix);
+        List<String> result = new ArrayList<>(tableRule.getActualTables().size());
+        for (DataNode each : tableRule.getActualTables()) {
+            result.add(each.getTableName().substring(prefix.length()));
+        }
+        return result;
+    }
+    
+    private boolean isColocatedStrategy(final ShardingStrategy leftStrategy, final Column leftColumn, final ShardingStrategy rightStrategy, final Column rightColumn) {
+        return isOnlyShardingColumn(leftStrategy, leftColumn) && isOnlyShardingColumn(rightStrategy, rightColumn) 
+                && !(leftStrategy.getShardingAlgorithm() instanceof TargetNameAwareShardingAlgorithm)
+                && leftStrategy.getShardingAlgorithm().equals(rightStrategy.getShardingAlgorithm());
+    }
+    
+    private boolean isOnlyShardingColumn(final ShardingStrategy shardingStrategy, final Column column) {
+        return 1 == shardingStrategy.getShardingColumns().size() && shardingStrategy.getShardingColumns().contains(column.getName());
     }
     
     /**
@@ -258,12 +480,8 @@ public final class ShardingRule {
      * @return 自增列名称
      */
     public Optional<String> getGenerateKeyColumn(final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName)) {
-                return Optional.fromNullable(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        Optional<TableRule> tableRule = tryFindTableRule(tableName);
+        return tableRule.isPresent() ? Optional.fromNullable(tableRule.get().getGenerateKeyColumn()) : Optional.<String>absent();
     }
     
     /**
@@ -298,6 +516,8 @@ public final class ShardingRule {
         
         private Collection<BindingTableRule> bindingTableRules;
         
+        private Collection<String> broadcastTables;
+        
         private DatabaseShardingStrategy databaseShardingStrategy;
         
         private TableShardingStrategy tableShardingStrategy;
@@ -337,6 +557,17 @@ public final class ShardingRule {
             return this;
         }
         
+        /**
+         * 构建广播表名称集合.
+         *
+         * @param broadcastTables 广播表名称集合
+         * @return 分片规则配置对象构建器
+         */
+        public ShardingRuleBuilder broadcastTables(final Collection<String> broadcastTables) {
+            this.broadcastTables = broadcastTables;
+            return this;
+        }
+        
         /**
          * 构建默认分库策略.
          *
@@ -380,7 +611,7 @@ public final class ShardingRule {
             if (null != keyGeneratorClass) {
                 keyGenerator = KeyGeneratorFactory.createKeyGenerator(keyGeneratorClass);
             }
-            return new ShardingRule(dataSourceRule, tableRules, bindingTableRules, databaseShardingStrategy, tableShardingStrategy, keyGenerator);
+            return new ShardingRule(dataSourceRule, tableRules, bindingTableRules, broadcastTables, databaseShardingStrategy, tableShardingStrategy, keyGenerator);
         }
     }
 }
@@ -22,23 +22,38 @@ import com.dangdang.ddframe.rdb.sharding.api.strategy.table.TableShardingStrateg
 import com.dangdang.ddframe.rdb.sharding.keygen.KeyGenerator;
 import com.dangdang.ddframe.rdb.sharding.keygen.KeyGeneratorFactory;
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 表规则配置对象.
  * 
+ * <p>
+ * 构造时预先建立数据源与真实表的索引, 路由时无需遍历全部真实数据单元.
+ * 与分片结果的比较相同, 索引查找数据源和真实表名称时忽略大小写.
+ * 多个数据源的真实表名称集合按数据源组合缓存, 相同数据源组合总是返回同一集合实例.
+ * </p>
+ * 
  * @author zhangliang
  */
 @Getter
-@ToString
+@ToString(exclude = {"actualDataSourceNames", "actualTableNamesMap", "actualTableIndexMap", "routingDataNodes", "routingDataNodeIndexMap", "multipleDataSourcesActualTableNames"})
 public final class TableRule {
     
     private final String logicTable;
@@ -55,6 +70,24 @@ public final class TableRule {
     
     private final KeyGenerator keyGenerator;
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> actualDataSourceNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> actualTableNamesMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<String, Integer>> actualTableIndexMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final List<DataNode> routingDataNodes;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<String, Integer>> routingDataNodeIndexMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<BitSet, Collection<String>> multipleDataSourcesActualTableNames = new ConcurrentHashMap<>();
+    
     /**
      * 全属性构造器.
      *
@@ -93,6 +126,68 @@ public final class TableRule {
         }
         this.generateKeyColumn = generateKeyColumn;
         this.keyGenerator = keyGenerator;
+        actualTableIndexMap = createActualTableIndexMap();
+        actualTableNamesMap = createActualTableNamesMap();
+        actualDataSourceNames = createActualDataSourceNames();
+        routingDataNodes = dynamic ? Collections.<DataNode>emptyList() : createRoutingDataNodes();
+        routingDataNodeIndexMap = createRoutingDataNodeIndexMap();
+    }
+    
+    private Map<String, Map<String, Integer>> createActualTableIndexMap() {
+        Map<String, Map<String, Integer>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        int index = 0;
+        for (DataNode each : actualTables) {
+            if (!result.containsKey(each.getDataSourceName())) {
+                result.put(each.getDataSourceName(), new TreeMap<String, Integer>(String.CASE_INSENSITIVE_ORDER));
+            }
+            Map<String, Integer> tableIndexMap = result.get(each.getDataSourceName());
+            if (!tableIndexMap.containsKey(each.getTableName())) {
+                tableIndexMap.put(each.getTableName(), index);
+            }
+            index++;
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<String>> createActualTableNamesMap() {
+        Map<String, Collection<String>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (DataNode each : actualTables) {
+            if (!result.containsKey(each.getDataSourceName())) {
+                result.put(each.getDataSourceName(), new LinkedHashSet<String>());
+            }
+            result.get(each.getDataSourceName()).add(each.getTableName());
+        }
+        for (Entry<String, Collection<String>> entry : result.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet((Set<String>) entry.getValue()));
+        }
+        return result;
+    }
+    
+    private Collection<String> createActualDataSourceNames() {
+        Set<String> result = new LinkedHashSet<>(actualTableIndexMap.size(), 1);
+        for (DataNode each : actualTables) {
+            result.add(each.getDataSourceName());
+        }
+        return Collections.unmodifiableSet(result);
+    }
+    
+    private List<DataNode> createRoutingDataNodes() {
+        return Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(actualTables)));
+    }
+    
+    private Map<String, Map<String, Integer>> createRoutingDataNodeIndexMap() {
+        Map<String, Map<String, Integer>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < routingDataNodes.size(); i++) {
+            DataNode dataNode = routingDataNodes.get(i);
+            if (!result.containsKey(dataNode.getDataSourceName())) {
+                result.put(dataNode.getDataSourceName(), new TreeMap<String, Integer>(String.CASE_INSENSITIVE_ORDER));
+            }
+            Map<String, Integer> tableIndexMap = result.get(dataNode.getDataSourceName());
+            if (!tableIndexMap.containsKey(dataNode.getTableName())) {
+                tableIndexMap.put(dataNode.getTableName(), i);
+            }
+        }
+        return result;
     }
     
     /**
@@ -161,53 +256,134 @@ public final class TableRule {
     }
     
     private Collection<DataNode> getStaticDataNodes(final Collection<String> targetDataSources, final Collection<String> targetTables) {
-        Collection<DataNode> result = new LinkedHashSet<>(actualTables.size());
-        for (DataNode each : actualTables) {
-            if (targetDataSources.contains(each.getDataSourceName()) && targetTables.contains(each.getTableName())) {
-                result.add(each);
+        Collection<DataNode> result = new LinkedHashSet<>(targetDataSources.size() * targetTables.size());
+        for (String targetDataSource : targetDataSources) {
+            Map<String, Integer> tableIndexMap = actualTableIndexMap.get(targetDataSource);
+            if (null == tableIndexMap) {
+                continue;
+            }
+            for (String targetTable : targetTables) {
+                Integer index = tableIndexMap.get(targetTable);
+                if (null != index) {
+                    result.add(actualTables.get(index));
+                }
             }
         }
         return result;
     }
     
     /**
-     * 获取真实数据源.
+     * 根据数据源和真实表名称获取路由至的真实数据单元序号.
+     * 
+     * <p>
+     * 序号对应按配置顺序排列并去重的真实数据单元, 多组路由结果可以按位合并, 无需创建真实数据单元集合.
+     * 仅适用于静态表.
+     * </p>
      *
-     * @return 真实表名称
+     * @param targetDataSources 数据源名称集合
+     * @param targetTables 真实表名称集合
+     * @return 真实数据单元序号的位图
      */
-    public Collection<String> getActualDatasourceNames() {
-        Collection<String> result = new LinkedHashSet<>(actualTables.size());
-        for (DataNode each : actualTables) {
-            result.add(each.getDataSourceName());
+    public BitSet getRoutingDataNodeIndexes(final Collection<String> targetDataSources, final Collection<String> targetTables) {
+        Preconditions.checkState(!dynamic, "Dynamic table cannot route by data node indexes.");
+        BitSet result = new BitSet(routingDataNodes.size());
+        for (String targetDataSource : targetDataSources) {
+            Map<String, Integer> tableIndexMap = routingDataNodeIndexMap.get(targetDataSource);
+            if (null == tableIndexMap) {
+                continue;
+            }
+            for (String targetTable : targetTables) {
+                Integer index = tableIndexMap.get(targetTable);
+                if (null != index) {
+                    result.set(index);
+                }
+            }
         }
         return result;
     }
     
+    /**
+     * 根据路由序号获取真实数据单元.
+     * 
+     * @param routingIndex 由{@link #getRoutingDataNodeIndexes(Collection, Collection)}获取的真实数据单元序号
+     * @return 真实数据单元
+     */
+    public DataNode getRoutingDataNode(final int routingIndex) {
+        return routingDataNodes.get(routingIndex);
+    }
+    
+    /**
+     * 获取真实数据源.
+     * 
+     * <p>
+     * 返回的集合不可修改.
+     * </p>
+     *
+     * @return 真实数据源名称
+     */
+    public Collection<String> getActualDatasourceNames() {
+        return actualDataSourceNames;
+    }
+    
     /**
      * 根据数据源名称过滤获取真实表名称.
+     * 
+     * <p>
+     * 返回的集合不可修改.
+     * </p>
      *
      * @param targetDataSources 数据源名称
      * @return 真实表名称
      */
     public Collection<String> getActualTableNames(final Collection<String> targetDataSources) {
-        Collection<String> result = new LinkedHashSet<>(actualTables.size());
-        for (DataNode each : actualTables) {
-            if (targetDataSources.contains(each.getDataSourceName())) {
-                result.add(each.getTableName());
+        if (1 == targetDataSources.size()) {
+            Collection<String> result = actualTableNamesMap.get(targetDataSources.iterator().next());
+            return null == result ? Collections.<String>emptySet() : result;
+        }
+        Collection<String> dataSources = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        dataSources.addAll(targetDataSources);
+        BitSet dataSourceIndexes = new BitSet(actualDataSourceNames.size());
+        int index = 0;
+        for (String each : actualDataSourceNames) {
+            if (dataSources.contains(each)) {
+                dataSourceIndexes.set(index);
+            }
+            index++;
+        }
+        Collection<String> result = multipleDataSourcesActualTableNames.get(dataSourceIndexes);
+        if (null == result) {
+            result = createActualTableNames(dataSourceIndexes);
+            Collection<String> existed = multipleDataSourcesActualTableNames.putIfAbsent(dataSourceIndexes, result);
+            if (null != existed) {
+                result = existed;
             }
         }
         return result;
     }
     
-    int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        int result = 0;
-        for (DataNode each : actualTables) {
-            if (each.getDataSourceName().equalsIgnoreCase(dataSourceName) && each.getTableName().equalsIgnoreCase(actualTableName)) {
-                return result;
+    private Collection<String> createActualTableNames(final BitSet dataSourceIndexes) {
+        Set<String> result = new LinkedHashSet<>();
+        int index = 0;
+        for (String each : actualDataSourceNames) {
+            if (dataSourceIndexes.get(index)) {
+                result.addAll(actualTableNamesMap.get(each));
             }
-            result++;
+            index++;
         }
-        return -1;
+        return Collections.unmodifiableSet(result);
+    }
+    
+    /**
+     * 查找真实表在表规则中的序号.
+     * 
+     * @param dataSourceName 数据源名称
+     * @param actualTableName 真实表名称
+     * @return 真实表序号, 找不到时返回-1
+     */
+    public int findActualTableIndex(final String dataSourceName, final String actualTableName) {
+        Map<String, Integer> tableIndexMap = actualTableIndexMap.get(dataSourceName);
+        Integer result = null == tableIndexMap ? null : tableIndexMap.get(actualTableName);
+        return null == result ? -1 : result;
     }
     
     /**
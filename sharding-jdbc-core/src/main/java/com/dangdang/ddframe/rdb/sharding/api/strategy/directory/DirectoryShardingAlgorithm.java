@@ -0,0 +1,184 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.directory;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.database.SingleKeyDatabaseShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.AbstractStandardShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.table.SingleKeyTableShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.NondeterministicShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.UnboundedRangeShardingAlgorithm;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 目录分片算法.
+ * 
+ * <p>
+ * 通过分片目录查找分片值对应的目标, 查找结果缓存在容量有限且定时过期的本地缓存中, 未找到目标的分片值同样会被缓存.
+ * IN查询中未命中缓存的分片值通过一次批量查找获取.
+ * 未找到目标的分片值由后备分片算法计算目标, 未配置后备分片算法时抛出异常.
+ * 范围查询无法通过目录定位, 路由至全部目标.
+ * 目录内容可能变化, 使用此算法的表不缓存路由结果.
+ * </p>
+ * 
+ * @param <T> 片键类型
+ * 
+ * @author zhangliang
+ */
+public final class DirectoryShardingAlgorithm<T extends Comparable<?>> implements SingleKeyDatabaseShardingAlgorithm<T>, SingleKeyTableShardingAlgorithm<T>,
+        UnboundedRangeShardingAlgorithm, NondeterministicShardingAlgorithm {
+    
+    /**
+     * 默认缓存容量.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000L;
+    
+    /**
+     * 默认缓存过期秒数.
+     */
+    public static final long DEFAULT_EXPIRE_SECONDS = 300L;
+    
+    private final ShardingDirectory directory;
+    
+    private final Optional<AbstractStandardShardingAlgorithm<T, ?>> fallbackShardingAlgorithm;
+    
+    private final Cache<String, String> targets;
+    
+    private final Cache<String, Boolean> missingKeys;
+    
+    public DirectoryShardingAlgorithm(final ShardingDirectory directory) {
+        this(directory, DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_SECONDS, DEFAULT_EXPIRE_SECONDS, null);
+    }
+    
+    /**
+     * 创建目录分片算法.
+     * 
+     * @param directory 分片目录
+     * @param maximumSize 缓存容量
+     * @param expireSeconds 已找到目标的分片值缓存过期秒数
+     * @param missingExpireSeconds 未找到目标的分片值缓存过期秒数
+     * @param fallbackShardingAlgorithm 后备分片算法, 可以为空
+     */
+    public DirectoryShardingAlgorithm(final ShardingDirectory directory, final long maximumSize, final long expireSeconds, final long missingExpireSeconds, 
+                                      final AbstractStandardShardingAlgorithm<T, ?> fallbackShardingAlgorithm) {
+        Preconditions.checkNotNull(directory);
+        this.directory = directory;
+        this.fallbackShardingAlgorithm = Optional.<AbstractStandardShardingAlgorithm<T, ?>>fromNullable(fallbackShardingAlgorithm);
+        targets = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireSeconds, TimeUnit.SECONDS).build();
+        missingKeys = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(missingExpireSeconds, TimeUnit.SECONDS).build();
+    }
+    
+    @Override
+    public String doEqualSharding(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue) {
+        return getTarget(availableTargetNames, shardingValue, shardingValue.getValue(), lookup(Collections.singleton(shardingValue.getValue())));
+    }
+    
+    @Override
+    public Collection<String> doInSharding(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue) {
+        Map<String, Optional<String>> foundTargets = lookup(shardingValue.getValues());
+        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
+        for (T each : shardingValue.getValues()) {
+            result.add(getTarget(availableTargetNames, shardingValue, each, foundTargets));
+        }
+        return result;
+    }
+    
+    @Override
+    public Collection<String> doBetweenSharding(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue) {
+        return new LinkedHashSet<>(availableTargetNames);
+    }
+    
+    @Override
+    public boolean isNondeterministic() {
+        return true;
+    }
+    
+    /**
+     * 使分片值的缓存失效.
+     * 
+     * <p>
+     * 迁移分片值的目标后调用, 使新目标立即生效.
+     * </p>
+     * 
+     * @param value 分片值
+     */
+    public void invalidate(final T value) {
+        String key = value.toString();
+        targets.invalidate(key);
+        missingKeys.invalidate(key);
+    }
+    
+    private Map<String, Optional<String>> lookup(final Collection<T> values) {
+        Map<String, Optional<String>> result = new HashMap<>(values.size());
+        Map<String, T> misses = new LinkedHashMap<>();
+        for (T each : values) {
+            String key = each.toString();
+            if (result.containsKey(key) || misses.containsKey(key)) {
+                continue;
+            }
+            String target = targets.getIfPresent(key);
+            if (null != target) {
+                result.put(key, Optional.of(target));
+            } else if (null != missingKeys.getIfPresent(key)) {
+                result.put(key, Optional.<String>absent());
+            } else {
+                misses.put(key, each);
+            }
+        }
+        if (!misses.isEmpty()) {
+            Map<T, String> loadedTargets = directory.lookup(misses.values());
+            for (Entry<String, T> entry : misses.entrySet()) {
+                String target = loadedTargets.get(entry.getValue());
+                if (null == target) {
+                    missingKeys.put(entry.getKey(), Boolean.TRUE);
+                } else {
+                    targets.put(entry.getKey(), target);
+                }
+                result.put(entry.getKey(), Optional.fromNullable(target));
+            }
+        }
+        return result;
+    }
+    
+    private String getTarget(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue, final T value, final Map<String, Optional<String>> foundTargets) {
+        Optional<String> target = foundTargets.get(value.toString());
+        if (target.isPresent()) {
+            if (!availableTargetNames.contains(target.get())) {
+                throw new ShardingJdbcException("Directory target '%s' of sharding value '%s' is not in available targets '%s'.", target.get(), value, availableTargetNames);
+            }
+            return target.get();
+        }
+        if (!fallbackShardingAlgorithm.isPresent()) {
+            throw new ShardingJdbcException("Can not find directory target for sharding value '%s'.", value);
+        }
+        return fallbackShardingAlgorithm.get().doEqualSharding(availableTargetNames, new ShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), value));
+    }
+}
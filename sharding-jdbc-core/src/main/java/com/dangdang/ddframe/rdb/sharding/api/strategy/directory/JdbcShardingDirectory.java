@@ -0,0 +1,116 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.directory;
+
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Joiner;
+import com.google.common.collect.Iterables;
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于数据库映射表的分片目录.
+ * 
+ * <p>
+ * 映射表的键列保存分片值, 目标列保存目标名称. 批量查找时使用IN条件, 每批最多查找{@value #MAX_BATCH_SIZE}个分片值.
+ * 键列读出的值与查找的分片值按值匹配, 数值忽略末尾的零, 日期比较时间戳, 字符串忽略末尾空格.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class JdbcShardingDirectory implements ShardingDirectory {
+    
+    /**
+     * 每批查找的最大分片值数量.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+    
+    private final DataSource dataSource;
+    
+    private final String tableName;
+    
+    private final String keyColumnName;
+    
+    private final String targetColumnName;
+    
+    @Override
+    public <T extends Comparable<?>> Map<T, String> lookup(final Collection<T> shardingValues) {
+        if (shardingValues.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<T, String> result = new HashMap<>(shardingValues.size());
+        try (Connection connection = dataSource.getConnection()) {
+            for (List<T> each : Iterables.partition(shardingValues, MAX_BATCH_SIZE)) {
+                lookup(connection, each, result);
+            }
+        } catch (final SQLException ex) {
+            throw new ShardingJdbcException(ex);
+        }
+        return result;
+    }
+    
+    private <T extends Comparable<?>> void lookup(final Connection connection, final List<T> shardingValues, final Map<T, String> result) throws SQLException {
+        Map<String, T> requestedValues = new HashMap<>(shardingValues.size(), 1);
+        for (T each : shardingValues) {
+            requestedValues.put(getMatchingKey(each), each);
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getLookupSQL(shardingValues.size()))) {
+            int index = 1;
+            for (T each : shardingValues) {
+                preparedStatement.setObject(index++, each);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    T requestedValue = requestedValues.get(getMatchingKey(resultSet.getObject(1)));
+                    if (null != requestedValue) {
+                        result.put(requestedValue, resultSet.getString(2));
+                    }
+                }
+            }
+        }
+    }
+    
+    private String getMatchingKey(final Object value) {
+        if (value instanceof Number) {
+            return new BigDecimal(value.toString()).stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Date) {
+            return String.valueOf(((Date) value).getTime());
+        }
+        return CharMatcher.WHITESPACE.trimTrailingFrom(String.valueOf(value));
+    }
+    
+    private String getLookupSQL(final int parameterCount) {
+        return String.format("SELECT %s, %s FROM %s WHERE %s IN (%s)", 
+                keyColumnName, targetColumnName, tableName, keyColumnName, Joiner.on(", ").join(Collections.nCopies(parameterCount, "?")));
+    }
+}
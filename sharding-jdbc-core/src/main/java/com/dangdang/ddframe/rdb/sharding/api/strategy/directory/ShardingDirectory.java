@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.directory;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 分片目录.
+ * 
+ * <p>
+ * 保存分片值与目标的映射关系, 用于按数据而非计算规则决定分片位置.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public interface ShardingDirectory {
+    
+    /**
+     * 批量查找分片值对应的目标.
+     * 
+     * @param shardingValues 分片值集合
+     * @param <T> 片键类型
+     * @return 以查找的分片值为键, 目标名称为值的映射, 不包含未找到目标的分片值
+     */
+    <T extends Comparable<?>> Map<T, String> lookup(Collection<T> shardingValues);
+}
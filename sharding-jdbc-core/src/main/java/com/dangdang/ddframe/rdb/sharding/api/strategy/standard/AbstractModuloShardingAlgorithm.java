@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import lombok.EqualsAndHashCode;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * 取模类分片算法基类.
+ * 
+ * <p>
+ * 目标名称以数字后缀作为分片序号, 如{@code t_order_0}, {@code t_order_1}.
+ * 未指定分片数量时, 分片数量为可用目标的最大分片序号加一.
+ * </p>
+ * 
+ * @param <T> 片键类型
+ * 
+ * @author zhangliang
+ */
+@EqualsAndHashCode(callSuper = false)
+public abstract class AbstractModuloShardingAlgorithm<T extends Comparable<?>> extends AbstractStandardShardingAlgorithm<T, String[]> {
+    
+    private final int shardingCount;
+    
+    protected AbstractModuloShardingAlgorithm(final int shardingCount) {
+        Preconditions.checkArgument(shardingCount >= 0, "Sharding count must not be negative.");
+        this.shardingCount = shardingCount;
+    }
+    
+    @Override
+    protected final String[] createTargetIndex(final Collection<String> availableTargetNames) {
+        return createNumericSuffixIndex(availableTargetNames);
+    }
+    
+    @Override
+    protected final Optional<String> findTarget(final String[] targetIndex, final T value) {
+        int shardingCount = getShardingCount(targetIndex);
+        if (0 == shardingCount) {
+            return Optional.absent();
+        }
+        int suffix = getShardingSuffix(value, shardingCount);
+        return suffix < targetIndex.length ? Optional.fromNullable(targetIndex[suffix]) : Optional.<String>absent();
+    }
+    
+    @Override
+    protected final Collection<String> findTargets(final String[] targetIndex, final Collection<String> availableTargetNames, final Range<T> range) {
+        Optional<Long> rangeSize = getRangeSize(range);
+        if (!rangeSize.isPresent() || rangeSize.get() >= getShardingCount(targetIndex)) {
+            return getAllTargets(targetIndex);
+        }
+        Collection<String> result = new LinkedHashSet<>(rangeSize.get().intValue());
+        for (long i = getLowerValue(range); i <= getUpperValue(range); i++) {
+            Optional<String> target = findTarget(targetIndex, convertValue(i, range));
+            if (target.isPresent()) {
+                result.add(target.get());
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private T convertValue(final long value, final Range<T> range) {
+        Comparable<?> endpoint = range.lowerEndpoint();
+        if (endpoint instanceof Integer) {
+            return (T) Integer.valueOf((int) value);
+        }
+        if (endpoint instanceof Short) {
+            return (T) Short.valueOf((short) value);
+        }
+        if (endpoint instanceof Byte) {
+            return (T) Byte.valueOf((byte) value);
+        }
+        return (T) Long.valueOf(value);
+    }
+    
+    private int getShardingCount(final String[] targetIndex) {
+        return 0 == shardingCount ? targetIndex.length : shardingCount;
+    }
+    
+    /**
+     * 计算分片值对应的分片序号.
+     * 
+     * @param value 分片值
+     * @param shardingCount 分片数量
+     * @return 分片序号, 范围为0至分片数量减一
+     */
+    protected abstract int getShardingSuffix(T value, int shardingCount);
+}
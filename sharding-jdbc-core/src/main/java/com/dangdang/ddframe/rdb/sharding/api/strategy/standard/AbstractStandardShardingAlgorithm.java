@@ -0,0 +1,222 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.database.SingleKeyDatabaseShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.table.SingleKeyTableShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.UnboundedRangeShardingAlgorithm;
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * 标准分片算法基类.
+ * 
+ * <p>
+ * 根据可用目标名称预先计算目标索引, 路由时通过索引直接定位目标, 无需遍历可用目标名称.
+ * 目标索引以可用目标名称集合实例为键缓存, 表规则对相同的数据源组合总是提供同一个不可变的可用目标名称集合, 因此每种组合的索引只计算一次.
+ * 标准分片算法可以同时用于分库和分表, 但不适用于动态表.
+ * 类型和参数相同的标准分片算法相等, 关联的表使用相等的分片算法时可识别为同位分片.
+ * </p>
+ * 
+ * @param <T> 片键类型
+ * @param <I> 目标索引类型
+ * 
+ * @author zhangliang
+ */
+public abstract class AbstractStandardShardingAlgorithm<T extends Comparable<?>, I> implements SingleKeyDatabaseShardingAlgorithm<T>, SingleKeyTableShardingAlgorithm<T>, UnboundedRangeShardingAlgorithm {
+    
+    private static final int MAX_NUMERIC_SUFFIX = 65535;
+    
+    private final LoadingCache<Collection<String>, I> targetIndexes = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Collection<String>, I>() {
+        
+        @Override
+        public I load(final Collection<String> availableTargetNames) {
+            return createTargetIndex(availableTargetNames);
+        }
+    });
+    
+    @Override
+    public final String doEqualSharding(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue) {
+        return getTarget(targetIndexes.getUnchecked(availableTargetNames), shardingValue.getValue());
+    }
+    
+    @Override
+    public final Collection<String> doInSharding(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue) {
+        I targetIndex = targetIndexes.getUnchecked(availableTargetNames);
+        Collection<String> result = new LinkedHashSet<>(shardingValue.getValues().size());
+        for (T each : shardingValue.getValues()) {
+            result.add(getTarget(targetIndex, each));
+        }
+        return result;
+    }
+    
+    @Override
+    public final Collection<String> doBetweenSharding(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue) {
+        return findTargets(targetIndexes.getUnchecked(availableTargetNames), availableTargetNames, shardingValue.getValueRange());
+    }
+    
+    private String getTarget(final I targetIndex, final T value) {
+        Optional<String> result = findTarget(targetIndex, value);
+        if (!result.isPresent()) {
+            throw new ShardingJdbcException("Can not find sharding target for value '%s' by '%s'.", value, getClass().getSimpleName());
+        }
+        return result.get();
+    }
+    
+    /**
+     * 根据可用目标名称创建目标索引.
+     * 
+     * @param availableTargetNames 所有的可用目标名称集合
+     * @return 目标索引
+     */
+    protected abstract I createTargetIndex(Collection<String> availableTargetNames);
+    
+    /**
+     * 查找分片值对应的目标.
+     * 
+     * @param targetIndex 目标索引
+     * @param value 分片值
+     * @return 目标名称, 找不到时返回空
+     */
+    protected abstract Optional<String> findTarget(I targetIndex, T value);
+    
+    /**
+     * 查找范围分片值对应的目标集合.
+     * 
+     * @param targetIndex 目标索引
+     * @param availableTargetNames 所有的可用目标名称集合
+     * @param range 范围分片值, 边界可能为开区间或无边界
+     * @return 目标名称集合
+     */
+    protected abstract Collection<String> findTargets(I targetIndex, Collection<String> availableTargetNames, Range<T> range);
+    
+    /**
+     * 创建以名称数字后缀为下标的目标数组.
+     * 
+     * <p>
+     * 没有数字后缀或后缀过大的目标名称将被忽略, 后缀相同时以第一个目标为准.
+     * </p>
+     * 
+     * @param availableTargetNames 所有的可用目标名称集合
+     * @return 以数字后缀为下标的目标数组, 没有对应目标的下标为空
+     */
+    protected static String[] createNumericSuffixIndex(final Collection<String> availableTargetNames) {
+        Map<Integer, String> suffixes = new HashMap<>(availableTargetNames.size(), 1);
+        int maxSuffix = -1;
+        for (String each : availableTargetNames) {
+            Optional<Integer> suffix = parseNumericSuffix(each);
+            if (suffix.isPresent() && !suffixes.containsKey(suffix.get())) {
+                suffixes.put(suffix.get(), each);
+                maxSuffix = Math.max(maxSuffix, suffix.get());
+            }
+        }
+        String[] result = new String[maxSuffix + 1];
+        for (Entry<Integer, String> entry : suffixes.entrySet()) {
+            result[entry.getKey()] = entry.getValue();
+        }
+        return result;
+    }
+    
+    private static Optional<Integer> parseNumericSuffix(final String targetName) {
+        int beginIndex = targetName.length();
+        while (beginIndex > 0 && Character.isDigit(targetName.charAt(beginIndex - 1))) {
+            beginIndex--;
+        }
+        if (beginIndex == targetName.length() || targetName.length() - beginIndex > 5) {
+            return Optional.absent();
+        }
+        int result = Integer.parseInt(targetName.substring(beginIndex));
+        return result > MAX_NUMERIC_SUFFIX ? Optional.<Integer>absent() : Optional.of(result);
+    }
+    
+    /**
+     * 获取数字分片值.
+     * 
+     * @param value 分片值
+     * @return 分片值的long值
+     */
+    protected static long getLongValue(final Comparable<?> value) {
+        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString());
+    }
+    
+    /**
+     * 获取整数分片值范围包含的值数量.
+     * 
+     * @param range 范围分片值
+     * @return 范围包含的值数量, 非整数, 无边界, 为空或超出long范围时返回空
+     */
+    protected static Optional<Long> getRangeSize(final Range<? extends Comparable<?>> range) {
+        if (!range.hasLowerBound() || !range.hasUpperBound() || !isIntegral(range.lowerEndpoint()) || !isIntegral(range.upperEndpoint())) {
+            return Optional.absent();
+        }
+        long result = getUpperValue(range) - getLowerValue(range) + 1;
+        return result <= 0L ? Optional.<Long>absent() : Optional.of(result);
+    }
+    
+    private static boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * 获取数字分片值范围的闭区间下界.
+     * 
+     * @param range 范围分片值
+     * @return 闭区间下界
+     */
+    protected static long getLowerValue(final Range<? extends Comparable<?>> range) {
+        return getLongValue(range.lowerEndpoint()) + (BoundType.OPEN == range.lowerBoundType() ? 1L : 0L);
+    }
+    
+    /**
+     * 获取数字分片值范围的闭区间上界.
+     * 
+     * @param range 范围分片值
+     * @return 闭区间上界
+     */
+    protected static long getUpperValue(final Range<? extends Comparable<?>> range) {
+        return getLongValue(range.upperEndpoint()) - (BoundType.OPEN == range.upperBoundType() ? 1L : 0L);
+    }
+    
+    /**
+     * 获取以数字后缀为下标的目标数组中的全部目标.
+     * 
+     * @param targetIndex 以数字后缀为下标的目标数组
+     * @return 全部目标
+     */
+    protected static Collection<String> getAllTargets(final String[] targetIndex) {
+        Collection<String> result = new LinkedHashSet<>(targetIndex.length);
+        for (String each : targetIndex) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 一致性哈希环上需要迁移的哈希区间.
+ * 
+ * <p>
+ * 区间为左开右闭区间, 起始值大于等于结束值时表示跨越哈希环首尾的区间.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class ConsistentHashRange {
+    
+    private final int startExclusive;
+    
+    private final int endInclusive;
+    
+    private final String fromTarget;
+    
+    private final String toTarget;
+    
+    /**
+     * 判断哈希值是否在区间内.
+     * 
+     * @param hash 哈希值
+     * @return 哈希值是否在区间内
+     */
+    public boolean contains(final int hash) {
+        if (startExclusive < endInclusive) {
+            return hash > startExclusive && hash <= endInclusive;
+        }
+        return hash > startExclusive || hash <= endInclusive;
+    }
+}
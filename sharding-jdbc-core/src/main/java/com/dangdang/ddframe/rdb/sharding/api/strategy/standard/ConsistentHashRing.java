@@ -0,0 +1,164 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * 一致性哈希环.
+ * 
+ * <p>
+ * 虚拟节点哈希值和对应目标保存在排序的数组中, 创建后不可变, 查找时无需加锁.
+ * 每个虚拟节点负责从上一个虚拟节点(不含)至自身(含)的哈希区间.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+final class ConsistentHashRing {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_32();
+    
+    private final int[] hashes;
+    
+    private final String[] targets;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final int targetCount;
+    
+    ConsistentHashRing(final Collection<String> targetNames, final int virtualNodeCount) {
+        TreeMap<Integer, String> nodes = new TreeMap<>();
+        Collection<String> distinctTargetNames = new LinkedHashSet<>(targetNames);
+        for (String each : distinctTargetNames) {
+            for (int i = 0; i < virtualNodeCount; i++) {
+                int hash = hash(each + "#" + i);
+                String existed = nodes.get(hash);
+                if (null == existed || each.compareTo(existed) < 0) {
+                    nodes.put(hash, each);
+                }
+            }
+        }
+        hashes = new int[nodes.size()];
+        targets = new String[nodes.size()];
+        int index = 0;
+        for (Entry<Integer, String> entry : nodes.entrySet()) {
+            hashes[index] = entry.getKey();
+            targets[index] = entry.getValue();
+            index++;
+        }
+        targetCount = distinctTargetNames.size();
+    }
+    
+    /**
+     * 计算字符串的哈希值.
+     * 
+     * @param value 字符串
+     * @return 哈希值
+     */
+    static int hash(final String value) {
+        return HASH_FUNCTION.hashString(value, Charsets.UTF_8).asInt();
+    }
+    
+    /**
+     * 查找哈希值对应的目标.
+     * 
+     * @param hash 哈希值
+     * @return 目标名称, 哈希环为空时返回空
+     */
+    Optional<String> find(final int hash) {
+        if (0 == hashes.length) {
+            return Optional.absent();
+        }
+        int position = Arrays.binarySearch(hashes, hash);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return Optional.of(targets[position == hashes.length ? 0 : position]);
+    }
+    
+    /**
+     * 计算由当前哈希环变为新哈希环时需要迁移的哈希区间.
+     * 
+     * @param newRing 新哈希环
+     * @return 需要迁移的哈希区间, 按哈希值顺序排列
+     */
+    List<ConsistentHashRange> getMovedRanges(final ConsistentHashRing newRing) {
+        int[] points = merge(hashes, newRing.hashes);
+        List<ConsistentHashRange> result = new ArrayList<>();
+        for (int i = 0; i < points.length; i++) {
+            Optional<String> fromTarget = find(points[i]);
+            Optional<String> toTarget = newRing.find(points[i]);
+            if (!fromTarget.isPresent() || !toTarget.isPresent() || fromTarget.get().equals(toTarget.get())) {
+                continue;
+            }
+            int startExclusive = points[0 == i ? points.length - 1 : i - 1];
+            ConsistentHashRange last = result.isEmpty() ? null : result.get(result.size() - 1);
+            if (null != last && last.getEndInclusive() == startExclusive && last.getFromTarget().equals(fromTarget.get()) && last.getToTarget().equals(toTarget.get())) {
+                result.set(result.size() - 1, new ConsistentHashRange(last.getStartExclusive(), points[i], fromTarget.get(), toTarget.get()));
+            } else {
+                result.add(new ConsistentHashRange(startExclusive, points[i], fromTarget.get(), toTarget.get()));
+            }
+        }
+        return mergeWrappedRange(result);
+    }
+    
+    private List<ConsistentHashRange> mergeWrappedRange(final List<ConsistentHashRange> ranges) {
+        if (ranges.size() < 2) {
+            return ranges;
+        }
+        ConsistentHashRange first = ranges.get(0);
+        ConsistentHashRange last = ranges.get(ranges.size() - 1);
+        if (last.getEndInclusive() != first.getStartExclusive() || !last.getFromTarget().equals(first.getFromTarget()) || !last.getToTarget().equals(first.getToTarget())) {
+            return ranges;
+        }
+        List<ConsistentHashRange> result = new ArrayList<>(ranges.subList(1, ranges.size() - 1));
+        result.add(new ConsistentHashRange(last.getStartExclusive(), first.getEndInclusive(), first.getFromTarget(), first.getToTarget()));
+        return result;
+    }
+    
+    private static int[] merge(final int[] hashes, final int[] otherHashes) {
+        int[] result = new int[hashes.length + otherHashes.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < hashes.length || j < otherHashes.length) {
+            int next;
+            if (j == otherHashes.length || i < hashes.length && hashes[i] <= otherHashes[j]) {
+                next = hashes[i++];
+            } else {
+                next = otherHashes[j++];
+            }
+            if (0 == size || result[size - 1] != next) {
+                result[size++] = next;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
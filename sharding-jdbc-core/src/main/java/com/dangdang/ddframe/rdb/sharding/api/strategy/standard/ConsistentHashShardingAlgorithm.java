@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.TargetNameAwareShardingAlgorithm;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import lombok.EqualsAndHashCode;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 一致性哈希分片算法.
+ * 
+ * <p>
+ * 每个目标在哈希环上对应多个虚拟节点, 分片值字符串的哈希值顺时针找到的第一个虚拟节点即为目标.
+ * 增加目标时只有新目标虚拟节点负责的哈希区间需要迁移, 可通过{@link #getMovedRanges(Collection, Collection)}计算.
+ * 哈希环由目标完整名称构建, 使用此算法的表不视为同位分片表.
+ * </p>
+ * 
+ * @param <T> 片键类型
+ * 
+ * @author zhangliang
+ */
+@EqualsAndHashCode(callSuper = false)
+public final class ConsistentHashShardingAlgorithm<T extends Comparable<?>> extends AbstractStandardShardingAlgorithm<T, ConsistentHashRing> implements TargetNameAwareShardingAlgorithm {
+    
+    /**
+     * 默认每个目标的虚拟节点数量.
+     */
+    public static final int DEFAULT_VIRTUAL_NODE_COUNT = 160;
+    
+    private final int virtualNodeCount;
+    
+    public ConsistentHashShardingAlgorithm() {
+        this(DEFAULT_VIRTUAL_NODE_COUNT);
+    }
+    
+    public ConsistentHashShardingAlgorithm(final int virtualNodeCount) {
+        Preconditions.checkArgument(virtualNodeCount > 0, "Virtual node count must be positive.");
+        this.virtualNodeCount = virtualNodeCount;
+    }
+    
+    /**
+     * 计算分片值在哈希环上的哈希值.
+     * 
+     * @param value 分片值
+     * @return 哈希值
+     */
+    public static int hash(final Comparable<?> value) {
+        return ConsistentHashRing.hash(value.toString());
+    }
+    
+    /**
+     * 计算目标变化时需要迁移的哈希区间.
+     * 
+     * <p>
+     * 分片值的哈希值在返回的区间内时, 数据需从区间的原目标迁移至新目标.
+     * </p>
+     * 
+     * @param currentTargetNames 当前的目标名称集合
+     * @param newTargetNames 变化后的目标名称集合
+     * @return 需要迁移的哈希区间, 按哈希值顺序排列
+     */
+    public List<ConsistentHashRange> getMovedRanges(final Collection<String> currentTargetNames, final Collection<String> newTargetNames) {
+        return new ConsistentHashRing(currentTargetNames, virtualNodeCount).getMovedRanges(new ConsistentHashRing(newTargetNames, virtualNodeCount));
+    }
+    
+    @Override
+    protected ConsistentHashRing createTargetIndex(final Collection<String> availableTargetNames) {
+        return new ConsistentHashRing(availableTargetNames, virtualNodeCount);
+    }
+    
+    @Override
+    protected Optional<String> findTarget(final ConsistentHashRing targetIndex, final T value) {
+        return targetIndex.find(hash(value));
+    }
+    
+    @Override
+    protected Collection<String> findTargets(final ConsistentHashRing targetIndex, final Collection<String> availableTargetNames, final Range<T> range) {
+        Optional<Long> rangeSize = getRangeSize(range);
+        if (!rangeSize.isPresent() || rangeSize.get() >= targetIndex.getTargetCount()) {
+            return new LinkedHashSet<>(availableTargetNames);
+        }
+        Collection<String> result = new LinkedHashSet<>(rangeSize.get().intValue());
+        for (long i = getLowerValue(range); i <= getUpperValue(range); i++) {
+            Optional<String> target = targetIndex.find(hash(i));
+            if (target.isPresent()) {
+                result.add(target.get());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.google.common.math.IntMath;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 哈希取模分片算法.
+ * 
+ * <p>
+ * 分片序号为分片值字符串哈希值对分片数量取模的非负余数, 适用于字符串等非整数分片值.
+ * 使用字符串哈希值使相同数值的不同整数类型分片值路由结果一致.
+ * </p>
+ * 
+ * @param <T> 片键类型
+ * 
+ * @author zhangliang
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class HashModuloShardingAlgorithm<T extends Comparable<?>> extends AbstractModuloShardingAlgorithm<T> {
+    
+    public HashModuloShardingAlgorithm() {
+        this(0);
+    }
+    
+    public HashModuloShardingAlgorithm(final int shardingCount) {
+        super(shardingCount);
+    }
+    
+    @Override
+    protected int getShardingSuffix(final T value, final int shardingCount) {
+        return IntMath.mod(value.toString().hashCode(), shardingCount);
+    }
+}
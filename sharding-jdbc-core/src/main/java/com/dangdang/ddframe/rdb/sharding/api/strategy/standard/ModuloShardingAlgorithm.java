@@ -0,0 +1,49 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.google.common.math.LongMath;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 取模分片算法.
+ * 
+ * <p>
+ * 分片序号为分片值对分片数量取模的非负余数, 分片值需为整数或整数字符串.
+ * </p>
+ * 
+ * @param <T> 片键类型
+ * 
+ * @author zhangliang
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class ModuloShardingAlgorithm<T extends Comparable<?>> extends AbstractModuloShardingAlgorithm<T> {
+    
+    public ModuloShardingAlgorithm() {
+        this(0);
+    }
+    
+    public ModuloShardingAlgorithm(final int shardingCount) {
+        super(shardingCount);
+    }
+    
+    @Override
+    protected int getShardingSuffix(final T value, final int shardingCount) {
+        return (int) LongMath.mod(getLongValue(value), shardingCount);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import lombok.EqualsAndHashCode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * 范围分片算法.
+ * 
+ * <p>
+ * 根据升序排列的分界值划分分片, 小于第一个分界值的分片序号为0, 大于等于第n个分界值且小于第n+1个分界值的分片序号为n.
+ * 例如分界值为{@code 1000, 2000}时, 分片值999, 1000和2000的分片序号分别为0, 1和2.
+ * 范围分片值只路由至覆盖的连续分片, 支持单侧无边界的范围.
+ * </p>
+ * 
+ * @param <T> 片键类型
+ * 
+ * @author zhangliang
+ */
+@EqualsAndHashCode(callSuper = false)
+public final class RangeShardingAlgorithm<T extends Comparable<?>> extends AbstractStandardShardingAlgorithm<T, String[]> {
+    
+    private final long[] boundaries;
+    
+    public RangeShardingAlgorithm(final long... boundaries) {
+        Preconditions.checkArgument(boundaries.length > 0, "Boundaries can not be empty.");
+        for (int i = 1; i < boundaries.length; i++) {
+            Preconditions.checkArgument(boundaries[i - 1] < boundaries[i], "Boundaries must be in ascending order.");
+        }
+        this.boundaries = Arrays.copyOf(boundaries, boundaries.length);
+    }
+    
+    @Override
+    protected String[] createTargetIndex(final Collection<String> availableTargetNames) {
+        return createNumericSuffixIndex(availableTargetNames);
+    }
+    
+    @Override
+    protected Optional<String> findTarget(final String[] targetIndex, final T value) {
+        int suffix = getShardingSuffix(getLongValue(value));
+        return suffix < targetIndex.length ? Optional.fromNullable(targetIndex[suffix]) : Optional.<String>absent();
+    }
+    
+    @Override
+    protected Collection<String> findTargets(final String[] targetIndex, final Collection<String> availableTargetNames, final Range<T> range) {
+        int lowerSuffix = range.hasLowerBound() ? getShardingSuffix(getLongValue(range.lowerEndpoint())) : 0;
+        int upperSuffix = Math.min(range.hasUpperBound() ? getShardingSuffix(getLongValue(range.upperEndpoint())) : boundaries.length, targetIndex.length - 1);
+        Collection<String> result = new LinkedHashSet<>();
+        for (int i = lowerSuffix; i <= upperSuffix; i++) {
+            if (null != targetIndex[i]) {
+                result.add(targetIndex[i]);
+            }
+        }
+        return result;
+    }
+    
+    private int getShardingSuffix(final long value) {
+        int position = Arrays.binarySearch(boundaries, value);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+}
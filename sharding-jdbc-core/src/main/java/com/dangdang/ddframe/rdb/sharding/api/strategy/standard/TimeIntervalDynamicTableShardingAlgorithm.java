@@ -0,0 +1,170 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.table.SingleKeyTableShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.NondeterministicShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.routing.strategy.UnboundedRangeShardingAlgorithm;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 按时间间隔创建的动态表分片算法.
+ * 
+ * <p>
+ * 用于动态表, 真实表名称为表名前缀加分片值所在时间间隔的后缀, 如按月创建的{@code t_log_201701}.
+ * 真实表在创建窗口内按时间间隔依次创建, 创建窗口起止时间所在的时间间隔均包含在窗口内.
+ * 范围分片值与创建窗口取交集后精确计算需要查询的真实表, 单侧无边界的范围以创建窗口为界, 分片值不在创建窗口内时抛出异常.
+ * 未设置创建窗口结束时间时, 以当前时间为界, 分片结果随时间变化, 使用此算法的表不缓存路由结果.
+ * 范围分片值计算得到的真实表名称按起止时间间隔缓存.
+ * </p>
+ * 
+ * @param <T> 片键类型
+ * 
+ * @author zhangliang
+ */
+public final class TimeIntervalDynamicTableShardingAlgorithm<T extends Comparable<?>> implements SingleKeyTableShardingAlgorithm<T>, UnboundedRangeShardingAlgorithm, 
+        NondeterministicShardingAlgorithm {
+    
+    private static final int MAX_CACHED_RANGES = 1024;
+    
+    private final String tablePrefix;
+    
+    private final TimeIntervalUnit unit;
+    
+    private final Date windowStart;
+    
+    private final Optional<Date> windowEnd;
+    
+    private final Cache<Range<String>, List<String>> rangeTableNames = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_RANGES).build();
+    
+    /**
+     * 创建不限创建窗口结束时间的动态表分片算法.
+     * 
+     * @param tablePrefix 真实表名称前缀
+     * @param unit 时间间隔单位
+     * @param windowStart 创建窗口起始时间
+     */
+    public TimeIntervalDynamicTableShardingAlgorithm(final String tablePrefix, final TimeIntervalUnit unit, final Date windowStart) {
+        this(tablePrefix, unit, windowStart, Optional.<Date>absent());
+    }
+    
+    /**
+     * 创建动态表分片算法.
+     * 
+     * @param tablePrefix 真实表名称前缀
+     * @param unit 时间间隔单位
+     * @param windowStart 创建窗口起始时间
+     * @param windowEnd 创建窗口结束时间
+     */
+    public TimeIntervalDynamicTableShardingAlgorithm(final String tablePrefix, final TimeIntervalUnit unit, final Date windowStart, final Date windowEnd) {
+        this(tablePrefix, unit, windowStart, Optional.of(windowEnd));
+    }
+    
+    private TimeIntervalDynamicTableShardingAlgorithm(final String tablePrefix, final TimeIntervalUnit unit, final Date windowStart, final Optional<Date> windowEnd) {
+        Preconditions.checkNotNull(tablePrefix);
+        Preconditions.checkNotNull(unit);
+        Preconditions.checkNotNull(windowStart);
+        Preconditions.checkArgument(!windowEnd.isPresent() || !windowEnd.get().before(windowStart), "Window end must not be before window start.");
+        this.tablePrefix = tablePrefix;
+        this.unit = unit;
+        this.windowStart = unit.truncate(windowStart);
+        this.windowEnd = windowEnd.isPresent() ? Optional.of(unit.truncate(windowEnd.get())) : Optional.<Date>absent();
+    }
+    
+    @Override
+    public String doEqualSharding(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue) {
+        return getTableName(shardingValue.getValue());
+    }
+    
+    @Override
+    public Collection<String> doInSharding(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue) {
+        Collection<String> result = new LinkedHashSet<>(shardingValue.getValues().size());
+        for (T each : shardingValue.getValues()) {
+            result.add(getTableName(each));
+        }
+        return result;
+    }
+    
+    @Override
+    public Collection<String> doBetweenSharding(final Collection<String> availableTargetNames, final ShardingValue<T> shardingValue) {
+        Range<T> range = shardingValue.getValueRange();
+        Date lower = windowStart;
+        if (range.hasLowerBound() && unit.truncate(TimeIntervalUnit.toDate(range.lowerEndpoint())).after(lower)) {
+            lower = unit.truncate(TimeIntervalUnit.toDate(range.lowerEndpoint()));
+        }
+        Date upper = getWindowEnd();
+        if (range.hasUpperBound()) {
+            Date upperEndpoint = TimeIntervalUnit.toDate(range.upperEndpoint());
+            if (BoundType.OPEN == range.upperBoundType()) {
+                upperEndpoint = new Date(upperEndpoint.getTime() - 1L);
+            }
+            if (unit.truncate(upperEndpoint).before(upper)) {
+                upper = unit.truncate(upperEndpoint);
+            }
+        }
+        if (lower.after(upper)) {
+            throw new ShardingJdbcException("Sharding value '%s' is out of the creation window of dynamic table '%s'.", range, tablePrefix);
+        }
+        return getTableNames(lower, upper);
+    }
+    
+    @Override
+    public boolean isNondeterministic() {
+        return !windowEnd.isPresent();
+    }
+    
+    private String getTableName(final T value) {
+        Date date = unit.truncate(TimeIntervalUnit.toDate(value));
+        if (date.before(windowStart) || windowEnd.isPresent() && date.after(windowEnd.get())) {
+            throw new ShardingJdbcException("Sharding value '%s' is out of the creation window of dynamic table '%s'.", value, tablePrefix);
+        }
+        return tablePrefix + unit.getSuffix(date);
+    }
+    
+    private Date getWindowEnd() {
+        return windowEnd.isPresent() ? windowEnd.get() : unit.truncate(new Date());
+    }
+    
+    private List<String> getTableNames(final Date lower, final Date upper) {
+        Range<String> key = Range.closed(unit.getSuffix(lower), unit.getSuffix(upper));
+        List<String> result = rangeTableNames.getIfPresent(key);
+        if (null == result) {
+            result = new ArrayList<>();
+            for (Date each = lower; !each.after(upper); each = unit.next(each)) {
+                result.add(tablePrefix + unit.getSuffix(each));
+            }
+            result = Collections.unmodifiableList(result);
+            rangeTableNames.put(key, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import lombok.EqualsAndHashCode;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 时间间隔分片算法.
+ * 
+ * <p>
+ * 按时间单位划分分片, 目标名称以分片值所在时间间隔的起始时间作为后缀, 如按月分片的{@code t_order_201701}.
+ * 分片值需为{@code java.util.Date}或毫秒数.
+ * 时间后缀按字典序与时间顺序一致, 范围分片值通过有序索引直接定位覆盖的目标, 支持单侧无边界的范围.
+ * </p>
+ * 
+ * @param <T> 片键类型
+ * 
+ * @author zhangliang
+ */
+@EqualsAndHashCode(callSuper = false)
+public final class TimeIntervalShardingAlgorithm<T extends Comparable<?>> extends AbstractStandardShardingAlgorithm<T, NavigableMap<String, String>> {
+    
+    private final TimeIntervalUnit unit;
+    
+    private final int suffixLength;
+    
+    public TimeIntervalShardingAlgorithm(final TimeIntervalUnit unit) {
+        Preconditions.checkNotNull(unit);
+        this.unit = unit;
+        suffixLength = unit.getSuffixLength();
+    }
+    
+    @Override
+    protected NavigableMap<String, String> createTargetIndex(final Collection<String> availableTargetNames) {
+        NavigableMap<String, String> result = new TreeMap<>();
+        for (String each : availableTargetNames) {
+            if (each.length() < suffixLength) {
+                continue;
+            }
+            String suffix = each.substring(each.length() - suffixLength);
+            if (CharMatcher.DIGIT.matchesAllOf(suffix) && !result.containsKey(suffix)) {
+                result.put(suffix, each);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    protected Optional<String> findTarget(final NavigableMap<String, String> targetIndex, final T value) {
+        return Optional.fromNullable(targetIndex.get(getSuffix(value)));
+    }
+    
+    @Override
+    protected Collection<String> findTargets(final NavigableMap<String, String> targetIndex, final Collection<String> availableTargetNames, final Range<T> range) {
+        NavigableMap<String, String> result = targetIndex;
+        if (range.hasLowerBound()) {
+            result = result.tailMap(getSuffix(range.lowerEndpoint()), true);
+        }
+        if (range.hasUpperBound()) {
+            result = result.headMap(getSuffix(range.upperEndpoint()), true);
+        }
+        return new LinkedHashSet<>(result.values());
+    }
+    
+    private String getSuffix(final Comparable<?> value) {
+        return unit.getSuffix(TimeIntervalUnit.toDate(value));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * 时间间隔分片单位.
+ * 
+ * <p>
+ * 目标名称以时间单位对应格式的时间作为后缀, 年, 月, 日和小时的后缀格式分别为{@code yyyy}, {@code yyyyMM}, {@code yyyyMMdd}和{@code yyyyMMddHH}.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter(AccessLevel.PACKAGE)
+public enum TimeIntervalUnit {
+    
+    YEAR(Calendar.YEAR, 4), 
+    MONTH(Calendar.MONTH, 2), 
+    DAY(Calendar.DAY_OF_MONTH, 2), 
+    HOUR(Calendar.HOUR_OF_DAY, 2);
+    
+    private final int calendarField;
+    
+    private final int fieldLength;
+    
+    /**
+     * 获取时间后缀长度.
+     * 
+     * @return 时间后缀长度
+     */
+    int getSuffixLength() {
+        int result = 0;
+        for (int i = 0; i <= ordinal(); i++) {
+            result += values()[i].fieldLength;
+        }
+        return result;
+    }
+    
+    /**
+     * 获取时间所在时间间隔的后缀.
+     * 
+     * @param date 时间
+     * @return 时间后缀
+     */
+    String getSuffix(final Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        StringBuilder result = new StringBuilder(getSuffixLength());
+        for (int i = 0; i <= ordinal(); i++) {
+            TimeIntervalUnit each = values()[i];
+            int fieldValue = calendar.get(each.calendarField) + (MONTH == each ? 1 : 0);
+            result.append(Strings.padStart(String.valueOf(fieldValue), each.fieldLength, '0'));
+        }
+        return result.toString();
+    }
+    
+    /**
+     * 获取时间所在时间间隔的起始时间.
+     * 
+     * @param date 时间
+     * @return 时间间隔的起始时间
+     */
+    Date truncate(final Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        for (int i = ordinal() + 1; i < values().length; i++) {
+            calendar.set(values()[i].calendarField, DAY == values()[i] ? 1 : 0);
+        }
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        return calendar.getTime();
+    }
+    
+    /**
+     * 获取下一个时间间隔的起始时间.
+     * 
+     * @param date 时间间隔的起始时间
+     * @return 下一个时间间隔的起始时间
+     */
+    Date next(final Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        calendar.add(calendarField, 1);
+        return calendar.getTime();
+    }
+    
+    /**
+     * 将分片值转换为时间.
+     * 
+     * @param value 分片值, 需为{@code java.util.Date}或毫秒数
+     * @return 时间
+     */
+    static Date toDate(final Comparable<?> value) {
+        if (value instanceof Date) {
+            return (Date) value;
+        }
+        Preconditions.checkArgument(value instanceof Number, "Sharding value of time interval sharding algorithm must be Date or Number, your value type is '%s'.", value.getClass().getName());
+        return new Date(((Number) value).longValue());
+    }
+}
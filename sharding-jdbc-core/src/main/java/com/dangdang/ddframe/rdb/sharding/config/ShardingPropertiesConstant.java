@@ -17,6 +17,8 @@
 
 package com.dangdang.ddframe.rdb.sharding.config;
 
+import com.dangdang.ddframe.rdb.sharding.executor.ExecutorRejectedPolicy;
+import com.dangdang.ddframe.rdb.sharding.executor.ThreadPoolExecutorServiceProvider;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -65,7 +67,98 @@ public enum ShardingPropertiesConstant {
      * 默认值: 100
      * </p>
      */
-    EXECUTOR_SIZE("executor.size", String.valueOf(Runtime.getRuntime().availableProcessors()), int.class);
+    EXECUTOR_SIZE("executor.size", String.valueOf(Runtime.getRuntime().availableProcessors()), int.class),
+    
+    /**
+     * 执行器服务提供者类名称.
+     * 
+     * <p>
+     * 需实现{@code ExecutorServiceProvider}接口.
+     * 默认值: 基于固定大小线程池的执行器服务提供者
+     * </p>
+     */
+    EXECUTOR_SERVICE_PROVIDER_CLASS("executor.service.provider.class", ThreadPoolExecutorServiceProvider.class.getName(), String.class),
+    
+    /**
+     * 工作队列的最大容量.
+     * 
+     * <p>
+     * 设置为0表示不限制容量.
+     * 默认值: 0
+     * </p>
+     */
+    EXECUTOR_QUEUE_SIZE("executor.queue.size", "0", int.class),
+    
+    /**
+     * 工作队列已满时的拒绝策略.
+     * 
+     * <p>
+     * 可选值: CALLER_RUNS(由提交任务的线程执行), ABORT(立即抛出异常), WAIT(等待队列出现空位, 超时后抛出异常).
+     * 默认值: CALLER_RUNS
+     * </p>
+     */
+    EXECUTOR_REJECTED_POLICY("executor.rejected.policy", ExecutorRejectedPolicy.CALLER_RUNS.name(), String.class),
+    
+    /**
+     * 拒绝策略为WAIT时等待工作队列出现空位的时间.
+     * 
+     * <p>
+     * 单位: 毫秒.
+     * 默认值: 1000毫秒.
+     * </p>
+     */
+    EXECUTOR_REJECTED_WAIT_MILLISECONDS("executor.rejected.wait.millisecond", "1000", long.class),
+    
+    /**
+     * 每个数据源同时占用工作线程的最大任务数量.
+     * 
+     * <p>
+     * 超出时立即抛出异常, 避免单个缓慢的数据源耗尽全部工作线程. 设置为0表示不限制.
+     * 不为0时不能小于每次查询在每个数据源上可使用的最大连接数.
+     * 默认值: 0
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("executor.max.concurrency.per.data.source", "0", int.class),
+    
+    /**
+     * 解析结果缓存的最大SQL数量.
+     * 
+     * <p>
+     * 设置为0表示不缓存解析结果.
+     * 默认值: 1024
+     * </p>
+     */
+    PARSING_CACHE_SIZE("parsing.cache.size", "1024", int.class),
+    
+    /**
+     * 路由结果缓存的最大数量.
+     * 
+     * <p>
+     * 设置为0表示不缓存路由结果.
+     * 默认值: 0
+     * </p>
+     */
+    ROUTING_CACHE_SIZE("routing.cache.size", "0", int.class),
+    
+    /**
+     * 笛卡尔积路由的最大数量.
+     * 
+     * <p>
+     * 超出该数量时抛出异常. 设置为0表示不限制.
+     * 默认值: 0
+     * </p>
+     */
+    CARTESIAN_ROUTING_MAX_SIZE("cartesian.routing.max.size", "0", int.class),
+    
+    /**
+     * 每次查询在每个数据源上可使用的最大连接数.
+     * 
+     * <p>
+     * 同一数据源的执行单元数量不超过该值时, 每个执行单元使用独立的连接并行执行; 否则共享同一连接串行执行.
+     * 默认值: 1
+     * </p>
+     */
+    MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", "1", int.class);
     
     private final String key;
     
@@ -0,0 +1,92 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.executor;
+
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 数据源隔离舱.
+ * 
+ * <p>
+ * 限制每个数据源同时占用工作线程的任务数量, 避免单个缓慢的数据源耗尽执行引擎的全部工作线程.
+ * 许可不足时立即失败, 不等待.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class DataSourceBulkhead {
+    
+    private final int maxConcurrency;
+    
+    private final ConcurrentMap<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+    
+    /**
+     * 获取数据源的执行许可.
+     * 
+     * <p>
+     * 任一数据源许可不足时, 释放本次已获取的许可并抛出异常.
+     * </p>
+     * 
+     * @param dataSourceNames 数据源名称集合, 每个元素占用一个许可
+     */
+    void acquire(final Collection<String> dataSourceNames) {
+        if (maxConcurrency <= 0) {
+            return;
+        }
+        List<String> acquiredDataSourceNames = new ArrayList<>(dataSourceNames.size());
+        for (String each : dataSourceNames) {
+            if (!getSemaphore(each).tryAcquire()) {
+                release(acquiredDataSourceNames);
+                throw new ShardingJdbcException("Data source '%s' is saturated, max concurrency is %s.", each, maxConcurrency);
+            }
+            acquiredDataSourceNames.add(each);
+        }
+    }
+    
+    /**
+     * 释放数据源的执行许可.
+     * 
+     * @param dataSourceNames 数据源名称集合, 每个元素释放一个许可
+     */
+    void release(final Collection<String> dataSourceNames) {
+        if (maxConcurrency <= 0) {
+            return;
+        }
+        for (String each : dataSourceNames) {
+            getSemaphore(each).release();
+        }
+    }
+    
+    private Semaphore getSemaphore(final String dataSourceName) {
+        Semaphore result = semaphores.get(dataSourceName);
+        if (null == result) {
+            semaphores.putIfAbsent(dataSourceName, new Semaphore(maxConcurrency));
+            result = semaphores.get(dataSourceName);
+        }
+        return result;
+    }
+}
@@ -17,6 +17,9 @@
 
 package com.dangdang.ddframe.rdb.sharding.executor;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.dangdang.ddframe.rdb.sharding.constant.SQLType;
 import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
 import com.dangdang.ddframe.rdb.sharding.executor.event.AbstractExecutionEvent;
@@ -29,43 +32,98 @@ import com.dangdang.ddframe.rdb.sharding.executor.type.batch.BatchPreparedStatem
 import com.dangdang.ddframe.rdb.sharding.executor.type.prepared.PreparedStatementUnit;
 import com.dangdang.ddframe.rdb.sharding.executor.type.statement.StatementUnit;
 import com.dangdang.ddframe.rdb.sharding.util.EventBusInstance;
+import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.Callable;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * SQL执行引擎.
  * 
+ * <p>
+ * 执行单元按数据库连接分组, 同一连接的执行单元在同一线程中串行执行, 不同连接的执行单元并行执行.
+ * 执行结果与执行单元的顺序一致.
+ * 执行器服务由{@link ExecutorServiceProvider}创建, 默认使用固定大小的线程池, 工作队列可设置容量, 队列已满时按拒绝策略处理新提交的任务.
+ * 可限制每个数据源同时占用工作线程的任务数量, 超出时立即失败.
+ * </p>
+ * 
  * @author gaohongtao
  * @author zhangliang
  */
 @Slf4j
 public final class ExecutorEngine implements AutoCloseable {
     
-    private final ListeningExecutorService executorService;
+    private final ExecutorService executorService;
+    
+    private final ListeningExecutorService listeningExecutorService;
+    
+    private final DataSourceBulkhead dataSourceBulkhead;
+    
+    private volatile Timer waitTimer;
     
     public ExecutorEngine(final int executorSize) {
-        executorService = MoreExecutors.listeningDecorator(new ThreadPoolExecutor(
-                executorSize, executorSize, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingJDBC-%d").build()));
-        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+        this(new ThreadPoolExecutorServiceProvider().createExecutorService(executorSize, 0, ExecutorRejectedPolicy.CALLER_RUNS, 0L), 0);
+    }
+    
+    public ExecutorEngine(final ExecutorService executorService, final int maxConcurrencyPerDataSource) {
+        this.executorService = executorService;
+        listeningExecutorService = MoreExecutors.listeningDecorator(executorService);
+        dataSourceBulkhead = new DataSourceBulkhead(maxConcurrencyPerDataSource);
+        MoreExecutors.addDelayedShutdownHook(listeningExecutorService, 60, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * 注册执行引擎的度量指标.
+     * 
+     * <p>
+     * 包括任务在工作队列中的等待时间, 执行器服务为线程池时还包括工作队列中等待的任务数量和活跃的工作线程数量.
+     * </p>
+     * 
+     * @param metricRegistry 度量注册表
+     */
+    public void registerMetrics(final MetricRegistry metricRegistry) {
+        if (executorService instanceof ThreadPoolExecutor) {
+            registerThreadPoolMetrics(metricRegistry, (ThreadPoolExecutor) executorService);
+        }
+        waitTimer = metricRegistry.timer("ExecutorEngine-waitTime");
+    }
+    
+    private void registerThreadPoolMetrics(final MetricRegistry metricRegistry, final ThreadPoolExecutor threadPoolExecutor) {
+        metricRegistry.register("ExecutorEngine-queueSize", new Gauge<Integer>() {
+            
+            @Override
+            public Integer getValue() {
+                return threadPoolExecutor.getQueue().size();
+            }
+        });
+        metricRegistry.register("ExecutorEngine-activeCount", new Gauge<Integer>() {
+            
+            @Override
+            public Integer getValue() {
+                return threadPoolExecutor.getActiveCount();
+            }
+        });
     }
     
     /**
@@ -110,84 +168,220 @@ public final class ExecutorEngine implements AutoCloseable {
         return execute(sqlType, batchPreparedStatementUnits, parameterSets, executeCallback);
     }
     
+    /**
+     * 异步执行Statement.
+     * 
+     * <p>
+     * 全部执行单元提交至执行器服务后即返回.
+     * 工作队列已满时, 拒绝策略为CALLER_RUNS的执行单元在调用线程中执行, WAIT则等待队列空位, 两者都会阻塞调用线程; 不能阻塞调用线程时应使用ABORT.
+     * </p>
+     *
+     * @param sqlType SQL类型
+     * @param statementUnits 语句对象执行单元集合
+     * @param executeCallback 执行回调函数
+     * @param <T> 返回值类型
+     * @return 执行结果的Future
+     */
+    public <T> ListenableFuture<List<T>> executeStatementAsync(final SQLType sqlType, final Collection<StatementUnit> statementUnits, final ExecuteCallback<T> executeCallback) {
+        return executeAsync(sqlType, statementUnits, Collections.<List<Object>>emptyList(), executeCallback);
+    }
+    
+    /**
+     * 异步执行PreparedStatement.
+     * 
+     * <p>
+     * 全部执行单元提交至执行器服务后即返回.
+     * 工作队列已满时, 拒绝策略为CALLER_RUNS的执行单元在调用线程中执行, WAIT则等待队列空位, 两者都会阻塞调用线程; 不能阻塞调用线程时应使用ABORT.
+     * </p>
+     *
+     * @param sqlType SQL类型
+     * @param preparedStatementUnits 语句对象执行单元集合
+     * @param parameters 参数列表
+     * @param executeCallback 执行回调函数
+     * @param <T> 返回值类型
+     * @return 执行结果的Future
+     */
+    public <T> ListenableFuture<List<T>> executePreparedStatementAsync(
+            final SQLType sqlType, final Collection<PreparedStatementUnit> preparedStatementUnits, final List<Object> parameters, final ExecuteCallback<T> executeCallback) {
+        return executeAsync(sqlType, preparedStatementUnits, Collections.singletonList(parameters), executeCallback);
+    }
+    
     private  <T> List<T> execute(
             final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) {
         if (baseStatementUnits.isEmpty()) {
             return Collections.emptyList();
         }
-        Iterator<? extends BaseStatementUnit> iterator = baseStatementUnits.iterator();
-        BaseStatementUnit firstInput = iterator.next();
-        ListenableFuture<List<T>> restFutures = asyncExecute(sqlType, Lists.newArrayList(iterator), parameterSets, executeCallback);
-        T firstOutput;
-        List<T> restOutputs;
+        List<Connection> connections = new ArrayList<>(baseStatementUnits.size());
+        Map<Connection, List<BaseStatementUnit>> baseStatementUnitGroups;
         try {
-            firstOutput = syncExecute(sqlType, firstInput, parameterSets, executeCallback);
-            restOutputs = restFutures.get();
+            baseStatementUnitGroups = groupByConnection(baseStatementUnits, connections);
+        } catch (final SQLException ex) {
+            ExecutorExceptionHandler.handleException(ex);
+            return null;
+        }
+        Iterator<Entry<Connection, List<BaseStatementUnit>>> iterator = baseStatementUnitGroups.entrySet().iterator();
+        Entry<Connection, List<BaseStatementUnit>> firstInputs = iterator.next();
+        ListenableFuture<List<List<T>>> restFutures = asyncExecute(sqlType, Lists.newArrayList(iterator), parameterSets, executeCallback);
+        List<List<T>> outputs = new ArrayList<>(baseStatementUnitGroups.size());
+        try {
+            outputs.add(syncExecute(sqlType, firstInputs, parameterSets, executeCallback));
+            outputs.addAll(restFutures.get());
             //CHECKSTYLE:OFF
         } catch (final Exception ex) {
             //CHECKSTYLE:ON
             ExecutorExceptionHandler.handleException(ex);
             return null;
         }
-        List<T> result = Lists.newLinkedList(restOutputs);
-        result.add(0, firstOutput);
+        return mergeOutputs(connections, baseStatementUnitGroups.keySet(), outputs);
+    }
+    
+    private <T> ListenableFuture<List<T>> executeAsync(
+            final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) {
+        if (baseStatementUnits.isEmpty()) {
+            return Futures.immediateFuture(Collections.<T>emptyList());
+        }
+        final List<Connection> connections = new ArrayList<>(baseStatementUnits.size());
+        final Map<Connection, List<BaseStatementUnit>> baseStatementUnitGroups;
+        ListenableFuture<List<List<T>>> outputs;
+        try {
+            baseStatementUnitGroups = groupByConnection(baseStatementUnits, connections);
+            outputs = asyncExecute(sqlType, Lists.newArrayList(baseStatementUnitGroups.entrySet()), parameterSets, executeCallback);
+            //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            //CHECKSTYLE:ON
+            return Futures.immediateFailedFuture(ex);
+        }
+        return Futures.transform(outputs, new Function<List<List<T>>, List<T>>() {
+            
+            @Override
+            public List<T> apply(final List<List<T>> input) {
+                return mergeOutputs(connections, baseStatementUnitGroups.keySet(), input);
+            }
+        });
+    }
+    
+    private Map<Connection, List<BaseStatementUnit>> groupByConnection(final Collection<? extends BaseStatementUnit> baseStatementUnits, final List<Connection> connections) throws SQLException {
+        Map<Connection, List<BaseStatementUnit>> result = new LinkedHashMap<>();
+        for (BaseStatementUnit each : baseStatementUnits) {
+            Connection connection = each.getStatement().getConnection();
+            connections.add(connection);
+            if (!result.containsKey(connection)) {
+                result.put(connection, new LinkedList<BaseStatementUnit>());
+            }
+            result.get(connection).add(each);
+        }
+        return result;
+    }
+    
+    private <T> List<T> mergeOutputs(final List<Connection> connections, final Collection<Connection> groupConnections, final List<List<T>> groupOutputs) {
+        Map<Connection, Iterator<T>> outputs = new HashMap<>(groupConnections.size(), 1);
+        Iterator<List<T>> groupOutputsIterator = groupOutputs.iterator();
+        for (Connection each : groupConnections) {
+            outputs.put(each, groupOutputsIterator.next().iterator());
+        }
+        List<T> result = new ArrayList<>(connections.size());
+        for (Connection each : connections) {
+            result.add(outputs.get(each).next());
+        }
         return result;
     }
     
-    private <T> ListenableFuture<List<T>> asyncExecute(
-            final SQLType sqlType, final Collection<BaseStatementUnit> baseStatementUnits, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) {
-        List<ListenableFuture<T>> result = new ArrayList<>(baseStatementUnits.size());
+    private <T> ListenableFuture<List<List<T>>> asyncExecute(
+            final SQLType sqlType, final Collection<Entry<Connection, List<BaseStatementUnit>>> baseStatementUnitGroups, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) {
+        List<ListenableFuture<List<T>>> result = new ArrayList<>(baseStatementUnitGroups.size());
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
-        for (final BaseStatementUnit each : baseStatementUnits) {
-            result.add(executorService.submit(new Callable<T>() {
+        List<String> dataSourceNames = new ArrayList<>(baseStatementUnitGroups.size());
+        for (Entry<Connection, List<BaseStatementUnit>> each : baseStatementUnitGroups) {
+            dataSourceNames.add(each.getValue().get(0).getSqlExecutionUnit().getDataSource());
+        }
+        dataSourceBulkhead.acquire(dataSourceNames);
+        int index = 0;
+        for (final Entry<Connection, List<BaseStatementUnit>> each : baseStatementUnitGroups) {
+            final String dataSourceName = dataSourceNames.get(index);
+            final long submitTime = System.nanoTime();
+            ListenableFuture<List<T>> future;
+            try {
+                future = listeningExecutorService.submit(new Callable<List<T>>() {
+                    
+                    @Override
+                    public List<T> call() throws Exception {
+                        recordWaitTime(submitTime);
+                        return executeInternal(sqlType, each.getKey(), each.getValue(), parameterSets, executeCallback, isExceptionThrown, dataMap);
+                    }
+                });
+                //CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                //CHECKSTYLE:ON
+                dataSourceBulkhead.release(dataSourceNames.subList(index, dataSourceNames.size()));
+                throw ex;
+            }
+            future.addListener(new Runnable() {
                 
                 @Override
-                public T call() throws Exception {
-                    return executeInternal(sqlType, each, parameterSets, executeCallback, isExceptionThrown, dataMap);
+                public void run() {
+                    dataSourceBulkhead.release(Collections.singletonList(dataSourceName));
                 }
-            }));
+            }, MoreExecutors.directExecutor());
+            result.add(future);
+            index++;
         }
         return Futures.allAsList(result);
     }
     
-    private <T> T syncExecute(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) throws Exception {
-        return executeInternal(sqlType, baseStatementUnit, parameterSets, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap());
+    private void recordWaitTime(final long submitTime) {
+        Timer timer = waitTimer;
+        if (null != timer) {
+            timer.update(System.nanoTime() - submitTime, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private <T> List<T> syncExecute(
+            final SQLType sqlType, final Entry<Connection, List<BaseStatementUnit>> baseStatementUnitGroup, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) throws Exception {
+        return executeInternal(sqlType, baseStatementUnitGroup.getKey(), baseStatementUnitGroup.getValue(), parameterSets, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap());
     }
     
-    private <T> T executeInternal(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback, 
+    private <T> List<T> executeInternal(final SQLType sqlType, final Connection connection, final List<BaseStatementUnit> baseStatementUnits, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback, 
                           final boolean isExceptionThrown, final Map<String, Object> dataMap) throws Exception {
-        synchronized (baseStatementUnit.getStatement().getConnection()) {
-            T result;
+        synchronized (connection) {
             ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
             ExecutorDataMap.setDataMap(dataMap);
-            List<AbstractExecutionEvent> events = new LinkedList<>();
-            if (parameterSets.isEmpty()) {
-                events.add(getExecutionEvent(sqlType, baseStatementUnit, Collections.emptyList()));
-            }
-            for (List<Object> each : parameterSets) {
-                events.add(getExecutionEvent(sqlType, baseStatementUnit, each));
-            }
-            for (AbstractExecutionEvent event : events) {
-                EventBusInstance.getInstance().post(event);
-            }
-            try {
-                result = executeCallback.execute(baseStatementUnit);
-            } catch (final SQLException ex) {
-                for (AbstractExecutionEvent each : events) {
-                    each.setEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
-                    each.setException(Optional.of(ex));
-                    EventBusInstance.getInstance().post(each);
-                    ExecutorExceptionHandler.handleException(ex);
-                }
-                return null;
+            List<T> result = new ArrayList<>(baseStatementUnits.size());
+            for (BaseStatementUnit each : baseStatementUnits) {
+                result.add(executeInternal(sqlType, each, parameterSets, executeCallback));
             }
+            return result;
+        }
+    }
+    
+    private <T> T executeInternal(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final List<List<Object>> parameterSets, final ExecuteCallback<T> executeCallback) throws Exception {
+        T result;
+        List<AbstractExecutionEvent> events = new LinkedList<>();
+        if (parameterSets.isEmpty()) {
+            events.add(getExecutionEvent(sqlType, baseStatementUnit, Collections.emptyList()));
+        }
+        for (List<Object> each : parameterSets) {
+            events.add(getExecutionEvent(sqlType, baseStatementUnit, each));
+        }
+        for (AbstractExecutionEvent event : events) {
+            EventBusInstance.getInstance().post(event);
+        }
+        try {
+            result = executeCallback.execute(baseStatementUnit);
+        } catch (final SQLException ex) {
             for (AbstractExecutionEvent each : events) {
-                each.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
+                each.setEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
+                each.setException(Optional.of(ex));
                 EventBusInstance.getInstance().post(each);
+                ExecutorExceptionHandler.handleException(ex);
             }
-            return result;
+            return null;
         }
+        for (AbstractExecutionEvent each : events) {
+            each.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
+            EventBusInstance.getInstance().post(each);
+        }
+        return result;
     }
     
     private AbstractExecutionEvent getExecutionEvent(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final List<Object> parameters) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.executor;
+
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 执行引擎工作队列已满时的拒绝策略.
+ * 
+ * <p>
+ * 执行引擎关闭后提交的任务, 无论何种策略均抛出异常.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public enum ExecutorRejectedPolicy {
+    
+    /**
+     * 由提交任务的线程直接执行.
+     */
+    CALLER_RUNS {
+        
+        @Override
+        RejectedExecutionHandler createRejectedExecutionHandler(final long waitMilliseconds) {
+            return new RejectedExecutionHandler() {
+                
+                @Override
+                public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+                    checkShutdown(executor);
+                    runnable.run();
+                }
+            };
+        }
+    },
+    
+    /**
+     * 立即抛出异常.
+     */
+    ABORT {
+        
+        @Override
+        RejectedExecutionHandler createRejectedExecutionHandler(final long waitMilliseconds) {
+            return new RejectedExecutionHandler() {
+                
+                @Override
+                public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+                    checkShutdown(executor);
+                    throw new ShardingJdbcException("Executor work queue is full, queue size is %s.", executor.getQueue().size());
+                }
+            };
+        }
+    },
+    
+    /**
+     * 等待工作队列出现空位, 超时后抛出异常.
+     */
+    WAIT {
+        
+        @Override
+        RejectedExecutionHandler createRejectedExecutionHandler(final long waitMilliseconds) {
+            return new RejectedExecutionHandler() {
+                
+                @Override
+                public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+                    checkShutdown(executor);
+                    boolean offered;
+                    try {
+                        offered = executor.getQueue().offer(runnable, waitMilliseconds, TimeUnit.MILLISECONDS);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new ShardingJdbcException(ex);
+                    }
+                    if (!offered) {
+                        throw new ShardingJdbcException("Executor work queue is still full after waiting %s milliseconds.", waitMilliseconds);
+                    }
+                }
+            };
+        }
+    };
+    
+    /**
+     * 创建拒绝任务处理器.
+     * 
+     * @param waitMilliseconds 等待工作队列出现空位的毫秒数, 仅用于等待策略
+     * @return 拒绝任务处理器
+     */
+    abstract RejectedExecutionHandler createRejectedExecutionHandler(long waitMilliseconds);
+    
+    private static void checkShutdown(final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new ShardingJdbcException("ExecutorEngine has been shutdown.");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.executor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 执行器服务提供者.
+ * 
+ * <p>
+ * 用于替换执行引擎使用的执行器服务. 实现类需提供公有的无参构造器, 通过配置项{@code executor.service.provider.class}指定全类名.
+ * 执行引擎关闭时会关闭创建的执行器服务.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public interface ExecutorServiceProvider {
+    
+    /**
+     * 创建执行器服务.
+     * 
+     * @param executorSize 工作线程数量
+     * @param queueSize 工作队列的最大容量, 0表示不限制
+     * @param rejectedPolicy 工作队列已满时的拒绝策略
+     * @param rejectedWaitMilliseconds 拒绝策略为等待时等待工作队列出现空位的毫秒数
+     * @return 执行器服务
+     */
+    ExecutorService createExecutorService(int executorSize, int queueSize, ExecutorRejectedPolicy rejectedPolicy, long rejectedWaitMilliseconds);
+}
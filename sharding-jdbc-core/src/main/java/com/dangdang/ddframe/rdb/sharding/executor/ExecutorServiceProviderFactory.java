@@ -0,0 +1,53 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 执行器服务提供者工厂.
+ * 
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutorServiceProviderFactory {
+    
+    /**
+     * 创建执行器服务提供者.
+     * 
+     * @param executorServiceProviderClassName 执行器服务提供者类名称
+     * @return 执行器服务提供者实例
+     */
+    public static ExecutorServiceProvider createExecutorServiceProvider(final String executorServiceProviderClassName) {
+        Class<?> executorServiceProviderClass;
+        try {
+            executorServiceProviderClass = Class.forName(executorServiceProviderClassName);
+        } catch (final ClassNotFoundException ex) {
+            throw new IllegalArgumentException(String.format("Cannot find executor service provider class %s", executorServiceProviderClassName));
+        }
+        if (!ExecutorServiceProvider.class.isAssignableFrom(executorServiceProviderClass)) {
+            throw new IllegalArgumentException(String.format("Class %s should implement %s", executorServiceProviderClassName, ExecutorServiceProvider.class.getName()));
+        }
+        try {
+            return (ExecutorServiceProvider) executorServiceProviderClass.newInstance();
+        } catch (final InstantiationException | IllegalAccessException ex) {
+            throw new IllegalArgumentException(String.format("Class %s should have public privilege and no argument constructor", executorServiceProviderClassName));
+        }
+    }
+}
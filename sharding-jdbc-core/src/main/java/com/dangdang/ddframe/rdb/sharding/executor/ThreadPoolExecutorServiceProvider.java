@@ -0,0 +1,44 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.executor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于固定大小线程池的执行器服务提供者.
+ * 
+ * @author zhangliang
+ */
+public final class ThreadPoolExecutorServiceProvider implements ExecutorServiceProvider {
+    
+    @Override
+    public ExecutorService createExecutorService(final int executorSize, final int queueSize, final ExecutorRejectedPolicy rejectedPolicy, final long rejectedWaitMilliseconds) {
+        return new ThreadPoolExecutor(executorSize, executorSize, 0, TimeUnit.MILLISECONDS, createWorkQueue(queueSize), 
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingJDBC-%d").build(), rejectedPolicy.createRejectedExecutionHandler(rejectedWaitMilliseconds));
+    }
+    
+    private BlockingQueue<Runnable> createWorkQueue(final int queueSize) {
+        return queueSize > 0 ? new LinkedBlockingQueue<Runnable>(queueSize) : new LinkedBlockingQueue<Runnable>();
+    }
+}
@@ -23,6 +23,9 @@ import com.dangdang.ddframe.rdb.sharding.executor.BaseStatementUnit;
 import com.dangdang.ddframe.rdb.sharding.executor.ExecuteCallback;
 import com.dangdang.ddframe.rdb.sharding.executor.ExecutorEngine;
 import com.dangdang.ddframe.rdb.sharding.metrics.MetricsContext;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.PreparedStatement;
@@ -56,19 +59,35 @@ public final class PreparedStatementExecutor {
         Context context = MetricsContext.start("ShardingPreparedStatement-executeQuery");
         List<ResultSet> result;
         try {
-            result = executorEngine.executePreparedStatement(sqlType, preparedStatementUnits, parameters, new ExecuteCallback<ResultSet>() {
-                
-                @Override
-                public ResultSet execute(final BaseStatementUnit baseStatementUnit) throws Exception {
-                    return ((PreparedStatement) baseStatementUnit.getStatement()).executeQuery();
-                }
-            });
+            result = executorEngine.executePreparedStatement(sqlType, preparedStatementUnits, parameters, createExecuteQueryCallback());
         } finally {
             MetricsContext.stop(context);
         }
         return result;
     }
     
+    /**
+     * 异步执行SQL查询.
+     * 
+     * @return 结果集列表的Future
+     */
+    public ListenableFuture<List<ResultSet>> executeQueryAsync() {
+        Context context = MetricsContext.start("ShardingPreparedStatement-executeQuery");
+        ListenableFuture<List<ResultSet>> result = executorEngine.executePreparedStatementAsync(sqlType, preparedStatementUnits, parameters, createExecuteQueryCallback());
+        MetricsContext.stopOnCompletion(context, result);
+        return result;
+    }
+    
+    private ExecuteCallback<ResultSet> createExecuteQueryCallback() {
+        return new ExecuteCallback<ResultSet>() {
+            
+            @Override
+            public ResultSet execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+                return ((PreparedStatement) baseStatementUnit.getStatement()).executeQuery();
+            }
+        };
+    }
+    
     /**
      * 执行SQL更新.
      * 
@@ -77,19 +96,41 @@ public final class PreparedStatementExecutor {
     public int executeUpdate() {
         Context context = MetricsContext.start("ShardingPreparedStatement-executeUpdate");
         try {
-            List<Integer> results = executorEngine.executePreparedStatement(sqlType, preparedStatementUnits, parameters, new ExecuteCallback<Integer>() {
-                
-                @Override
-                public Integer execute(final BaseStatementUnit baseStatementUnit) throws Exception {
-                    return ((PreparedStatement) baseStatementUnit.getStatement()).executeUpdate();
-                }
-            });
+            List<Integer> results = executorEngine.executePreparedStatement(sqlType, preparedStatementUnits, parameters, createExecuteUpdateCallback());
             return accumulate(results);
         } finally {
             MetricsContext.stop(context);
         }
     }
     
+    /**
+     * 异步执行SQL更新.
+     * 
+     * @return 更新数量的Future
+     */
+    public ListenableFuture<Integer> executeUpdateAsync() {
+        Context context = MetricsContext.start("ShardingPreparedStatement-executeUpdate");
+        ListenableFuture<List<Integer>> results = executorEngine.executePreparedStatementAsync(sqlType, preparedStatementUnits, parameters, createExecuteUpdateCallback());
+        MetricsContext.stopOnCompletion(context, results);
+        return Futures.transform(results, new Function<List<Integer>, Integer>() {
+            
+            @Override
+            public Integer apply(final List<Integer> input) {
+                return accumulate(input);
+            }
+        });
+    }
+    
+    private ExecuteCallback<Integer> createExecuteUpdateCallback() {
+        return new ExecuteCallback<Integer>() {
+            
+            @Override
+            public Integer execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+                return ((PreparedStatement) baseStatementUnit.getStatement()).executeUpdate();
+            }
+        };
+    }
+    
     private int accumulate(final List<Integer> results) {
         int result = 0;
         for (Integer each : results) {
@@ -23,6 +23,9 @@ import com.dangdang.ddframe.rdb.sharding.executor.BaseStatementUnit;
 import com.dangdang.ddframe.rdb.sharding.executor.ExecuteCallback;
 import com.dangdang.ddframe.rdb.sharding.executor.ExecutorEngine;
 import com.dangdang.ddframe.rdb.sharding.metrics.MetricsContext;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.ResultSet;
@@ -56,19 +59,35 @@ public final class StatementExecutor {
         Context context = MetricsContext.start("ShardingStatement-executeQuery");
         List<ResultSet> result;
         try {
-            result = executorEngine.executeStatement(sqlType, statementUnits, new ExecuteCallback<ResultSet>() {
-                
-                @Override
-                public ResultSet execute(final BaseStatementUnit baseStatementUnit) throws Exception {
-                    return baseStatementUnit.getStatement().executeQuery(baseStatementUnit.getSqlExecutionUnit().getSql());
-                }
-            });
+            result = executorEngine.executeStatement(sqlType, statementUnits, createExecuteQueryCallback());
         } finally {
             MetricsContext.stop(context);
         }
         return result;
     }
     
+    /**
+     * 异步执行SQL查询.
+     * 
+     * @return 结果集列表的Future
+     */
+    public ListenableFuture<List<ResultSet>> executeQueryAsync() {
+        Context context = MetricsContext.start("ShardingStatement-executeQuery");
+        ListenableFuture<List<ResultSet>> result = executorEngine.executeStatementAsync(sqlType, statementUnits, createExecuteQueryCallback());
+        MetricsContext.stopOnCompletion(context, result);
+        return result;
+    }
+    
+    private ExecuteCallback<ResultSet> createExecuteQueryCallback() {
+        return new ExecuteCallback<ResultSet>() {
+            
+            @Override
+            public ResultSet execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+                return baseStatementUnit.getStatement().executeQuery(baseStatementUnit.getSqlExecutionUnit().getSql());
+            }
+        };
+    }
+    
     /**
      * 执行SQL更新.
      * 
@@ -130,6 +149,34 @@ public final class StatementExecutor {
         }
     }
     
+    /**
+     * 异步执行SQL更新.
+     * 
+     * @return 更新数量的Future
+     */
+    public ListenableFuture<Integer> executeUpdateAsync() {
+        Context context = MetricsContext.start("ShardingStatement-executeUpdate");
+        ListenableFuture<List<Integer>> results = executorEngine.executeStatementAsync(sqlType, statementUnits, createExecuteUpdateCallback());
+        MetricsContext.stopOnCompletion(context, results);
+        return Futures.transform(results, new Function<List<Integer>, Integer>() {
+            
+            @Override
+            public Integer apply(final List<Integer> input) {
+                return accumulate(input);
+            }
+        });
+    }
+    
+    private ExecuteCallback<Integer> createExecuteUpdateCallback() {
+        return new ExecuteCallback<Integer>() {
+            
+            @Override
+            public Integer execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+                return baseStatementUnit.getStatement().executeUpdate(baseStatementUnit.getSqlExecutionUnit().getSql());
+            }
+        };
+    }
+    
     private int accumulate(final List<Integer> results) {
         int result = 0;
         for (Integer each : results) {
@@ -20,6 +20,8 @@ package com.dangdang.ddframe.rdb.sharding.jdbc.core;
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
 import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
 import com.dangdang.ddframe.rdb.sharding.executor.ExecutorEngine;
+import com.dangdang.ddframe.rdb.sharding.parsing.cache.ParsingResultCache;
+import com.dangdang.ddframe.rdb.sharding.routing.cache.RoutingResultCache;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -39,4 +41,12 @@ public final class ShardingContext {
     private final ExecutorEngine executorEngine;
     
     private final boolean showSQL;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    private final RoutingResultCache routingResultCache;
+    
+    private final int cartesianRoutingMaxSize;
+    
+    private final int maxConnectionsSizePerQuery;
 }
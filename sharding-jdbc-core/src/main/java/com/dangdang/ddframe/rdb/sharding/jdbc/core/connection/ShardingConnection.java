@@ -26,9 +26,15 @@ import com.dangdang.ddframe.rdb.sharding.jdbc.core.statement.ShardingPreparedSta
 import com.dangdang.ddframe.rdb.sharding.jdbc.core.statement.ShardingStatement;
 import com.dangdang.ddframe.rdb.sharding.jdbc.core.datasource.MasterSlaveDataSource;
 import com.dangdang.ddframe.rdb.sharding.metrics.MetricsContext;
+import com.dangdang.ddframe.rdb.sharding.routing.SQLExecutionUnit;
 import com.google.common.base.Joiner;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.LinkedHashMultiset;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multiset;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -38,8 +44,12 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -56,6 +66,8 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     
     private final Map<String, Connection> connectionMap = new HashMap<>();
     
+    private final ListMultimap<String, Connection> parallelConnectionMap = ArrayListMultimap.create();
+    
     /**
      * 根据数据源名称获取相应的数据库连接.
      * 
@@ -69,26 +81,81 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         if (connection.isPresent()) {
             return connection.get();
         }
+        Connection result = createConnection(dataSourceName, sqlType);
+        connectionMap.put(getRealDataSourceName(dataSourceName, sqlType), result);
+        return result;
+    }
+    
+    private Optional<Connection> getCachedConnection(final String dataSourceName, final SQLType sqlType) {
+        String key = connectionMap.containsKey(dataSourceName) ? dataSourceName : MasterSlaveDataSource.getDataSourceName(dataSourceName, sqlType);
+        return Optional.fromNullable(connectionMap.get(key));
+    }
+    
+    /**
+     * 获取SQL执行单元对应的数据库连接.
+     * 
+     * <p>
+     * 按数据源对执行单元分组, 同一数据源的执行单元数量不超过每次查询的最大连接数时, 每个执行单元使用独立的数据库连接, 由执行引擎并行执行;
+     * 否则该数据源的全部执行单元共享同一数据库连接, 由执行引擎在同一线程中串行执行.
+     * 未开启自动提交时, 为保证事务一致性, 同一数据源始终共享同一数据库连接.
+     * </p>
+     * 
+     * @param executionUnits SQL执行单元集合
+     * @param sqlType SQL语句类型
+     * @return 与SQL执行单元顺序一致的数据库连接列表
+     * @throws SQLException SQL异常
+     */
+    public List<Connection> getExecutionConnections(final Collection<SQLExecutionUnit> executionUnits, final SQLType sqlType) throws SQLException {
+        Multiset<String> dataSourceNames = LinkedHashMultiset.create();
+        for (SQLExecutionUnit each : executionUnits) {
+            dataSourceNames.add(each.getDataSource());
+        }
+        Map<String, Iterator<Connection>> connections = new HashMap<>(dataSourceNames.elementSet().size(), 1);
+        for (Multiset.Entry<String> each : dataSourceNames.entrySet()) {
+            connections.put(each.getElement(), Iterators.cycle(getDataSourceConnections(each.getElement(), sqlType, getConnectionSize(each.getCount()))));
+        }
+        List<Connection> result = new ArrayList<>(executionUnits.size());
+        for (SQLExecutionUnit each : executionUnits) {
+            result.add(connections.get(each.getDataSource()).next());
+        }
+        return result;
+    }
+    
+    private int getConnectionSize(final int executionUnitSize) throws SQLException {
+        return getAutoCommit() && executionUnitSize <= shardingContext.getMaxConnectionsSizePerQuery() ? executionUnitSize : 1;
+    }
+    
+    private List<Connection> getDataSourceConnections(final String dataSourceName, final SQLType sqlType, final int connectionSize) throws SQLException {
+        Connection connection = getConnection(dataSourceName, sqlType);
+        if (1 == connectionSize) {
+            return Collections.singletonList(connection);
+        }
+        List<Connection> parallelConnections = parallelConnectionMap.get(getRealDataSourceName(dataSourceName, sqlType));
+        while (parallelConnections.size() < connectionSize - 1) {
+            parallelConnections.add(createConnection(dataSourceName, sqlType));
+        }
+        List<Connection> result = new ArrayList<>(connectionSize);
+        result.add(connection);
+        result.addAll(parallelConnections.subList(0, connectionSize - 1));
+        return result;
+    }
+    
+    private Connection createConnection(final String dataSourceName, final SQLType sqlType) throws SQLException {
         Context metricsContext = MetricsContext.start(Joiner.on("-").join("ShardingConnection-getConnection", dataSourceName));
         DataSource dataSource = shardingContext.getShardingRule().getDataSourceRule().getDataSource(dataSourceName);
         Preconditions.checkState(null != dataSource, "Missing the rule of %s in DataSourceRule", dataSourceName);
-        String realDataSourceName;
         if (dataSource instanceof MasterSlaveDataSource) {
             dataSource = ((MasterSlaveDataSource) dataSource).getDataSource(sqlType);
-            realDataSourceName = MasterSlaveDataSource.getDataSourceName(dataSourceName, sqlType);
-        } else {
-            realDataSourceName = dataSourceName;
         }
         Connection result = dataSource.getConnection();
         MetricsContext.stop(metricsContext);
-        connectionMap.put(realDataSourceName, result);
         replayMethodsInvocation(result);
         return result;
     }
     
-    private Optional<Connection> getCachedConnection(final String dataSourceName, final SQLType sqlType) {
-        String key = connectionMap.containsKey(dataSourceName) ? dataSourceName : MasterSlaveDataSource.getDataSourceName(dataSourceName, sqlType);
-        return Optional.fromNullable(connectionMap.get(key));
+    private String getRealDataSourceName(final String dataSourceName, final SQLType sqlType) {
+        DataSource dataSource = shardingContext.getShardingRule().getDataSourceRule().getDataSource(dataSourceName);
+        return dataSource instanceof MasterSlaveDataSource ? MasterSlaveDataSource.getDataSourceName(dataSourceName, sqlType) : dataSourceName;
     }
     
     /**
@@ -98,6 +165,7 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
      */
     public void release(final Connection connection) {
         connectionMap.values().remove(connection);
+        parallelConnectionMap.values().remove(connection);
         try {
             connection.close();
         } catch (final SQLException ignored) {
@@ -156,7 +224,10 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     
     @Override
     public Collection<Connection> getConnections() {
-        return connectionMap.values();
+        Collection<Connection> result = new ArrayList<>(connectionMap.size() + parallelConnectionMap.size());
+        result.addAll(connectionMap.values());
+        result.addAll(parallelConnectionMap.values());
+        return result;
     }
     
     @Override
@@ -17,22 +17,31 @@
 
 package com.dangdang.ddframe.rdb.sharding.jdbc.core.datasource;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Slf4jReporter;
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
 import com.dangdang.ddframe.rdb.sharding.config.ShardingProperties;
 import com.dangdang.ddframe.rdb.sharding.config.ShardingPropertiesConstant;
 import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
 import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
 import com.dangdang.ddframe.rdb.sharding.executor.ExecutorEngine;
+import com.dangdang.ddframe.rdb.sharding.executor.ExecutorRejectedPolicy;
+import com.dangdang.ddframe.rdb.sharding.executor.ExecutorServiceProviderFactory;
 import com.dangdang.ddframe.rdb.sharding.jdbc.adapter.AbstractDataSourceAdapter;
 import com.dangdang.ddframe.rdb.sharding.jdbc.core.ShardingContext;
 import com.dangdang.ddframe.rdb.sharding.jdbc.core.connection.ShardingConnection;
 import com.dangdang.ddframe.rdb.sharding.metrics.MetricsContext;
+import com.dangdang.ddframe.rdb.sharding.parsing.cache.ParsingResultCache;
+import com.dangdang.ddframe.rdb.sharding.routing.cache.RoutingResultCache;
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Locale;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 
 /**
  * 支持分片的数据源.
@@ -45,6 +54,8 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
     
     private final ExecutorEngine executorEngine;
     
+    private final Optional<Slf4jReporter> metricsReporter;
+    
     private final ShardingContext shardingContext;
     
     public ShardingDataSource(final ShardingRule shardingRule) {
@@ -56,10 +67,31 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
         Preconditions.checkNotNull(props);
         shardingProperties = new ShardingProperties(props);
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        executorEngine = new ExecutorEngine(executorSize);
+        int executorQueueSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_QUEUE_SIZE);
+        String executorRejectedPolicy = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_REJECTED_POLICY);
+        long executorRejectedWaitMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_REJECTED_WAIT_MILLISECONDS);
+        int executorMaxConcurrencyPerDataSource = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE);
+        int maxConnectionsSizePerQuery = shardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        Preconditions.checkArgument(0 == executorMaxConcurrencyPerDataSource || maxConnectionsSizePerQuery <= executorMaxConcurrencyPerDataSource, 
+                "Max connections size per query '%s' must not be greater than executor max concurrency per data source '%s'.", maxConnectionsSizePerQuery, executorMaxConcurrencyPerDataSource);
+        String executorServiceProviderClassName = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SERVICE_PROVIDER_CLASS);
+        ExecutorService executorService = ExecutorServiceProviderFactory.createExecutorServiceProvider(executorServiceProviderClassName).createExecutorService(
+                executorSize, executorQueueSize, ExecutorRejectedPolicy.valueOf(executorRejectedPolicy.toUpperCase(Locale.ENGLISH)), executorRejectedWaitMilliseconds);
+        executorEngine = new ExecutorEngine(executorService, executorMaxConcurrencyPerDataSource);
+        Optional<MetricRegistry> metricRegistry = MetricsContext.createMetricRegistry(shardingProperties);
+        if (metricRegistry.isPresent()) {
+            executorEngine.registerMetrics(metricRegistry.get());
+            metricsReporter = Optional.of(MetricsContext.startReporter(shardingProperties, metricRegistry.get()));
+        } else {
+            metricsReporter = Optional.absent();
+        }
         boolean showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
+        int parsingCacheSize = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_CACHE_SIZE);
+        int routingCacheSize = shardingProperties.getValue(ShardingPropertiesConstant.ROUTING_CACHE_SIZE);
+        int cartesianRoutingMaxSize = shardingProperties.getValue(ShardingPropertiesConstant.CARTESIAN_ROUTING_MAX_SIZE);
         try {
-            shardingContext = new ShardingContext(shardingRule, DatabaseType.valueFrom(getDatabaseProductName(shardingRule)), executorEngine, showSQL);
+            shardingContext = new ShardingContext(shardingRule, DatabaseType.valueFrom(getDatabaseProductName(shardingRule)), executorEngine, showSQL, 
+                    new ParsingResultCache(parsingCacheSize), new RoutingResultCache(routingCacheSize), cartesianRoutingMaxSize, maxConnectionsSizePerQuery);
         } catch (final SQLException ex) {
             throw new ShardingJdbcException(ex);
         }
@@ -90,6 +122,9 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
     
     @Override
     public void close() {
+        if (metricsReporter.isPresent()) {
+            metricsReporter.get().stop();
+        }
         executorEngine.close();
     }
 }
@@ -32,6 +32,7 @@ import com.dangdang.ddframe.rdb.sharding.routing.SQLExecutionUnit;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.ListenableFuture;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -39,6 +40,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -85,7 +87,7 @@ public final class ShardingPreparedStatement extends AbstractPreparedStatementAd
             List<ResultSet> resultSets = new PreparedStatementExecutor(
                     getShardingConnection().getShardingContext().getExecutorEngine(), getRouteResult().getSqlStatement().getType(), preparedStatementUnits, getParameters()).executeQuery();
             result = new ShardingResultSet(resultSets, new MergeEngine(
-                    getShardingConnection().getShardingContext().getDatabaseType(), resultSets, (SelectStatement) getRouteResult().getSqlStatement()).merge());
+                    getShardingConnection().getShardingContext().getDatabaseType(), resultSets, (SelectStatement) getRouteResult().getSqlStatement(), getRouteResult().getLimit()).merge());
         } finally {
             clearBatch();
         }
@@ -104,6 +106,43 @@ public final class ShardingPreparedStatement extends AbstractPreparedStatementAd
         }
     }
     
+    /**
+     * 异步执行SQL查询.
+     * 
+     * <p>
+     * 路由与创建语句在调用线程完成, 执行与归并在执行线程完成.
+     * 归并结果集只通过Future返回, 不会成为{@link #getResultSet()}的当前结果集.
+     * </p>
+     * 
+     * @return 归并结果集的Future
+     * @throws SQLException SQL异常
+     */
+    public ListenableFuture<ResultSet> executeQueryAsync() throws SQLException {
+        try {
+            Collection<PreparedStatementUnit> preparedStatementUnits = route();
+            return mergeAsync(new PreparedStatementExecutor(getShardingConnection().getShardingContext().getExecutorEngine(), 
+                    getRouteResult().getSqlStatement().getType(), preparedStatementUnits, new ArrayList<>(getParameters())).executeQueryAsync(), getRouteResult());
+        } finally {
+            clearBatch();
+        }
+    }
+    
+    /**
+     * 异步执行SQL更新.
+     * 
+     * @return 更新数量的Future
+     * @throws SQLException SQL异常
+     */
+    public ListenableFuture<Integer> executeUpdateAsync() throws SQLException {
+        try {
+            Collection<PreparedStatementUnit> preparedStatementUnits = route();
+            return new PreparedStatementExecutor(getShardingConnection().getShardingContext().getExecutorEngine(), 
+                    getRouteResult().getSqlStatement().getType(), preparedStatementUnits, new ArrayList<>(getParameters())).executeUpdateAsync();
+        } finally {
+            clearBatch();
+        }
+    }
+    
     @Override
     public boolean execute() throws SQLException {
         try {
@@ -118,8 +157,9 @@ public final class ShardingPreparedStatement extends AbstractPreparedStatementAd
     private Collection<PreparedStatementUnit> route() throws SQLException {
         Collection<PreparedStatementUnit> result = new LinkedList<>();
         setRouteResult(routingEngine.route(getParameters()));
+        Iterator<Connection> connections = getShardingConnection().getExecutionConnections(getRouteResult().getExecutionUnits(), getRouteResult().getSqlStatement().getType()).iterator();
         for (SQLExecutionUnit each : getRouteResult().getExecutionUnits()) {
-            PreparedStatement preparedStatement = generatePreparedStatement(each);
+            PreparedStatement preparedStatement = generatePreparedStatement(connections.next(), each);
             getRoutedStatements().add(preparedStatement);
             replaySetParameter(preparedStatement);
             result.add(new PreparedStatementUnit(each, preparedStatement));
@@ -127,9 +167,8 @@ public final class ShardingPreparedStatement extends AbstractPreparedStatementAd
         return result;
     }
     
-    private PreparedStatement generatePreparedStatement(final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
+    private PreparedStatement generatePreparedStatement(final Connection connection, final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
         Optional<GeneratedKey> generatedKey = getGeneratedKey();
-        Connection connection = getShardingConnection().getConnection(sqlExecutionUnit.getDataSource(), getRouteResult().getSqlStatement().getType());
         if (isReturnGeneratedKeys() && generatedKey.isPresent()) {
             return connection.prepareStatement(sqlExecutionUnit.getSql(), RETURN_GENERATED_KEYS);
         }
@@ -190,7 +229,8 @@ public final class ShardingPreparedStatement extends AbstractPreparedStatementAd
         if (preparedBatchStatement.isPresent()) {
             return preparedBatchStatement.get();
         }
-        BatchPreparedStatementUnit result = new BatchPreparedStatementUnit(sqlExecutionUnit, generatePreparedStatement(sqlExecutionUnit));
+        BatchPreparedStatementUnit result = new BatchPreparedStatementUnit(
+                sqlExecutionUnit, generatePreparedStatement(getShardingConnection().getConnection(sqlExecutionUnit.getDataSource(), getRouteResult().getSqlStatement().getType()), sqlExecutionUnit));
         batchStatementUnits.add(result);
         return result;
     }
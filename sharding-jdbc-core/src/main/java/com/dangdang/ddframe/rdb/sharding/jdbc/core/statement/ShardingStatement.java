@@ -17,6 +17,7 @@
 
 package com.dangdang.ddframe.rdb.sharding.jdbc.core.statement;
 
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
 import com.dangdang.ddframe.rdb.sharding.executor.type.statement.StatementExecutor;
 import com.dangdang.ddframe.rdb.sharding.executor.type.statement.StatementUnit;
 import com.dangdang.ddframe.rdb.sharding.jdbc.adapter.AbstractStatementAdapter;
@@ -30,7 +31,11 @@ import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectS
 import com.dangdang.ddframe.rdb.sharding.routing.SQLExecutionUnit;
 import com.dangdang.ddframe.rdb.sharding.routing.SQLRouteResult;
 import com.dangdang.ddframe.rdb.sharding.routing.StatementRoutingEngine;
+import com.google.common.base.Function;
 import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -41,6 +46,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -78,6 +84,8 @@ public class ShardingStatement extends AbstractStatementAdapter {
     @Setter(AccessLevel.PROTECTED)
     private ResultSet currentResultSet;
     
+    private ListenableFuture<?> asyncExecution;
+    
     public ShardingStatement(final ShardingConnection shardingConnection) {
         this(shardingConnection, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
     }
@@ -105,7 +113,7 @@ public class ShardingStatement extends AbstractStatementAdapter {
         try {
             List<ResultSet> resultSets = generateExecutor(sql).executeQuery();
             result = new ShardingResultSet(
-                    resultSets, new MergeEngine(shardingConnection.getShardingContext().getDatabaseType(), resultSets, (SelectStatement) getRouteResult().getSqlStatement()).merge());
+                    resultSets, new MergeEngine(shardingConnection.getShardingContext().getDatabaseType(), resultSets, (SelectStatement) getRouteResult().getSqlStatement(), getRouteResult().getLimit()).merge());
         } finally {
             setCurrentResultSet(null);
         }
@@ -113,6 +121,44 @@ public class ShardingStatement extends AbstractStatementAdapter {
         return result;
     }
     
+    /**
+     * 异步执行SQL查询.
+     * 
+     * <p>
+     * 路由与创建语句在调用线程完成, 执行与归并在执行线程完成.
+     * 归并结果集只通过Future返回, 不会成为{@link #getResultSet()}的当前结果集.
+     * 执行完成前, 本语句拒绝再次执行SQL, 并发的异步执行需使用各自的语句.
+     * </p>
+     * 
+     * @param sql SQL语句
+     * @return 归并结果集的Future
+     * @throws SQLException SQL异常
+     */
+    public ListenableFuture<ResultSet> executeQueryAsync(final String sql) throws SQLException {
+        try {
+            ListenableFuture<List<ResultSet>> resultSetsFuture = generateExecutor(sql).executeQueryAsync();
+            asyncExecution = resultSetsFuture;
+            return mergeAsync(resultSetsFuture, routeResult);
+        } finally {
+            setCurrentResultSet(null);
+        }
+    }
+    
+    protected final ListenableFuture<ResultSet> mergeAsync(final ListenableFuture<List<ResultSet>> resultSetsFuture, final SQLRouteResult sqlRouteResult) {
+        return Futures.transform(resultSetsFuture, new Function<List<ResultSet>, ResultSet>() {
+            
+            @Override
+            public ResultSet apply(final List<ResultSet> resultSets) {
+                try {
+                    return new ShardingResultSet(
+                            resultSets, new MergeEngine(shardingConnection.getShardingContext().getDatabaseType(), resultSets, (SelectStatement) sqlRouteResult.getSqlStatement(), sqlRouteResult.getLimit()).merge());
+                } catch (final SQLException ex) {
+                    throw new ShardingJdbcException(ex);
+                }
+            }
+        });
+    }
+    
     @Override
     public int executeUpdate(final String sql) throws SQLException {
         try {
@@ -122,6 +168,27 @@ public class ShardingStatement extends AbstractStatementAdapter {
         }
     }
     
+    /**
+     * 异步执行SQL更新.
+     * 
+     * <p>
+     * 执行完成前, 本语句拒绝再次执行SQL, 并发的异步执行需使用各自的语句.
+     * </p>
+     * 
+     * @param sql SQL语句
+     * @return 更新数量的Future
+     * @throws SQLException SQL异常
+     */
+    public ListenableFuture<Integer> executeUpdateAsync(final String sql) throws SQLException {
+        try {
+            ListenableFuture<Integer> result = generateExecutor(sql).executeUpdateAsync();
+            asyncExecution = result;
+            return result;
+        } finally {
+            setCurrentResultSet(null);
+        }
+    }
+    
     @Override
     public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
         if (RETURN_GENERATED_KEYS == autoGeneratedKeys) {
@@ -200,12 +267,14 @@ public class ShardingStatement extends AbstractStatementAdapter {
     }
     
     private StatementExecutor generateExecutor(final String sql) throws SQLException {
+        Preconditions.checkState(null == asyncExecution || asyncExecution.isDone(), "Cannot execute SQL while the previous asynchronous execution of this statement is running, please use another statement.");
+        asyncExecution = null;
         clearPrevious();
         routeResult = new StatementRoutingEngine(shardingConnection.getShardingContext()).route(sql);
         Collection<StatementUnit> statementUnits = new LinkedList<>();
+        Iterator<Connection> connections = shardingConnection.getExecutionConnections(routeResult.getExecutionUnits(), routeResult.getSqlStatement().getType()).iterator();
         for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            Statement statement = shardingConnection.getConnection(
-                    each.getDataSource(), routeResult.getSqlStatement().getType()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+            Statement statement = connections.next().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             replayMethodsInvocation(statement);
             statementUnits.add(new StatementUnit(each, statement));
             routedStatements.add(statement);
@@ -250,7 +319,7 @@ public class ShardingStatement extends AbstractStatementAdapter {
             resultSets.add(each.getResultSet());
         }
         currentResultSet = new ShardingResultSet(resultSets, new MergeEngine(
-                shardingConnection.getShardingContext().getDatabaseType(), resultSets, (SelectStatement) getRouteResult().getSqlStatement()).merge());
+                shardingConnection.getShardingContext().getDatabaseType(), resultSets, (SelectStatement) getRouteResult().getSqlStatement(), getRouteResult().getLimit()).merge());
         return currentResultSet;
     }
 }
@@ -19,11 +19,13 @@ package com.dangdang.ddframe.rdb.sharding.merger;
 
 import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
 import com.dangdang.ddframe.rdb.sharding.constant.OrderType;
+import com.dangdang.ddframe.rdb.sharding.merger.common.ColumnIndexes;
 import com.dangdang.ddframe.rdb.sharding.merger.groupby.GroupByMemoryResultSetMerger;
 import com.dangdang.ddframe.rdb.sharding.merger.groupby.GroupByStreamResultSetMerger;
 import com.dangdang.ddframe.rdb.sharding.merger.iterator.IteratorStreamResultSetMerger;
 import com.dangdang.ddframe.rdb.sharding.merger.limit.LimitDecoratorResultSetMerger;
 import com.dangdang.ddframe.rdb.sharding.merger.orderby.OrderByStreamResultSetMerger;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.limit.Limit;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectStatement;
 import com.dangdang.ddframe.rdb.sharding.util.SQLUtil;
 
@@ -47,12 +49,19 @@ public final class MergeEngine {
     
     private final SelectStatement selectStatement;
     
+    private final Limit limit;
+    
     private final Map<String, Integer> columnLabelIndexMap;
     
     public MergeEngine(final DatabaseType databaseType, final List<ResultSet> resultSets, final SelectStatement selectStatement) throws SQLException {
+        this(databaseType, resultSets, selectStatement, selectStatement.getLimit());
+    }
+    
+    public MergeEngine(final DatabaseType databaseType, final List<ResultSet> resultSets, final SelectStatement selectStatement, final Limit limit) throws SQLException {
         this.databaseType = databaseType;
         this.resultSets = resultSets;
         this.selectStatement = selectStatement;
+        this.limit = limit;
         columnLabelIndexMap = getColumnLabelIndexMap(resultSets.get(0));
     }
     
@@ -72,28 +81,27 @@ public final class MergeEngine {
      * @throws SQLException SQL异常
      */
     public ResultSetMerger merge() throws SQLException {
-        selectStatement.setIndexForItems(columnLabelIndexMap);
-        return decorate(build());
+        return decorate(build(new ColumnIndexes(selectStatement, columnLabelIndexMap)));
     }
     
-    private ResultSetMerger build() throws SQLException {
+    private ResultSetMerger build(final ColumnIndexes columnIndexes) throws SQLException {
         if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) {
             if (selectStatement.isSameGroupByAndOrderByItems()) {
-                return new GroupByStreamResultSetMerger(columnLabelIndexMap, resultSets, selectStatement, getNullOrderType());
+                return new GroupByStreamResultSetMerger(columnLabelIndexMap, resultSets, selectStatement, columnIndexes, getNullOrderType());
             } else {
-                return new GroupByMemoryResultSetMerger(columnLabelIndexMap, resultSets, selectStatement, getNullOrderType());
+                return new GroupByMemoryResultSetMerger(columnLabelIndexMap, resultSets, selectStatement, columnIndexes, getNullOrderType());
             }
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
-            return new OrderByStreamResultSetMerger(resultSets, selectStatement.getOrderByItems(), getNullOrderType());
+            return new OrderByStreamResultSetMerger(resultSets, selectStatement.getOrderByItems(), columnIndexes, getNullOrderType());
         }
         return new IteratorStreamResultSetMerger(resultSets);
     }
     
     private ResultSetMerger decorate(final ResultSetMerger resultSetMerger) throws SQLException {
         ResultSetMerger result = resultSetMerger;
-        if (null != selectStatement.getLimit()) {
-            result = new LimitDecoratorResultSetMerger(result, selectStatement.getLimit());
+        if (null != limit) {
+            result = new LimitDecoratorResultSetMerger(result, limit);
         }
         return result;
     }
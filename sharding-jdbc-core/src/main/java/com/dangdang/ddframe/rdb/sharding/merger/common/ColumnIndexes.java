@@ -0,0 +1,88 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.merger.common;
+
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.OrderItem;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.selectitem.AggregationSelectItem;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectStatement;
+import com.google.common.base.Preconditions;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 归并时使用的列索引.
+ * 
+ * <p>
+ * 每次归并根据结果集的列标签计算一次, 不回写到可在多线程间共享的SQL语句对象中.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ColumnIndexes {
+    
+    private final Map<Object, Integer> indexes = new IdentityHashMap<>();
+    
+    public ColumnIndexes(final SelectStatement selectStatement, final Map<String, Integer> columnLabelIndexMap) {
+        putAggregationItems(selectStatement, columnLabelIndexMap);
+        putOrderItems(selectStatement.getOrderByItems(), columnLabelIndexMap);
+        putOrderItems(selectStatement.getGroupByItems(), columnLabelIndexMap);
+    }
+    
+    private void putAggregationItems(final SelectStatement selectStatement, final Map<String, Integer> columnLabelIndexMap) {
+        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+            Preconditions.checkState(columnLabelIndexMap.containsKey(each.getColumnLabel()), String.format("Can't find index: %s, please add alias for aggregate selections", each));
+            indexes.put(each, columnLabelIndexMap.get(each.getColumnLabel()));
+            for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
+                Preconditions.checkState(columnLabelIndexMap.containsKey(derived.getColumnLabel()), String.format("Can't find index: %s", derived));
+                indexes.put(derived, columnLabelIndexMap.get(derived.getColumnLabel()));
+            }
+        }
+    }
+    
+    private void putOrderItems(final List<OrderItem> orderItems, final Map<String, Integer> columnLabelIndexMap) {
+        for (OrderItem each : orderItems) {
+            if (-1 != each.getIndex()) {
+                continue;
+            }
+            Preconditions.checkState(columnLabelIndexMap.containsKey(each.getColumnLabel()), String.format("Can't find index: %s", each));
+            indexes.put(each, columnLabelIndexMap.get(each.getColumnLabel()));
+        }
+    }
+    
+    /**
+     * 获取排序项的列索引.
+     * 
+     * @param orderItem 排序项
+     * @return 列索引
+     */
+    public int getIndex(final OrderItem orderItem) {
+        return -1 == orderItem.getIndex() ? indexes.get(orderItem) : orderItem.getIndex();
+    }
+    
+    /**
+     * 获取聚合选择项的列索引.
+     * 
+     * @param aggregationSelectItem 聚合选择项
+     * @return 列索引
+     */
+    public int getIndex(final AggregationSelectItem aggregationSelectItem) {
+        return indexes.get(aggregationSelectItem);
+    }
+}
@@ -19,6 +19,7 @@ package com.dangdang.ddframe.rdb.sharding.merger.groupby;
 
 import com.dangdang.ddframe.rdb.sharding.constant.OrderType;
 import com.dangdang.ddframe.rdb.sharding.merger.common.AbstractMemoryResultSetMerger;
+import com.dangdang.ddframe.rdb.sharding.merger.common.ColumnIndexes;
 import com.dangdang.ddframe.rdb.sharding.merger.common.MemoryResultSetRow;
 import com.dangdang.ddframe.rdb.sharding.merger.groupby.aggregation.AggregationUnit;
 import com.dangdang.ddframe.rdb.sharding.merger.groupby.aggregation.AggregationUnitFactory;
@@ -47,14 +48,17 @@ public final class GroupByMemoryResultSetMerger extends AbstractMemoryResultSetM
     
     private final SelectStatement selectStatement;
     
+    private final ColumnIndexes columnIndexes;
+    
     private final OrderType nullOrderType;
     
     private final Iterator<MemoryResultSetRow> memoryResultSetRows;
     
     public GroupByMemoryResultSetMerger(
-            final Map<String, Integer> labelAndIndexMap, final List<ResultSet> resultSets, final SelectStatement selectStatement, final OrderType nullOrderType) throws SQLException {
+            final Map<String, Integer> labelAndIndexMap, final List<ResultSet> resultSets, final SelectStatement selectStatement, final ColumnIndexes columnIndexes, final OrderType nullOrderType) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
+        this.columnIndexes = columnIndexes;
         this.nullOrderType = nullOrderType;
         memoryResultSetRows = init(resultSets);
     }
@@ -64,7 +68,7 @@ public final class GroupByMemoryResultSetMerger extends AbstractMemoryResultSetM
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
         for (ResultSet each : resultSets) {
             while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems(), columnIndexes);
                 initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
                 aggregate(each, groupByValue, aggregationMap);
             }
@@ -109,7 +113,7 @@ public final class GroupByMemoryResultSetMerger extends AbstractMemoryResultSetM
     }
     
     private Comparable<?> getAggregationValue(final ResultSet resultSet, final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = resultSet.getObject(aggregationSelectItem.getIndex());
+        Object result = resultSet.getObject(columnIndexes.getIndex(aggregationSelectItem));
         Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
         return (Comparable<?>) result;
     }
@@ -117,14 +121,14 @@ public final class GroupByMemoryResultSetMerger extends AbstractMemoryResultSetM
     private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryResultSetRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
         for (Entry<GroupByValue, MemoryResultSetRow> entry : dataMap.entrySet()) {
             for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+                entry.getValue().setCell(columnIndexes.getIndex(each), aggregationMap.get(entry.getKey()).get(each).getResult());
             }
         }
     }
     
     private List<MemoryResultSetRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryResultSetRow> dataMap) {
         List<MemoryResultSetRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(selectStatement, nullOrderType));
+        Collections.sort(result, new GroupByRowComparator(selectStatement, columnIndexes, nullOrderType));
         return result;
     }
     
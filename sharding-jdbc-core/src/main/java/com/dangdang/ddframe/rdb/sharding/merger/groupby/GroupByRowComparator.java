@@ -18,6 +18,7 @@
 package com.dangdang.ddframe.rdb.sharding.merger.groupby;
 
 import com.dangdang.ddframe.rdb.sharding.constant.OrderType;
+import com.dangdang.ddframe.rdb.sharding.merger.common.ColumnIndexes;
 import com.dangdang.ddframe.rdb.sharding.merger.common.MemoryResultSetRow;
 import com.dangdang.ddframe.rdb.sharding.merger.util.ResultSetUtil;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.OrderItem;
@@ -38,6 +39,8 @@ public final class GroupByRowComparator implements Comparator<MemoryResultSetRow
     
     private final SelectStatement selectStatement;
     
+    private final ColumnIndexes columnIndexes;
+    
     private final OrderType nullOrderType;
     
     @Override
@@ -50,9 +53,9 @@ public final class GroupByRowComparator implements Comparator<MemoryResultSetRow
     
     private int compare(final MemoryResultSetRow o1, final MemoryResultSetRow o2, final List<OrderItem> orderItems) {
         for (OrderItem each : orderItems) {
-            Object orderValue1 = o1.getCell(each.getIndex());
+            Object orderValue1 = o1.getCell(columnIndexes.getIndex(each));
             Preconditions.checkState(null == orderValue1 || orderValue1 instanceof Comparable, "Order by value must implements Comparable");
-            Object orderValue2 = o2.getCell(each.getIndex());
+            Object orderValue2 = o2.getCell(columnIndexes.getIndex(each));
             Preconditions.checkState(null == orderValue2 || orderValue2 instanceof Comparable, "Order by value must implements Comparable");
             int result = ResultSetUtil.compareTo((Comparable) orderValue1, (Comparable) orderValue2, each.getType(), nullOrderType);
             if (0 != result) {
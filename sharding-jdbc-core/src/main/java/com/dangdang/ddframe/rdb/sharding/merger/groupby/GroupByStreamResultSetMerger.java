@@ -18,6 +18,7 @@
 package com.dangdang.ddframe.rdb.sharding.merger.groupby;
 
 import com.dangdang.ddframe.rdb.sharding.constant.OrderType;
+import com.dangdang.ddframe.rdb.sharding.merger.common.ColumnIndexes;
 import com.dangdang.ddframe.rdb.sharding.merger.groupby.aggregation.AggregationUnit;
 import com.dangdang.ddframe.rdb.sharding.merger.groupby.aggregation.AggregationUnitFactory;
 import com.dangdang.ddframe.rdb.sharding.merger.orderby.OrderByStreamResultSetMerger;
@@ -47,17 +48,20 @@ public final class GroupByStreamResultSetMerger extends OrderByStreamResultSetMe
     
     private final SelectStatement selectStatement;
     
+    private final ColumnIndexes columnIndexes;
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
     
     public GroupByStreamResultSetMerger(
-            final Map<String, Integer> labelAndIndexMap, final List<ResultSet> resultSets, final SelectStatement selectStatement, final OrderType nullOrderType) throws SQLException {
-        super(resultSets, selectStatement.getOrderByItems(), nullOrderType);
+            final Map<String, Integer> labelAndIndexMap, final List<ResultSet> resultSets, final SelectStatement selectStatement, final ColumnIndexes columnIndexes, final OrderType nullOrderType) throws SQLException {
+        super(resultSets, selectStatement.getOrderByItems(), columnIndexes, nullOrderType);
         this.labelAndIndexMap = labelAndIndexMap;
         this.selectStatement = selectStatement;
+        this.columnIndexes = columnIndexes;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentResultSet(), selectStatement.getGroupByItems()).getGroupValues();
+        currentGroupByValues = getOrderByValuesQueue().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentResultSet(), selectStatement.getGroupByItems(), columnIndexes).getGroupValues();
     }
     
     @Override
@@ -70,7 +74,7 @@ public final class GroupByStreamResultSetMerger extends OrderByStreamResultSetMe
             super.next();
         }
         if (aggregateCurrentGroupByRowAndNext()) {
-            currentGroupByValues = new GroupByValue(getCurrentResultSet(), selectStatement.getGroupByItems()).getGroupValues();
+            currentGroupByValues = new GroupByValue(getCurrentResultSet(), selectStatement.getGroupByItems(), columnIndexes).getGroupValues();
         }
         return true;
     }
@@ -84,7 +88,7 @@ public final class GroupByStreamResultSetMerger extends OrderByStreamResultSetMe
                 return AggregationUnitFactory.create(input.getType());
             }
         });
-        while (currentGroupByValues.equals(new GroupByValue(getCurrentResultSet(), selectStatement.getGroupByItems()).getGroupValues())) {
+        while (currentGroupByValues.equals(new GroupByValue(getCurrentResultSet(), selectStatement.getGroupByItems(), columnIndexes).getGroupValues())) {
             aggregate(aggregationUnitMap);
             cacheCurrentRow();
             result = super.next();
@@ -117,14 +121,14 @@ public final class GroupByStreamResultSetMerger extends OrderByStreamResultSetMe
     }
     
     private Comparable<?> getAggregationValue(final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = getCurrentResultSet().getObject(aggregationSelectItem.getIndex());
+        Object result = getCurrentResultSet().getObject(columnIndexes.getIndex(aggregationSelectItem));
         Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
         return (Comparable<?>) result;
     }
     
     private void setAggregationValueToCurrentRow(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) {
         for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            currentRow.set(entry.getKey().getIndex() - 1, entry.getValue().getResult());
+            currentRow.set(columnIndexes.getIndex(entry.getKey()) - 1, entry.getValue().getResult());
         }
     }
     
@@ -17,6 +17,7 @@
 
 package com.dangdang.ddframe.rdb.sharding.merger.groupby;
 
+import com.dangdang.ddframe.rdb.sharding.merger.common.ColumnIndexes;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.OrderItem;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -37,14 +38,14 @@ public final class GroupByValue {
     
     private final List<?> groupValues;
     
-    public GroupByValue(final ResultSet resultSet, final List<OrderItem> groupByItems) throws SQLException {
-        groupValues = getGroupByValues(resultSet, groupByItems);
+    public GroupByValue(final ResultSet resultSet, final List<OrderItem> groupByItems, final ColumnIndexes columnIndexes) throws SQLException {
+        groupValues = getGroupByValues(resultSet, groupByItems, columnIndexes);
     }
     
-    private List<?> getGroupByValues(final ResultSet resultSet, final List<OrderItem> groupByItems) throws SQLException {
+    private List<?> getGroupByValues(final ResultSet resultSet, final List<OrderItem> groupByItems, final ColumnIndexes columnIndexes) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderItem each : groupByItems) {
-            result.add(resultSet.getObject(each.getIndex()));
+            result.add(resultSet.getObject(columnIndexes.getIndex(each)));
         }
         return result;
     }
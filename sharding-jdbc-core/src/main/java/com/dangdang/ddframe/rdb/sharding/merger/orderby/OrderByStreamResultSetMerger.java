@@ -19,6 +19,7 @@ package com.dangdang.ddframe.rdb.sharding.merger.orderby;
 
 import com.dangdang.ddframe.rdb.sharding.constant.OrderType;
 import com.dangdang.ddframe.rdb.sharding.merger.common.AbstractStreamResultSetMerger;
+import com.dangdang.ddframe.rdb.sharding.merger.common.ColumnIndexes;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.OrderItem;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -40,14 +41,18 @@ public class OrderByStreamResultSetMerger extends AbstractStreamResultSetMerger
     @Getter(AccessLevel.NONE)
     private final List<OrderItem> orderByItems;
     
+    @Getter(AccessLevel.NONE)
+    private final ColumnIndexes columnIndexes;
+    
     private final Queue<OrderByValue> orderByValuesQueue;
     
     private final OrderType nullOrderType;
     
     private boolean isFirstNext;
     
-    public OrderByStreamResultSetMerger(final List<ResultSet> resultSets, final List<OrderItem> orderByItems, final OrderType nullOrderType) throws SQLException {
+    public OrderByStreamResultSetMerger(final List<ResultSet> resultSets, final List<OrderItem> orderByItems, final ColumnIndexes columnIndexes, final OrderType nullOrderType) throws SQLException {
         this.orderByItems = orderByItems;
+        this.columnIndexes = columnIndexes;
         this.orderByValuesQueue = new PriorityQueue<>(resultSets.size());
         this.nullOrderType = nullOrderType;
         orderResultSetsToQueue(resultSets);
@@ -56,7 +61,7 @@ public class OrderByStreamResultSetMerger extends AbstractStreamResultSetMerger
     
     private void orderResultSetsToQueue(final List<ResultSet> resultSets) throws SQLException {
         for (ResultSet each : resultSets) {
-            OrderByValue orderByValue = new OrderByValue(each, orderByItems, nullOrderType);
+            OrderByValue orderByValue = new OrderByValue(each, orderByItems, columnIndexes, nullOrderType);
             if (orderByValue.next()) {
                 orderByValuesQueue.offer(orderByValue);
             }
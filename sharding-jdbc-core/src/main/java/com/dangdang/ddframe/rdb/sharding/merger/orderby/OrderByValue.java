@@ -18,6 +18,7 @@
 package com.dangdang.ddframe.rdb.sharding.merger.orderby;
 
 import com.dangdang.ddframe.rdb.sharding.constant.OrderType;
+import com.dangdang.ddframe.rdb.sharding.merger.common.ColumnIndexes;
 import com.dangdang.ddframe.rdb.sharding.merger.util.ResultSetUtil;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.OrderItem;
 import com.google.common.base.Preconditions;
@@ -43,6 +44,8 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<OrderItem> orderByItems;
     
+    private final ColumnIndexes columnIndexes;
+    
     private final OrderType nullOrderType;
     
     private List<Comparable<?>> orderValues;
@@ -62,7 +65,7 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     private List<Comparable<?>> getOrderValues() throws SQLException {
         List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
         for (OrderItem each : orderByItems) {
-            Object value = resultSet.getObject(each.getIndex());
+            Object value = resultSet.getObject(columnIndexes.getIndex(each));
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
             result.add((Comparable<?>) value);
         }
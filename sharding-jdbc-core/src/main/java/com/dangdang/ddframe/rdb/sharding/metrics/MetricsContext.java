@@ -22,6 +22,9 @@ import com.codahale.metrics.Slf4jReporter;
 import com.codahale.metrics.Timer;
 import com.dangdang.ddframe.rdb.sharding.config.ShardingProperties;
 import com.dangdang.ddframe.rdb.sharding.config.ShardingPropertiesConstant;
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.slf4j.LoggerFactory;
@@ -52,19 +55,45 @@ public final class MetricsContext {
      */
     public static void init(final ShardingProperties shardingProperties) {
         HOLDER.remove();
-        boolean metricsEnabled = shardingProperties.getValue(ShardingPropertiesConstant.METRICS_ENABLE);
-        if (!metricsEnabled) {
-            return;
+        Optional<MetricRegistry> metricRegistry = createMetricRegistry(shardingProperties);
+        if (metricRegistry.isPresent()) {
+            startReporter(shardingProperties, metricRegistry.get());
+            HOLDER.set(metricRegistry.get());
         }
+    }
+    
+    /**
+     * 创建度量注册表.
+     * 
+     * @param shardingProperties Sharding-JDBC的配置属性
+     * @return 度量注册表, 未开启度量时返回空
+     */
+    public static Optional<MetricRegistry> createMetricRegistry(final ShardingProperties shardingProperties) {
+        boolean metricsEnabled = shardingProperties.getValue(ShardingPropertiesConstant.METRICS_ENABLE);
+        return metricsEnabled ? Optional.of(new MetricRegistry()) : Optional.<MetricRegistry>absent();
+    }
+    
+    /**
+     * 启动定期将度量注册表输出至日志的报告器.
+     * 
+     * <p>
+     * 报告器使用独立的调度线程, 不再使用时需调用{@link Slf4jReporter#stop()}停止.
+     * </p>
+     * 
+     * @param shardingProperties Sharding-JDBC的配置属性
+     * @param metricRegistry 度量注册表
+     * @return 已启动的报告器
+     */
+    public static Slf4jReporter startReporter(final ShardingProperties shardingProperties, final MetricRegistry metricRegistry) {
         long period = shardingProperties.getValue(ShardingPropertiesConstant.METRICS_MILLISECONDS_PERIOD);
-        MetricRegistry metricRegistry = new MetricRegistry();
-        Slf4jReporter.forRegistry(metricRegistry)
+        Slf4jReporter result = Slf4jReporter.forRegistry(metricRegistry)
                 .outputTo(LoggerFactory.getLogger(LOGGER_NAME))
                 .convertRatesTo(TimeUnit.SECONDS)
                 .convertDurationsTo(TimeUnit.MILLISECONDS)
                 .withLoggingLevel(Slf4jReporter.LoggingLevel.DEBUG)
-                .build().start(period, TimeUnit.MILLISECONDS);
-        HOLDER.set(metricRegistry);
+                .build();
+        result.start(period, TimeUnit.MILLISECONDS);
+        return result;
     }
     
     /**
@@ -89,6 +118,29 @@ public final class MetricsContext {
         }
     }
     
+    /**
+     * 在Future完成时停止计时.
+     * 
+     * <p>
+     * 用于异步执行, 计时在调用线程开始, 在完成Future的线程停止.
+     * </p>
+     *
+     * @param context 计时上下文
+     * @param future 异步执行结果的Future
+     */
+    public static void stopOnCompletion(final Timer.Context context, final ListenableFuture<?> future) {
+        if (null == context) {
+            return;
+        }
+        future.addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                context.stop();
+            }
+        }, MoreExecutors.directExecutor());
+    }
+    
     /**
      * 清理数据.
      */
@@ -39,6 +39,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public final class SQLJudgeEngine {
     
+    private static final Dictionary DICTIONARY = new Dictionary();
+    
     private final String sql;
     
     /**
@@ -47,7 +49,7 @@ public final class SQLJudgeEngine {
      * @return SQL语句对象
      */
     public SQLStatement judge() {
-        Lexer lexer = new Lexer(sql, new Dictionary());
+        Lexer lexer = new Lexer(sql, DICTIONARY);
         lexer.nextToken();
         while (true) {
             TokenType tokenType = lexer.getCurrentToken().getType();
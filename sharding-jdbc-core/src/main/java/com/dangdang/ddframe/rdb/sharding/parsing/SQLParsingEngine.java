@@ -19,9 +19,16 @@ package com.dangdang.ddframe.rdb.sharding.parsing;
 
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
 import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.LexerFactory;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.mysql.MySQLLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.oracle.OracleLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.postgresql.PostgreSQLLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.sqlserver.SQLServerLexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.DefaultKeyword;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Symbol;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.SQLParser;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.SimpleSQLParser;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.mysql.MySQLParser;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.oracle.OracleParser;
@@ -32,10 +39,15 @@ import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.delete.DeleteP
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.insert.InsertParserFactory;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectParserFactory;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.update.UpdateParserFactory;
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 
 /**
  * SQL解析引擎.
+ * 
+ * <p>
+ * 数据库类型对应的方言只由{@code LexerFactory}决定, 解析器按词法解析器的方言创建.
+ * </p>
  *
  * @author zhangliang
  */
@@ -54,7 +66,14 @@ public final class SQLParsingEngine {
      * @return SQL语句对象
      */
     public SQLStatement parse() {
-        SQLParser sqlParser = getSQLParser();
+        Lexer lexer = LexerFactory.newInstance(dbType, sql);
+        lexer.record();
+        Optional<SQLStatement> simpleSQLStatement = new SimpleSQLParser(lexer, shardingRule).parse();
+        if (simpleSQLStatement.isPresent()) {
+            return simpleSQLStatement.get();
+        }
+        lexer.replay();
+        SQLParser sqlParser = getSQLParser(lexer);
         sqlParser.skipIfEqual(Symbol.SEMI);
         if (sqlParser.equalAny(DefaultKeyword.WITH)) {
             skipWith(sqlParser);
@@ -74,20 +93,20 @@ public final class SQLParsingEngine {
         throw new SQLParsingUnsupportedException(sqlParser.getLexer().getCurrentToken().getType());
     }
     
-    private SQLParser getSQLParser() {
-        switch (dbType) {
-            case H2:
-            case MySQL:
-                return new MySQLParser(sql, shardingRule);
-            case Oracle:
-                return new OracleParser(sql, shardingRule);
-            case SQLServer:
-                return new SQLServerParser(sql, shardingRule);
-            case PostgreSQL:
-                return new PostgreSQLParser(sql, shardingRule);
-            default:
-                throw new UnsupportedOperationException(dbType.name());
+    private SQLParser getSQLParser(final Lexer lexer) {
+        if (lexer instanceof MySQLLexer) {
+            return new MySQLParser(lexer, shardingRule);
+        }
+        if (lexer instanceof OracleLexer) {
+            return new OracleParser(lexer, shardingRule);
+        }
+        if (lexer instanceof SQLServerLexer) {
+            return new SQLServerParser(lexer, shardingRule);
+        }
+        if (lexer instanceof PostgreSQLLexer) {
+            return new PostgreSQLParser(lexer, shardingRule);
         }
+        throw new UnsupportedOperationException(dbType.name());
     }
     
     private void skipWith(final SQLParser sqlParser) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.cache;
+
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 解析结果缓存.
+ * 
+ * <p>
+ * 以数据库类型和逻辑SQL为键, 在数据源范围内共享解析后的SQL语句对象, 容量超过上限时按最近最少使用原则淘汰.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ParsingResultCache {
+    
+    private final Cache<CacheKey, SQLStatement> cache;
+    
+    public ParsingResultCache(final int maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * 获取缓存的SQL语句对象.
+     * 
+     * @param databaseType 数据库类型
+     * @param logicSQL 逻辑SQL
+     * @return SQL语句对象
+     */
+    public Optional<SQLStatement> getSQLStatement(final DatabaseType databaseType, final String logicSQL) {
+        return Optional.fromNullable(cache.getIfPresent(new CacheKey(databaseType, logicSQL)));
+    }
+    
+    /**
+     * 缓存SQL语句对象.
+     * 
+     * @param databaseType 数据库类型
+     * @param logicSQL 逻辑SQL
+     * @param sqlStatement SQL语句对象
+     */
+    public void put(final DatabaseType databaseType, final String logicSQL, final SQLStatement sqlStatement) {
+        cache.put(new CacheKey(databaseType, logicSQL), sqlStatement);
+    }
+    
+    /**
+     * 获取缓存命中次数.
+     * 
+     * @return 缓存命中次数
+     */
+    public long getHitCount() {
+        return getStats().hitCount();
+    }
+    
+    /**
+     * 获取缓存未命中次数.
+     * 
+     * @return 缓存未命中次数
+     */
+    public long getMissCount() {
+        return getStats().missCount();
+    }
+    
+    /**
+     * 获取缓存淘汰次数.
+     * 
+     * @return 缓存淘汰次数
+     */
+    public long getEvictionCount() {
+        return getStats().evictionCount();
+    }
+    
+    /**
+     * 获取缓存的SQL语句数量.
+     * 
+     * @return 缓存的SQL语句数量
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * 清空缓存.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    private CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final DatabaseType databaseType;
+        
+        private final String logicSQL;
+    }
+}
@@ -23,62 +23,102 @@ import com.dangdang.ddframe.rdb.sharding.parsing.lexer.analyzer.Tokenizer;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Assist;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Token;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * 词法解析器.
  * 
  * @author zhangliang 
  */
-@RequiredArgsConstructor
 public class Lexer {
     
     @Getter
     private final String input;
     
-    private final Dictionary dictionary;
+    private final Tokenizer tokenizer;
     
     private int offset;
     
     @Getter
     private Token currentToken;
     
+    private List<Token> recordedTokens;
+    
+    private Iterator<Token> replayingTokens;
+    
+    public Lexer(final String input, final Dictionary dictionary) {
+        this.input = input;
+        tokenizer = new Tokenizer(input, dictionary, 0);
+    }
+    
     /**
      * 分析下一个词法标记.
      */
     public final void nextToken() {
+        if (null != replayingTokens) {
+            if (replayingTokens.hasNext()) {
+                currentToken = replayingTokens.next();
+                return;
+            }
+            replayingTokens = null;
+        }
         skipIgnoredToken();
         if (isVariableBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanVariable();
+            currentToken = tokenizer.moveTo(offset).scanVariable();
         } else if (isNCharBegin()) {
-            currentToken = new Tokenizer(input, dictionary, ++offset).scanChars();
+            currentToken = tokenizer.moveTo(++offset).scanChars();
         } else if (isIdentifierBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanIdentifier();
+            currentToken = tokenizer.moveTo(offset).scanIdentifier();
         } else if (isHexDecimalBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanHexDecimal();
+            currentToken = tokenizer.moveTo(offset).scanHexDecimal();
         } else if (isNumberBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanNumber();
+            currentToken = tokenizer.moveTo(offset).scanNumber();
         } else if (isSymbolBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanSymbol();
+            currentToken = tokenizer.moveTo(offset).scanSymbol();
         } else if (isCharsBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanChars();
+            currentToken = tokenizer.moveTo(offset).scanChars();
         } else if (isEnd()) {
             currentToken = new Token(Assist.END, "", offset);
         } else {
             currentToken = new Token(Assist.ERROR, "", offset);
         }
         offset = currentToken.getEndPosition();
+        if (null != recordedTokens) {
+            recordedTokens.add(currentToken);
+        }
+    }
+    
+    /**
+     * 开始记录之后分析的词法标记.
+     */
+    public final void record() {
+        recordedTokens = new ArrayList<>();
+    }
+    
+    /**
+     * 重放记录的词法标记.
+     * 
+     * <p>
+     * 之后分析词法标记时先依次返回记录的词法标记, 全部返回后再继续分析剩余的输入, 使放弃解析的解析器已分析过的词法标记无需重新分析.
+     * </p>
+     */
+    public final void replay() {
+        replayingTokens = null == recordedTokens ? null : recordedTokens.iterator();
+        recordedTokens = null;
     }
     
     private void skipIgnoredToken() {
-        offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+        offset = tokenizer.moveTo(offset).skipWhitespace();
         while (isHintBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipHint();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            offset = tokenizer.moveTo(offset).skipHint();
+            offset = tokenizer.moveTo(offset).skipWhitespace();
         }
         while (isCommentBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipComment();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            offset = tokenizer.moveTo(offset).skipComment();
+            offset = tokenizer.moveTo(offset).skipWhitespace();
         }
     }
     
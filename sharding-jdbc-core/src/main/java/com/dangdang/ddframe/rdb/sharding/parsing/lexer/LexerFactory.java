@@ -0,0 +1,58 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.lexer;
+
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.mysql.MySQLLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.oracle.OracleLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.postgresql.PostgreSQLLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.sqlserver.SQLServerLexer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 词法解析器工厂.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LexerFactory {
+    
+    /**
+     * 创建词法解析器.
+     * 
+     * @param dbType 数据库类型
+     * @param sql SQL
+     * @return 词法解析器
+     */
+    public static Lexer newInstance(final DatabaseType dbType, final String sql) {
+        switch (dbType) {
+            case H2:
+            case MySQL:
+                return new MySQLLexer(sql);
+            case Oracle:
+                return new OracleLexer(sql);
+            case SQLServer:
+                return new SQLServerLexer(sql);
+            case PostgreSQL:
+                return new PostgreSQLLexer(sql);
+            default:
+                throw new UnsupportedOperationException(dbType.name());
+        }
+    }
+}
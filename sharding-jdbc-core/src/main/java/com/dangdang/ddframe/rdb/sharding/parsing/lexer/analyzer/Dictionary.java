@@ -21,17 +21,24 @@ import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.DefaultKeyword;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Keyword;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.TokenType;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * 词法标记字典.
+ * 
+ * <p>
+ * 关键词在构建字典时编译为大小写无关的字符前缀树, 查找时直接比对输入字符区间, 无需创建中间字符串.
+ * </p>
  *
  * @author zhangliang
  */
 public final class Dictionary {
     
-    private final Map<String, Keyword> tokens = new HashMap<>(1024);
+    private static final int LETTER_SIZE = 26;
+    
+    private static final int DIGITAL_SIZE = 10;
+    
+    private static final int CHILDREN_SIZE = LETTER_SIZE + DIGITAL_SIZE + 3;
+    
+    private final Node root = new Node();
     
     public Dictionary(final Keyword... dialectKeywords) {
         fill(dialectKeywords);
@@ -39,23 +46,87 @@ public final class Dictionary {
     
     private void fill(final Keyword... dialectKeywords) {
         for (DefaultKeyword each : DefaultKeyword.values()) {
-            tokens.put(each.name(), each);
+            put(each.name(), each);
         }
         for (Keyword each : dialectKeywords) {
-            tokens.put(each.toString(), each);
+            put(each.toString(), each);
+        }
+    }
+    
+    private void put(final String literals, final Keyword keyword) {
+        Node current = root;
+        for (int i = 0; i < literals.length(); i++) {
+            int index = indexOf(literals.charAt(i));
+            if (index < 0) {
+                throw new IllegalArgumentException(String.format("Unsupported keyword '%s'.", literals));
+            }
+            if (null == current.children[index]) {
+                current.children[index] = new Node();
+            }
+            current = current.children[index];
+        }
+        current.keyword = keyword;
+    }
+    
+    /**
+     * 查找输入字符区间对应的词法标记类型.
+     * 
+     * @param input 输入
+     * @param offset 起始偏移量
+     * @param length 长度
+     * @param defaultTokenType 非关键词时返回的默认词法标记类型
+     * @return 词法标记类型
+     */
+    public TokenType findTokenType(final String input, final int offset, final int length, final TokenType defaultTokenType) {
+        Node current = root;
+        for (int i = offset; i < offset + length; i++) {
+            int index = indexOf(input.charAt(i));
+            if (index < 0 || null == current.children[index]) {
+                return defaultTokenType;
+            }
+            current = current.children[index];
         }
+        return null == current.keyword ? defaultTokenType : current.keyword;
     }
     
     TokenType findTokenType(final String literals, final TokenType defaultTokenType) {
-        String key = null == literals ? null : literals.toUpperCase();
-        return tokens.containsKey(key) ? tokens.get(key) : defaultTokenType;
+        return null == literals ? defaultTokenType : findTokenType(literals, 0, literals.length(), defaultTokenType);
     }
     
     TokenType findTokenType(final String literals) {
-        String key = null == literals ? null : literals.toUpperCase();
-        if (tokens.containsKey(key)) {
-            return tokens.get(key);
+        TokenType result = findTokenType(literals, null);
+        if (null != result) {
+            return result;
         }
         throw new IllegalArgumentException();
     }
+    
+    private int indexOf(final char ch) {
+        if (ch >= 'A' && ch <= 'Z') {
+            return ch - 'A';
+        }
+        if (ch >= 'a' && ch <= 'z') {
+            return ch - 'a';
+        }
+        if (CharType.isDigital(ch)) {
+            return LETTER_SIZE + ch - '0';
+        }
+        switch (ch) {
+            case '_':
+                return LETTER_SIZE + DIGITAL_SIZE;
+            case '$':
+                return LETTER_SIZE + DIGITAL_SIZE + 1;
+            case '#':
+                return LETTER_SIZE + DIGITAL_SIZE + 2;
+            default:
+                return -1;
+        }
+    }
+    
+    private static final class Node {
+        
+        private final Node[] children = new Node[CHILDREN_SIZE];
+        
+        private Keyword keyword;
+    }
 }
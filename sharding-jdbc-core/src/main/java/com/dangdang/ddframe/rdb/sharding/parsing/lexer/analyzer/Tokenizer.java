@@ -18,18 +18,23 @@
 package com.dangdang.ddframe.rdb.sharding.parsing.lexer.analyzer;
 
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.DefaultKeyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Keyword;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Literals;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Symbol;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Token;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.TokenType;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 
 /**
  * 词法标记器.
+ * 
+ * <p>
+ * 标记器以游标方式工作, 通过{@link #moveTo(int)}移动扫描位置后可在同一输入上重复使用.
+ * </p>
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 public final class Tokenizer {
     
     private static final int MYSQL_SPECIAL_COMMENT_BEGIN_SYMBOL_LENGTH = 1;
@@ -46,7 +51,18 @@ public final class Tokenizer {
     
     private final Dictionary dictionary;
     
-    private final int offset;
+    private int offset;
+    
+    /**
+     * 移动扫描位置.
+     * 
+     * @param offset 偏移量
+     * @return 词法标记器
+     */
+    public Tokenizer moveTo(final int offset) {
+        this.offset = offset;
+        return this;
+    }
     
     /**
      * 跳过空格.
@@ -157,11 +173,22 @@ public final class Tokenizer {
         while (isIdentifierChar(charAt(offset + length))) {
             length++;
         }
-        String literals = input.substring(offset, offset + length);
-        if (isAmbiguousIdentifier(literals)) {
-            return new Token(processAmbiguousIdentifier(offset + length, literals), literals, offset + length);
+        if (isAmbiguousIdentifier(length)) {
+            TokenType tokenType = processAmbiguousIdentifier(offset + length);
+            return new Token(tokenType, getIdentifierLiterals(tokenType, length), offset + length);
         }
-        return new Token(dictionary.findTokenType(literals, Literals.IDENTIFIER), literals, offset + length);
+        TokenType tokenType = dictionary.findTokenType(input, offset, length, Literals.IDENTIFIER);
+        return new Token(tokenType, getIdentifierLiterals(tokenType, length), offset + length);
+    }
+    
+    private String getIdentifierLiterals(final TokenType tokenType, final int length) {
+        if (tokenType instanceof Keyword) {
+            String keywordLiterals = tokenType.toString();
+            if (keywordLiterals.length() == length && input.regionMatches(offset, keywordLiterals, 0, length)) {
+                return keywordLiterals;
+            }
+        }
+        return input.substring(offset, offset + length);
     }
     
     private int getLengthUntilTerminatedChar(final char terminatedChar) {
@@ -186,17 +213,21 @@ public final class Tokenizer {
         return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch || '#' == ch;
     }
     
-    private boolean isAmbiguousIdentifier(final String literals) {
-        return DefaultKeyword.ORDER.name().equalsIgnoreCase(literals) || DefaultKeyword.GROUP.name().equalsIgnoreCase(literals);
+    private boolean isAmbiguousIdentifier(final int length) {
+        return isKeywordAt(offset, length, DefaultKeyword.ORDER) || isKeywordAt(offset, length, DefaultKeyword.GROUP);
     }
     
-    private TokenType processAmbiguousIdentifier(final int offset, final String literals) {
+    private boolean isKeywordAt(final int offset, final int length, final DefaultKeyword keyword) {
+        return keyword.name().length() == length && input.regionMatches(true, offset, keyword.name(), 0, length);
+    }
+    
+    private TokenType processAmbiguousIdentifier(final int offset) {
         int i = 0;
         while (CharType.isWhitespace(charAt(offset + i))) {
             i++;
         }
-        if (DefaultKeyword.BY.name().equalsIgnoreCase(String.valueOf(new char[] {charAt(offset + i), charAt(offset + i + 1)}))) {
-            return dictionary.findTokenType(literals);
+        if (input.regionMatches(true, offset + i, DefaultKeyword.BY.name(), 0, DefaultKeyword.BY.name().length())) {
+            return dictionary.findTokenType(input, this.offset, offset - this.offset, Literals.IDENTIFIER);
         }
         return Literals.IDENTIFIER;
     }
@@ -295,12 +326,8 @@ public final class Tokenizer {
         while (CharType.isSymbol(charAt(offset + length))) {
             length++;
         }
-        String literals = input.substring(offset, offset + length);
-        Symbol symbol;
-        while (null == (symbol = Symbol.literalsOf(literals))) {
-            literals = input.substring(offset, offset + --length);
-        }
-        return new Token(symbol, literals, offset + length);
+        Symbol symbol = Symbol.matchesAt(input, offset, length);
+        return new Token(symbol, symbol.getLiterals(), offset + symbol.getLiterals().length());
     }
     
     private char charAt(final int index) {
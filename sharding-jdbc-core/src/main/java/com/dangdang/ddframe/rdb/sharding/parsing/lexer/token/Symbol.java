@@ -20,8 +20,13 @@ package com.dangdang.ddframe.rdb.sharding.parsing.lexer.token;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * 词法符号标记.
@@ -73,11 +78,32 @@ public enum Symbol implements TokenType {
     MONKEYS_AT("@"),
     POUND("#");
     
-    private static Map<String, Symbol> symbols = new HashMap<>(128);
+    private static final int FIRST_CHAR_INDEX_SIZE = 128;
+    
+    private static final Map<String, Symbol> SYMBOLS = new HashMap<>(128);
+    
+    private static final Symbol[][] SYMBOLS_BY_FIRST_CHAR = new Symbol[FIRST_CHAR_INDEX_SIZE][];
     
     static {
+        Map<Character, List<Symbol>> groups = new HashMap<>(FIRST_CHAR_INDEX_SIZE);
         for (Symbol each : Symbol.values()) {
-            symbols.put(each.getLiterals(), each);
+            SYMBOLS.put(each.getLiterals(), each);
+            char firstChar = each.getLiterals().charAt(0);
+            if (!groups.containsKey(firstChar)) {
+                groups.put(firstChar, new ArrayList<Symbol>());
+            }
+            groups.get(firstChar).add(each);
+        }
+        for (Entry<Character, List<Symbol>> entry : groups.entrySet()) {
+            List<Symbol> candidates = entry.getValue();
+            Collections.sort(candidates, new Comparator<Symbol>() {
+                
+                @Override
+                public int compare(final Symbol o1, final Symbol o2) {
+                    return o2.getLiterals().length() - o1.getLiterals().length();
+                }
+            });
+            SYMBOLS_BY_FIRST_CHAR[entry.getKey()] = candidates.toArray(new Symbol[candidates.size()]);
         }
     }
     
@@ -90,6 +116,32 @@ public enum Symbol implements TokenType {
      * @return 词法符号
      */
     public static Symbol literalsOf(final String literals) {
-        return symbols.get(literals);
+        return SYMBOLS.get(literals);
+    }
+    
+    /**
+     * 在输入的指定位置按最长匹配查找词法符号.
+     * 
+     * <p>
+     * 直接比对输入字符, 不创建中间字符串.
+     * </p>
+     * 
+     * @param input 输入
+     * @param offset 起始偏移量
+     * @param maxLength 最大符号长度
+     * @return 词法符号
+     */
+    public static Symbol matchesAt(final String input, final int offset, final int maxLength) {
+        char firstChar = input.charAt(offset);
+        Symbol[] candidates = firstChar < FIRST_CHAR_INDEX_SIZE ? SYMBOLS_BY_FIRST_CHAR[firstChar] : null;
+        if (null != candidates) {
+            for (Symbol each : candidates) {
+                int length = each.getLiterals().length();
+                if (length <= maxLength && input.regionMatches(offset, each.getLiterals(), 0, length)) {
+                    return each;
+                }
+            }
+        }
+        throw new IllegalArgumentException(String.format("Can not find symbol at position %s of '%s'.", offset, input));
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.normalize;
+
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.LexerFactory;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Assist;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Symbol;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 规范化后的SQL.
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class NormalizedSQL {
+    
+    @Getter(AccessLevel.NONE)
+    private final DatabaseType dbType;
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    @Getter(AccessLevel.NONE)
+    private final List<String> literals;
+    
+    /**
+     * 判断是否提取了参数.
+     * 
+     * @return 是否提取了参数
+     */
+    public boolean isParameterized() {
+        return !parameters.isEmpty();
+    }
+    
+    /**
+     * 将改写后SQL中的占位符还原为字面量.
+     * 
+     * <p>
+     * 未被路由改写的参数还原为原始字面量, 被改写的参数(如分页值和自动生成键)按新值输出.
+     * </p>
+     * 
+     * @param rewrittenSQL 改写后的SQL
+     * @param actualParameters 路由后的参数列表
+     * @return 还原字面量后的SQL
+     */
+    public String restore(final String rewrittenSQL, final List<Object> actualParameters) {
+        StringBuilder result = new StringBuilder(rewrittenSQL.length() + 16 * actualParameters.size());
+        Lexer lexer = LexerFactory.newInstance(dbType, rewrittenSQL);
+        int copiedPosition = 0;
+        int parameterIndex = 0;
+        lexer.nextToken();
+        while (Assist.END != lexer.getCurrentToken().getType() && Assist.ERROR != lexer.getCurrentToken().getType()) {
+            if (Symbol.QUESTION == lexer.getCurrentToken().getType() && parameterIndex < actualParameters.size()) {
+                int beginPosition = lexer.getCurrentToken().getEndPosition() - 1;
+                result.append(rewrittenSQL, copiedPosition, beginPosition).append(getLiterals(parameterIndex, actualParameters.get(parameterIndex)));
+                copiedPosition = lexer.getCurrentToken().getEndPosition();
+                parameterIndex++;
+            }
+            lexer.nextToken();
+        }
+        result.append(rewrittenSQL, copiedPosition, rewrittenSQL.length());
+        return result.toString();
+    }
+    
+    private String getLiterals(final int parameterIndex, final Object actualParameter) {
+        if (parameterIndex < parameters.size() && actualParameter == parameters.get(parameterIndex)) {
+            return literals.get(parameterIndex);
+        }
+        if (actualParameter instanceof Number) {
+            return actualParameter.toString();
+        }
+        return "'" + actualParameter.toString().replace("'", "''") + "'";
+    }
+}
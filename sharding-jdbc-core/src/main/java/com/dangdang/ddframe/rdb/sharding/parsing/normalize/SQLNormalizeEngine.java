@@ -0,0 +1,216 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.normalize;
+
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.LexerFactory;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.mysql.MySQLKeyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.oracle.OracleKeyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.postgresql.PostgreSQLKeyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.sqlserver.SQLServerKeyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Assist;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.DefaultKeyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Keyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Literals;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Symbol;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Token;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.TokenType;
+import com.dangdang.ddframe.rdb.sharding.util.NumberUtil;
+import com.google.common.collect.Sets;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SQL规范化引擎.
+ * 
+ * <p>
+ * 将字面量SQL中处于条件值, 更新值, 插入值及分页值位置的整数和字符串替换为占位符, 并提取为参数列表,
+ * 使拼接字面量的SQL与预编译SQL一样可以命中解析缓存.
+ * 提取的参数与解析字面量得到的值类型一致, 小数保持字面量不变, 以免分片算法收到与未规范化时不同类型的分片值.
+ * 包含子查询或已包含占位符的SQL不做规范化, 插入语句在插入值之后的部分保持字面量不变, 以保证自动生成键的占位符位于参数末尾.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class SQLNormalizeEngine {
+    
+    private static final Set<TokenType> STATEMENT_BEGIN_KEYWORDS = Sets.<TokenType>newHashSet(DefaultKeyword.SELECT, DefaultKeyword.INSERT, DefaultKeyword.UPDATE, DefaultKeyword.DELETE);
+    
+    private static final Set<TokenType> VALUE_LITERALS = Sets.<TokenType>newHashSet(Literals.INT, Literals.CHARS);
+    
+    private static final Set<TokenType> COMPARISON_OPERATORS = Sets.<TokenType>newHashSet(
+            Symbol.EQ, Symbol.LT_GT, Symbol.BANG_EQ, Symbol.LT, Symbol.GT, Symbol.LT_EQ, Symbol.GT_EQ, DefaultKeyword.LIKE, DefaultKeyword.BETWEEN);
+    
+    private static final Set<TokenType> VALUE_END_SYMBOLS = Sets.<TokenType>newHashSet(Assist.END, Symbol.SEMI, Symbol.COMMA, Symbol.RIGHT_PAREN);
+    
+    private static final Set<TokenType> CLAUSE_END_KEYWORDS = Sets.<TokenType>newHashSet(
+            DefaultKeyword.FROM, DefaultKeyword.INTO, DefaultKeyword.JOIN, DefaultKeyword.ON, DefaultKeyword.USING, DefaultKeyword.GROUP, DefaultKeyword.ORDER, DefaultKeyword.HAVING, 
+            DefaultKeyword.UNION, DefaultKeyword.EXCEPT, DefaultKeyword.INTERSECT, DefaultKeyword.MINUS, DefaultKeyword.FOR, DefaultKeyword.UPDATE, DefaultKeyword.FETCH, 
+            OracleKeyword.RETURNING, OracleKeyword.CONNECT, OracleKeyword.START, OracleKeyword.MODEL, OracleKeyword.LIMIT, PostgreSQLKeyword.RETURNING, SQLServerKeyword.OFFSET);
+    
+    private static final Set<TokenType> LIMIT_KEYWORDS = Sets.<TokenType>newHashSet(MySQLKeyword.LIMIT, MySQLKeyword.OFFSET, PostgreSQLKeyword.LIMIT, PostgreSQLKeyword.OFFSET);
+    
+    private final DatabaseType dbType;
+    
+    private final String sql;
+    
+    /**
+     * 规范化SQL.
+     * 
+     * @return 规范化后的SQL
+     */
+    public NormalizedSQL normalize() {
+        List<Token> tokens = tokenize();
+        if (!isNormalizable(tokens)) {
+            return new NormalizedSQL(dbType, sql, Collections.emptyList(), Collections.<String>emptyList());
+        }
+        StringBuilder template = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        List<Boolean> inListParentheses = new ArrayList<>();
+        boolean isInsert = DefaultKeyword.INSERT == tokens.get(0).getType();
+        Clause clause = Clause.NONE;
+        int depth = 0;
+        int copiedPosition = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            TokenType tokenType = tokens.get(i).getType();
+            if (Symbol.LEFT_PAREN == tokenType) {
+                depth++;
+                inListParentheses.add(0, DefaultKeyword.IN == tokens.get(i - 1).getType());
+            } else if (Symbol.RIGHT_PAREN == tokenType) {
+                depth--;
+                if (!inListParentheses.isEmpty()) {
+                    inListParentheses.remove(0);
+                }
+            } else if (0 == depth && tokenType instanceof Keyword) {
+                Clause nextClause = getClause(clause, tokenType);
+                if (isInsert && Clause.NONE == nextClause && (Clause.VALUES == clause || Clause.SET == clause)) {
+                    break;
+                }
+                clause = nextClause;
+            } else if (VALUE_LITERALS.contains(tokenType) && isParameter(tokens, i, clause, depth, !inListParentheses.isEmpty() && inListParentheses.get(0))) {
+                int beginPosition = getBeginPosition(tokens.get(i));
+                template.append(sql, copiedPosition, beginPosition).append(Symbol.QUESTION.getLiterals());
+                parameters.add(getParameter(tokens.get(i)));
+                literals.add(sql.substring(beginPosition, tokens.get(i).getEndPosition()));
+                copiedPosition = tokens.get(i).getEndPosition();
+            }
+        }
+        if (parameters.isEmpty()) {
+            return new NormalizedSQL(dbType, sql, Collections.emptyList(), Collections.<String>emptyList());
+        }
+        template.append(sql, copiedPosition, sql.length());
+        return new NormalizedSQL(dbType, template.toString(), Collections.unmodifiableList(parameters), Collections.unmodifiableList(literals));
+    }
+    
+    private List<Token> tokenize() {
+        List<Token> result = new ArrayList<>();
+        Lexer lexer = LexerFactory.newInstance(dbType, sql);
+        do {
+            lexer.nextToken();
+            result.add(lexer.getCurrentToken());
+        } while (Assist.END != lexer.getCurrentToken().getType() && Assist.ERROR != lexer.getCurrentToken().getType());
+        return result;
+    }
+    
+    private boolean isNormalizable(final List<Token> tokens) {
+        if (!STATEMENT_BEGIN_KEYWORDS.contains(tokens.get(0).getType())) {
+            return false;
+        }
+        int depth = 0;
+        for (Token each : tokens) {
+            if (Assist.ERROR == each.getType() || Symbol.QUESTION == each.getType()) {
+                return false;
+            }
+            if (Symbol.LEFT_PAREN == each.getType()) {
+                depth++;
+            } else if (Symbol.RIGHT_PAREN == each.getType()) {
+                depth--;
+            } else if (depth > 0 && DefaultKeyword.SELECT == each.getType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Clause getClause(final Clause clause, final TokenType keyword) {
+        if (DefaultKeyword.WHERE == keyword) {
+            return Clause.WHERE;
+        }
+        if (DefaultKeyword.SET == keyword) {
+            return Clause.SET;
+        }
+        if (DefaultKeyword.VALUES == keyword) {
+            return Clause.VALUES;
+        }
+        if (LIMIT_KEYWORDS.contains(keyword)) {
+            return Clause.LIMIT;
+        }
+        return CLAUSE_END_KEYWORDS.contains(keyword) ? Clause.NONE : clause;
+    }
+    
+    private boolean isParameter(final List<Token> tokens, final int index, final Clause clause, final int depth, final boolean inList) {
+        TokenType previous = tokens.get(index - 1).getType();
+        TokenType next = tokens.get(index + 1).getType();
+        if (!VALUE_END_SYMBOLS.contains(next) && !(next instanceof Keyword) || isNationalChars(tokens.get(index))) {
+            return false;
+        }
+        switch (clause) {
+            case WHERE:
+                return COMPARISON_OPERATORS.contains(previous) || isBetweenUpperBound(tokens, index) || inList && (Symbol.LEFT_PAREN == previous || Symbol.COMMA == previous);
+            case SET:
+                return 0 == depth && Symbol.EQ == previous;
+            case VALUES:
+                return 1 == depth && (Symbol.LEFT_PAREN == previous || Symbol.COMMA == previous) && (Symbol.COMMA == next || Symbol.RIGHT_PAREN == next);
+            case LIMIT:
+                return 0 == depth && Literals.INT == tokens.get(index).getType() && (previous instanceof Keyword || Symbol.COMMA == previous);
+            default:
+                return false;
+        }
+    }
+    
+    private boolean isBetweenUpperBound(final List<Token> tokens, final int index) {
+        return index >= 3 && DefaultKeyword.AND == tokens.get(index - 1).getType()
+                && VALUE_LITERALS.contains(tokens.get(index - 2).getType()) && DefaultKeyword.BETWEEN == tokens.get(index - 3).getType();
+    }
+    
+    private boolean isNationalChars(final Token token) {
+        int beginPosition = getBeginPosition(token);
+        return Literals.CHARS == token.getType() && beginPosition > 0 && Character.isLetter(sql.charAt(beginPosition - 1));
+    }
+    
+    private int getBeginPosition(final Token token) {
+        int quotesLength = Literals.CHARS == token.getType() ? 2 : 0;
+        return token.getEndPosition() - token.getLiterals().length() - quotesLength;
+    }
+    
+    private Object getParameter(final Token token) {
+        return Literals.INT == token.getType() ? NumberUtil.getExactlyNumber(token.getLiterals(), 10) : token.getLiterals();
+    }
+    
+    private enum Clause {
+        
+        NONE, WHERE, SET, VALUES, LIMIT
+    }
+}
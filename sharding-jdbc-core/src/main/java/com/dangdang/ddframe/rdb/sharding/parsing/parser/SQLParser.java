@@ -18,17 +18,18 @@
 package com.dangdang.ddframe.rdb.sharding.parsing.parser;
 
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.constant.ShardingOperator;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.DefaultKeyword;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Literals;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Symbol;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Column;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Condition;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Conditions;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.limit.Limit;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.limit.LimitValue;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.table.Table;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.table.Tables;
-import com.dangdang.ddframe.rdb.sharding.parsing.parser.exception.SQLParsingUnsupportedException;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLExpression;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLIdentifierExpression;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLIgnoreExpression;
@@ -249,36 +250,62 @@ public class SQLParser extends AbstractParser {
     public final void parseWhere(final SQLStatement sqlStatement) {
         parseAlias();
         if (skipIfEqual(DefaultKeyword.WHERE)) {
-            parseConditions(sqlStatement);
+            sqlStatement.getConditions().and(parseOrConditions(sqlStatement));
         }
     }
     
-    private void parseConditions(final SQLStatement sqlStatement) {
+    private Conditions parseOrConditions(final SQLStatement sqlStatement) {
+        Conditions result = parseAndConditions(sqlStatement);
+        while (skipIfEqual(DefaultKeyword.OR)) {
+            result.or(parseAndConditions(sqlStatement));
+        }
+        return result;
+    }
+    
+    private Conditions parseAndConditions(final SQLStatement sqlStatement) {
+        Conditions result = new Conditions();
         do {
-            parseComparisonCondition(sqlStatement);
+            result.and(parsePrimaryConditions(sqlStatement));
         } while (skipIfEqual(DefaultKeyword.AND));
-        if (equalAny(DefaultKeyword.OR)) {
-            throw new SQLParsingUnsupportedException(getLexer().getCurrentToken().getType());
+        return result;
+    }
+    
+    private Conditions parsePrimaryConditions(final SQLStatement sqlStatement) {
+        Conditions result;
+        if (skipIfEqual(Symbol.LEFT_PAREN)) {
+            result = parseOrConditions(sqlStatement);
+            accept(Symbol.RIGHT_PAREN);
+        } else {
+            result = new Conditions();
+            parseComparisonCondition(sqlStatement, result);
         }
+        return result;
     }
     
-    // TODO 解析组合expr
+    /**
+     * 解析比较条件.
+     *
+     * @param sqlStatement SQL语句对象
+     */
     public final void parseComparisonCondition(final SQLStatement sqlStatement) {
         skipIfEqual(Symbol.LEFT_PAREN);
+        parseComparisonCondition(sqlStatement, sqlStatement.getConditions());
+        skipIfEqual(Symbol.RIGHT_PAREN);
+    }
+    
+    // TODO 解析组合expr
+    private void parseComparisonCondition(final SQLStatement sqlStatement, final Conditions conditions) {
         SQLExpression left = parseExpression(sqlStatement);
         if (equalAny(Symbol.EQ)) {
-            parseEqualCondition(sqlStatement, left);
-            skipIfEqual(Symbol.RIGHT_PAREN);
+            parseEqualCondition(sqlStatement, conditions, left);
             return;
         }
         if (equalAny(DefaultKeyword.IN)) {
-            parseInCondition(sqlStatement, left);
-            skipIfEqual(Symbol.RIGHT_PAREN);
+            parseInCondition(sqlStatement, conditions, left);
             return;
         }
         if (equalAny(DefaultKeyword.BETWEEN)) {
-            parseBetweenCondition(sqlStatement, left);
-            skipIfEqual(Symbol.RIGHT_PAREN);
+            parseBetweenCondition(sqlStatement, conditions, left);
             return;
         }
         if (equalAny(Symbol.LT, Symbol.GT, Symbol.LT_EQ, Symbol.GT_EQ)) {
@@ -289,15 +316,14 @@ public class SQLParser extends AbstractParser {
                     && isRowNumberCondition((SelectStatement) sqlStatement, ((SQLPropertyExpression) left).getName())) {
                 parseRowNumberCondition((SelectStatement) sqlStatement);
             } else {
-                parseOtherCondition(sqlStatement);
+                parseRangeCondition(sqlStatement, conditions, left);
             }
         } else if (equalAny(DefaultKeyword.LIKE)) {
             parseOtherCondition(sqlStatement);
         }
-        skipIfEqual(Symbol.RIGHT_PAREN);
     }
     
-    private void parseEqualCondition(final SQLStatement sqlStatement, final SQLExpression left) {
+    private void parseEqualCondition(final SQLStatement sqlStatement, final Conditions conditions, final SQLExpression left) {
         getLexer().nextToken();
         SQLExpression right = parseExpression(sqlStatement);
         // TODO 如果有多表,且找不到column是哪个表的,则不加入condition,以后需要解析binding table
@@ -305,12 +331,12 @@ public class SQLParser extends AbstractParser {
                 && (right instanceof SQLNumberExpression || right instanceof SQLTextExpression || right instanceof SQLPlaceholderExpression)) {
             Optional<Column> column = find(sqlStatement.getTables(), left);
             if (column.isPresent()) {
-                sqlStatement.getConditions().add(new Condition(column.get(), right), shardingRule);
+                conditions.add(new Condition(column.get(), right), shardingRule);
             }
         }
     }
     
-    private void parseInCondition(final SQLStatement sqlStatement, final SQLExpression left) {
+    private void parseInCondition(final SQLStatement sqlStatement, final Conditions conditions, final SQLExpression left) {
         getLexer().nextToken();
         accept(Symbol.LEFT_PAREN);
         List<SQLExpression> rights = new LinkedList<>();
@@ -322,12 +348,12 @@ public class SQLParser extends AbstractParser {
         } while (!equalAny(Symbol.RIGHT_PAREN));
         Optional<Column> column = find(sqlStatement.getTables(), left);
         if (column.isPresent()) {
-            sqlStatement.getConditions().add(new Condition(column.get(), rights), shardingRule);
+            conditions.add(new Condition(column.get(), rights), shardingRule);
         }
         getLexer().nextToken();
     }
     
-    private void parseBetweenCondition(final SQLStatement sqlStatement, final SQLExpression left) {
+    private void parseBetweenCondition(final SQLStatement sqlStatement, final Conditions conditions, final SQLExpression left) {
         getLexer().nextToken();
         List<SQLExpression> rights = new LinkedList<>();
         rights.add(parseExpression(sqlStatement));
@@ -335,7 +361,35 @@ public class SQLParser extends AbstractParser {
         rights.add(parseExpression(sqlStatement));
         Optional<Column> column = find(sqlStatement.getTables(), left);
         if (column.isPresent()) {
-            sqlStatement.getConditions().add(new Condition(column.get(), rights.get(0), rights.get(1)), shardingRule);
+            conditions.add(new Condition(column.get(), rights.get(0), rights.get(1)), shardingRule);
+        }
+    }
+    
+    private void parseRangeCondition(final SQLStatement sqlStatement, final Conditions conditions, final SQLExpression left) {
+        ShardingOperator operator = getRangeOperator((Symbol) getLexer().getCurrentToken().getType());
+        getLexer().nextToken();
+        SQLExpression right = parseExpression(sqlStatement);
+        if ((sqlStatement.getTables().isSingleTable() || left instanceof SQLPropertyExpression)
+                && (right instanceof SQLNumberExpression || right instanceof SQLTextExpression || right instanceof SQLPlaceholderExpression)) {
+            Optional<Column> column = find(sqlStatement.getTables(), left);
+            if (column.isPresent()) {
+                conditions.add(new Condition(column.get(), operator, right), shardingRule);
+            }
+        }
+    }
+    
+    private ShardingOperator getRangeOperator(final Symbol symbol) {
+        switch (symbol) {
+            case LT:
+                return ShardingOperator.LESS_THAN;
+            case LT_EQ:
+                return ShardingOperator.LESS_THAN_OR_EQUAL;
+            case GT:
+                return ShardingOperator.GREATER_THAN;
+            case GT_EQ:
+                return ShardingOperator.GREATER_THAN_OR_EQUAL;
+            default:
+                throw new UnsupportedOperationException(symbol.getLiterals());
         }
     }
     
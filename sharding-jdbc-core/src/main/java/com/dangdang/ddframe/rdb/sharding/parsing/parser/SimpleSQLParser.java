@@ -0,0 +1,265 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.parser;
+
+import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Assist;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.DefaultKeyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Literals;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Symbol;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Column;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Condition;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.selectitem.CommonSelectItem;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.table.Table;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLExpression;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLNumberExpression;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLPlaceholderExpression;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLTextExpression;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.delete.DeleteStatement;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectStatement;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.update.UpdateStatement;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.token.TableToken;
+import com.dangdang.ddframe.rdb.sharding.util.NumberUtil;
+import com.dangdang.ddframe.rdb.sharding.util.SQLUtil;
+import com.google.common.base.Optional;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * 简单SQL解析器.
+ * 
+ * <p>
+ * 仅识别单表且只包含等值或IN条件的查询, 更新和删除语句, 只解析路由和改写所需的表, 分片条件和表标记.
+ * 遇到无法识别的词法标记时放弃解析, 由完整的SQL解析器重放已分析的词法标记并继续解析, 不重复词法分析.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class SimpleSQLParser extends AbstractParser {
+    
+    private final ShardingRule shardingRule;
+    
+    public SimpleSQLParser(final Lexer lexer, final ShardingRule shardingRule) {
+        super(lexer);
+        this.shardingRule = shardingRule;
+        getLexer().nextToken();
+    }
+    
+    /**
+     * 解析SQL.
+     * 
+     * @return SQL语句对象, 无法识别时返回空
+     */
+    public Optional<SQLStatement> parse() {
+        if (equalAny(DefaultKeyword.SELECT)) {
+            return parseSelect();
+        }
+        if (equalAny(DefaultKeyword.UPDATE)) {
+            return parseUpdate();
+        }
+        if (equalAny(DefaultKeyword.DELETE)) {
+            return parseDelete();
+        }
+        return Optional.absent();
+    }
+    
+    private Optional<SQLStatement> parseSelect() {
+        SelectStatement result = new SelectStatement();
+        getLexer().nextToken();
+        do {
+            if (!parseSelectItem(result)) {
+                return Optional.absent();
+            }
+        } while (skipIfEqual(Symbol.COMMA));
+        if (!equalAny(DefaultKeyword.FROM)) {
+            return Optional.absent();
+        }
+        result.setSelectListLastPosition(getBeginPosition());
+        getLexer().nextToken();
+        return parseSingleTable(result) && parseWhere(result) ? Optional.<SQLStatement>of(result) : Optional.<SQLStatement>absent();
+    }
+    
+    private boolean parseSelectItem(final SelectStatement selectStatement) {
+        if (skipIfEqual(Symbol.STAR)) {
+            selectStatement.setContainStar(true);
+            selectStatement.getItems().add(new CommonSelectItem(Symbol.STAR.getLiterals(), Optional.<String>absent()));
+            return true;
+        }
+        if (!equalAny(Literals.IDENTIFIER)) {
+            return false;
+        }
+        int beginPosition = getBeginPosition();
+        String literals = getLexer().getCurrentToken().getLiterals();
+        getLexer().nextToken();
+        if (!skipIfEqual(Symbol.DOT)) {
+            selectStatement.getItems().add(new CommonSelectItem(SQLUtil.getExactlyValue(literals), Optional.<String>absent()));
+            return true;
+        }
+        if (!equalAny(Literals.IDENTIFIER)) {
+            return false;
+        }
+        selectStatement.getSqlTokens().add(new TableToken(beginPosition, literals));
+        selectStatement.getItems().add(new CommonSelectItem(
+                SQLUtil.getExactlyValue(literals + Symbol.DOT.getLiterals() + getLexer().getCurrentToken().getLiterals()), Optional.<String>absent()));
+        getLexer().nextToken();
+        return true;
+    }
+    
+    private Optional<SQLStatement> parseUpdate() {
+        UpdateStatement result = new UpdateStatement();
+        getLexer().nextToken();
+        if (!parseSingleTable(result) || !skipIfEqual(DefaultKeyword.SET)) {
+            return Optional.absent();
+        }
+        do {
+            if (!parseSetItem(result)) {
+                return Optional.absent();
+            }
+        } while (skipIfEqual(Symbol.COMMA));
+        return parseWhere(result) ? Optional.<SQLStatement>of(result) : Optional.<SQLStatement>absent();
+    }
+    
+    private boolean parseSetItem(final UpdateStatement updateStatement) {
+        if (!equalAny(Literals.IDENTIFIER)) {
+            return false;
+        }
+        int beginPosition = getBeginPosition();
+        String literals = getLexer().getCurrentToken().getLiterals();
+        getLexer().nextToken();
+        if (skipIfEqual(Symbol.DOT)) {
+            if (!equalAny(Literals.IDENTIFIER)) {
+                return false;
+            }
+            if (updateStatement.getTables().getSingleTableName().equalsIgnoreCase(SQLUtil.getExactlyValue(literals))) {
+                updateStatement.getSqlTokens().add(new TableToken(beginPosition, literals));
+            }
+            getLexer().nextToken();
+        }
+        return skipIfEqual(Symbol.EQ) && parseValue().isPresent();
+    }
+    
+    private Optional<SQLStatement> parseDelete() {
+        DeleteStatement result = new DeleteStatement();
+        getLexer().nextToken();
+        if (!skipIfEqual(DefaultKeyword.FROM)) {
+            return Optional.absent();
+        }
+        return parseSingleTable(result) && parseWhere(result) ? Optional.<SQLStatement>of(result) : Optional.<SQLStatement>absent();
+    }
+    
+    private boolean parseSingleTable(final SQLStatement sqlStatement) {
+        if (!equalAny(Literals.IDENTIFIER)) {
+            return false;
+        }
+        int beginPosition = getBeginPosition();
+        String literals = getLexer().getCurrentToken().getLiterals();
+        getLexer().nextToken();
+        if (equalAny(Symbol.DOT)) {
+            return false;
+        }
+        sqlStatement.getSqlTokens().add(new TableToken(beginPosition, literals));
+        sqlStatement.getTables().add(new Table(SQLUtil.getExactlyValue(literals), Optional.<String>absent()));
+        return true;
+    }
+    
+    private boolean parseWhere(final SQLStatement sqlStatement) {
+        if (skipIfEqual(DefaultKeyword.WHERE)) {
+            do {
+                if (!parseCondition(sqlStatement)) {
+                    return false;
+                }
+            } while (skipIfEqual(DefaultKeyword.AND));
+        }
+        return equalAny(Assist.END);
+    }
+    
+    private boolean parseCondition(final SQLStatement sqlStatement) {
+        Optional<Column> column = parseColumn(sqlStatement);
+        if (!column.isPresent()) {
+            return false;
+        }
+        if (skipIfEqual(Symbol.EQ)) {
+            Optional<SQLExpression> right = parseValue();
+            if (!right.isPresent()) {
+                return false;
+            }
+            sqlStatement.getConditions().add(new Condition(column.get(), right.get()), shardingRule);
+            return true;
+        }
+        if (skipIfEqual(DefaultKeyword.IN) && skipIfEqual(Symbol.LEFT_PAREN)) {
+            List<SQLExpression> rights = new LinkedList<>();
+            do {
+                Optional<SQLExpression> right = parseValue();
+                if (!right.isPresent()) {
+                    return false;
+                }
+                rights.add(right.get());
+            } while (skipIfEqual(Symbol.COMMA));
+            if (!skipIfEqual(Symbol.RIGHT_PAREN)) {
+                return false;
+            }
+            sqlStatement.getConditions().add(new Condition(column.get(), rights), shardingRule);
+            return true;
+        }
+        return false;
+    }
+    
+    private Optional<Column> parseColumn(final SQLStatement sqlStatement) {
+        if (!equalAny(Literals.IDENTIFIER)) {
+            return Optional.absent();
+        }
+        int beginPosition = getBeginPosition();
+        String literals = getLexer().getCurrentToken().getLiterals();
+        getLexer().nextToken();
+        String tableName = sqlStatement.getTables().getSingleTableName();
+        if (!skipIfEqual(Symbol.DOT)) {
+            return Optional.of(new Column(SQLUtil.getExactlyValue(literals), tableName));
+        }
+        if (!equalAny(Literals.IDENTIFIER) || !tableName.equalsIgnoreCase(SQLUtil.getExactlyValue(literals))) {
+            return Optional.absent();
+        }
+        sqlStatement.getSqlTokens().add(new TableToken(beginPosition, literals));
+        Column result = new Column(SQLUtil.getExactlyValue(getLexer().getCurrentToken().getLiterals()), tableName);
+        getLexer().nextToken();
+        return Optional.of(result);
+    }
+    
+    private Optional<SQLExpression> parseValue() {
+        String literals = getLexer().getCurrentToken().getLiterals();
+        SQLExpression result;
+        if (equalAny(Symbol.QUESTION)) {
+            result = new SQLPlaceholderExpression(getParametersIndex());
+            increaseParametersIndex();
+        } else if (equalAny(Literals.INT)) {
+            result = new SQLNumberExpression(NumberUtil.getExactlyNumber(literals, 10));
+        } else if (equalAny(Literals.CHARS)) {
+            result = new SQLTextExpression(literals);
+        } else {
+            return Optional.absent();
+        }
+        getLexer().nextToken();
+        return Optional.of(result);
+    }
+    
+    private int getBeginPosition() {
+        return getLexer().getCurrentToken().getEndPosition() - getLexer().getCurrentToken().getLiterals().length();
+    }
+}
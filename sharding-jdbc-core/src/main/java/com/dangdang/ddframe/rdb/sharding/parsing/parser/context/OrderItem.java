@@ -40,8 +40,7 @@ public final class OrderItem {
     
     private final OrderType type;
     
-    @Setter
-    private int index = -1;
+    private final int index;
     
     @Setter
     private Optional<String> alias;
@@ -51,6 +50,7 @@ public final class OrderItem {
         this.name = Optional.of(name);
         this.type = type;
         this.alias = alias;
+        index = -1;
     }
     
     public OrderItem(final String owner, final String name, final OrderType type, final Optional<String> alias) {
@@ -58,6 +58,7 @@ public final class OrderItem {
         this.name = Optional.of(name);
         this.type = type;
         this.alias = alias;
+        index = -1;
     }
     
     public OrderItem(final int index, final OrderType type) {
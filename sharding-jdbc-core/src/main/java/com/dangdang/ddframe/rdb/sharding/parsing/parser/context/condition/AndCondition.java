@@ -0,0 +1,101 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition;
+
+import com.google.common.base.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 以AND连接的条件对象集合.
+ *
+ * @author zhangliang
+ */
+@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
+public final class AndCondition {
+    
+    private final Map<Column, Condition> conditions = new LinkedHashMap<>();
+    
+    /**
+     * 添加条件对象.
+     * 
+     * <p>
+     * 同一列上的范围条件求交集; 已存在等值或IN条件时忽略范围条件.
+     * </p>
+     *
+     * @param condition 条件对象
+     */
+    public void add(final Condition condition) {
+        Condition existed = conditions.get(condition.getColumn());
+        if (null == existed || !condition.isRange()) {
+            conditions.put(condition.getColumn(), condition);
+        } else if (existed.isRange()) {
+            conditions.put(condition.getColumn(), existed.intersect(condition));
+        }
+    }
+    
+    /**
+     * 与另一组AND条件合并.
+     *
+     * @param other 另一组AND条件
+     * @return 合并后的条件对象集合
+     */
+    public AndCondition and(final AndCondition other) {
+        AndCondition result = new AndCondition();
+        for (Condition each : conditions.values()) {
+            result.add(each);
+        }
+        for (Condition each : other.conditions.values()) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    /**
+     * 查找条件对象.
+     *
+     * @param column 列对象
+     * @return 条件对象
+     */
+    public Optional<Condition> find(final Column column) {
+        return Optional.fromNullable(conditions.get(column));
+    }
+    
+    /**
+     * 获取全部条件对象.
+     *
+     * @return 条件对象集合
+     */
+    public Collection<Condition> getConditions() {
+        return conditions.values();
+    }
+    
+    /**
+     * 判断是否不包含分片条件.
+     *
+     * @return 是否不包含分片条件
+     */
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+}
@@ -7,14 +7,17 @@ import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLExpression
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLNumberExpression;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLPlaceholderExpression;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLTextExpression;
-import com.google.common.collect.BoundType;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Range;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
-import lombok.Getter;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -23,6 +26,11 @@ import java.util.Map.Entry;
 
 /**
  * 条件对象.
+ * 
+ * <p>
+ * 范围条件由若干比较运算组成, {@code BETWEEN}等价于{@code >=}与{@code <=}的组合, 同一列上的多个范围条件求交集, 交集不存在时为空范围.
+ * 边界值类型不同时, 整数统一为{@code Long}, 其他数字统一为{@code BigDecimal}, 无法统一类型时不限定范围.
+ * </p>
  *
  * @author zhangliang
  */
@@ -41,6 +49,8 @@ public final class Condition {
     
     private final Map<Integer, Integer> positionIndexMap = new LinkedHashMap<>();
     
+    private final List<ShardingOperator> rangeOperators = new ArrayList<>();
+    
     public Condition(final Column column, final SQLExpression sqlExpression) {
         this(column, ShardingOperator.EQUAL);
         init(sqlExpression, 0);
@@ -50,6 +60,8 @@ public final class Condition {
         this(column, ShardingOperator.BETWEEN);
         init(beginSQLExpression, 0);
         init(endSQLExpression, 1);
+        rangeOperators.add(ShardingOperator.GREATER_THAN_OR_EQUAL);
+        rangeOperators.add(ShardingOperator.LESS_THAN_OR_EQUAL);
     }
     
     public Condition(final Column column, final List<SQLExpression> sqlExpressions) {
@@ -61,6 +73,18 @@ public final class Condition {
         }
     }
     
+    public Condition(final Column column, final ShardingOperator comparisonOperator, final SQLExpression sqlExpression) {
+        this(column, ShardingOperator.BETWEEN);
+        Preconditions.checkArgument(isComparisonOperator(comparisonOperator), "Cannot support comparison operator `%s`.", comparisonOperator.getExpression());
+        init(sqlExpression, 0);
+        rangeOperators.add(comparisonOperator);
+    }
+    
+    private boolean isComparisonOperator(final ShardingOperator operator) {
+        return ShardingOperator.LESS_THAN == operator || ShardingOperator.LESS_THAN_OR_EQUAL == operator
+                || ShardingOperator.GREATER_THAN == operator || ShardingOperator.GREATER_THAN_OR_EQUAL == operator;
+    }
+    
     private void init(final SQLExpression sqlExpression, final int position) {
         if (sqlExpression instanceof SQLPlaceholderExpression) {
             positionIndexMap.put(position, ((SQLPlaceholderExpression) sqlExpression).getIndex());
@@ -71,6 +95,39 @@ public final class Condition {
         }
     }
     
+    /**
+     * 判断是否为范围条件.
+     * 
+     * @return 是否为范围条件
+     */
+    public boolean isRange() {
+        return ShardingOperator.BETWEEN == operator;
+    }
+    
+    /**
+     * 与同一列上的另一范围条件求交集.
+     * 
+     * @param other 同一列上的另一范围条件
+     * @return 合并后的范围条件
+     */
+    public Condition intersect(final Condition other) {
+        Preconditions.checkArgument(isRange() && other.isRange() && column.equals(other.column), "Only range conditions on the same column can be intersected.");
+        Condition result = new Condition(column, ShardingOperator.BETWEEN);
+        result.copyFrom(this, 0);
+        result.copyFrom(other, rangeOperators.size());
+        return result;
+    }
+    
+    private void copyFrom(final Condition condition, final int offset) {
+        for (Entry<Integer, Comparable<?>> entry : condition.positionValueMap.entrySet()) {
+            positionValueMap.put(entry.getKey() + offset, entry.getValue());
+        }
+        for (Entry<Integer, Integer> entry : condition.positionIndexMap.entrySet()) {
+            positionIndexMap.put(entry.getKey() + offset, entry.getValue());
+        }
+        rangeOperators.addAll(condition.rangeOperators);
+    }
+    
     /**
      * 将条件对象转换为分片值.
      *
@@ -85,12 +142,26 @@ public final class Condition {
             case IN:
                 return new ShardingValue<>(column.getTableName(), column.getName(), conditionValues);
             case BETWEEN:
-                return new ShardingValue<>(column.getTableName(), column.getName(), Range.range(conditionValues.get(0), BoundType.CLOSED, conditionValues.get(1), BoundType.CLOSED));
+                return new ShardingValue<>(column.getTableName(), column.getName(), getRange(conditionValues));
             default:
                 throw new UnsupportedOperationException(operator.getExpression());
         }
     }
     
+    /**
+     * 获取条件对象引用的参数.
+     *
+     * @param parameters 参数列表
+     * @return 条件对象引用的参数
+     */
+    public List<Object> getParameters(final List<Object> parameters) {
+        List<Object> result = new ArrayList<>(positionIndexMap.size());
+        for (int each : positionIndexMap.values()) {
+            result.add(parameters.get(each));
+        }
+        return result;
+    }
+    
     private List<Comparable<?>> getValues(final List<Object> parameters) {
         List<Comparable<?>> result = new LinkedList<>(positionValueMap.values());
         for (Entry<Integer, Integer> entry : positionIndexMap.entrySet()) {
@@ -106,4 +177,61 @@ public final class Condition {
         }
         return result;
     }
+    
+    @SuppressWarnings("unchecked")
+    private Range<Comparable<?>> getRange(final List<Comparable<?>> conditionValues) {
+        Range result = Range.all();
+        Optional<List<Comparable<?>>> rangeValues = getComparableValues(conditionValues);
+        if (!rangeValues.isPresent()) {
+            return result;
+        }
+        for (int i = 0; i < rangeOperators.size(); i++) {
+            Comparable value = (Comparable) rangeValues.get().get(i);
+            Range each = getRange(rangeOperators.get(i), value);
+            if (!result.isConnected(each)) {
+                result = Range.closedOpen(value, value);
+                break;
+            }
+            result = result.intersection(each);
+        }
+        return result;
+    }
+    
+    private Optional<List<Comparable<?>>> getComparableValues(final List<Comparable<?>> conditionValues) {
+        boolean isSameType = true;
+        boolean isAllNumber = true;
+        boolean isAllIntegral = true;
+        for (Comparable<?> each : conditionValues) {
+            isSameType = isSameType && each.getClass() == conditionValues.get(0).getClass();
+            isAllNumber = isAllNumber && each instanceof Number;
+            isAllIntegral = isAllIntegral && (each instanceof Integer || each instanceof Long || each instanceof Short || each instanceof Byte);
+        }
+        if (isSameType) {
+            return Optional.of(conditionValues);
+        }
+        if (!isAllNumber) {
+            return Optional.absent();
+        }
+        List<Comparable<?>> result = new ArrayList<>(conditionValues.size());
+        for (Comparable<?> each : conditionValues) {
+            result.add(isAllIntegral ? (Comparable<?>) ((Number) each).longValue() : new BigDecimal(each.toString()));
+        }
+        return Optional.of(result);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Range getRange(final ShardingOperator comparisonOperator, final Comparable value) {
+        switch (comparisonOperator) {
+            case LESS_THAN:
+                return Range.lessThan(value);
+            case LESS_THAN_OR_EQUAL:
+                return Range.atMost(value);
+            case GREATER_THAN:
+                return Range.greaterThan(value);
+            case GREATER_THAN_OR_EQUAL:
+                return Range.atLeast(value);
+            default:
+                throw new UnsupportedOperationException(comparisonOperator.getExpression());
+        }
+    }
 }
@@ -2,49 +2,142 @@ package com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition;
 
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
 import com.google.common.base.Optional;
-import lombok.RequiredArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * 条件对象集合.
+ * 
+ * <p>
+ * 以析取范式保存条件, 即以OR连接的若干组AND条件, 路由结果为各组AND条件路由结果的并集.
+ * </p>
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
+@EqualsAndHashCode
 @ToString
 public final class Conditions {
     
-    private final Map<Column, Condition> conditions = new LinkedHashMap<>();
+    /**
+     * AND条件组的最大数量, 超出后放弃OR条件的路由裁剪, 按无分片条件处理.
+     */
+    public static final int MAX_AND_CONDITIONS_SIZE = 64;
+    
+    private List<AndCondition> andConditions = new ArrayList<>(Collections.singletonList(new AndCondition()));
     
     /**
      * 添加条件对象.
+     * 
+     * <p>
+     * 条件对象将以AND的方式加入每一组AND条件中.
+     * </p>
      *
      * @param condition 条件对象
      * @param shardingRule 分库分表规则配置对象
      */
-    // TODO 添加condition时进行判断, 比如:如果以存在 等于操作 的condition, 而已存在包含 =符号 的相同column的condition, 则不添加现有的condition, 而且删除原有condition
     public void add(final Condition condition, final ShardingRule shardingRule) {
         // TODO 自关联有问题，表名可考虑使用别名对应
         if (shardingRule.isShardingColumn(condition.getColumn())) {
-            conditions.put(condition.getColumn(), condition);
+            add(condition);
         }
     }
     
     // TODO 引入mockito时去掉该方法
     public void add(final Condition condition) {
-        conditions.put(condition.getColumn(), condition);
+        for (AndCondition each : andConditions) {
+            each.add(condition);
+        }
+    }
+    
+    /**
+     * 以AND的方式合并另一条件对象集合.
+     *
+     * @param other 另一条件对象集合
+     */
+    public void and(final Conditions other) {
+        if (andConditions.size() * other.andConditions.size() > MAX_AND_CONDITIONS_SIZE) {
+            clear();
+            return;
+        }
+        List<AndCondition> result = new ArrayList<>(andConditions.size() * other.andConditions.size());
+        for (AndCondition each : andConditions) {
+            for (AndCondition otherEach : other.andConditions) {
+                result.add(each.and(otherEach));
+            }
+        }
+        andConditions = result;
+    }
+    
+    /**
+     * 以OR的方式合并另一条件对象集合.
+     * 
+     * <p>
+     * 任一AND条件组不包含分片条件时, 整体无法裁剪路由, 按无分片条件处理.
+     * </p>
+     *
+     * @param other 另一条件对象集合
+     */
+    public void or(final Conditions other) {
+        if (hasEmptyAndCondition() || other.hasEmptyAndCondition() || andConditions.size() + other.andConditions.size() > MAX_AND_CONDITIONS_SIZE) {
+            clear();
+            return;
+        }
+        andConditions.addAll(other.andConditions);
+    }
+    
+    private boolean hasEmptyAndCondition() {
+        for (AndCondition each : andConditions) {
+            if (each.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void clear() {
+        andConditions = new ArrayList<>(Collections.singletonList(new AndCondition()));
+    }
+    
+    /**
+     * 获取以OR连接的AND条件组.
+     *
+     * @return AND条件组
+     */
+    public List<AndCondition> getAndConditions() {
+        return Collections.unmodifiableList(andConditions);
+    }
+    
+    /**
+     * 获取全部分片条件引用的参数.
+     *
+     * @param parameters 参数列表
+     * @return 分片条件引用的参数
+     */
+    public List<Object> getShardingParameters(final List<Object> parameters) {
+        List<Object> result = new ArrayList<>();
+        for (AndCondition each : andConditions) {
+            for (Condition condition : each.getConditions()) {
+                result.addAll(condition.getParameters(parameters));
+            }
+        }
+        return result;
     }
     
     /**
      * 查找条件对象.
+     * 
+     * <p>
+     * 仅在不包含OR条件时可查找到条件对象.
+     * </p>
      *
      * @param column 列对象
      * @return 条件对象
      */
     public Optional<Condition> find(final Column column) {
-        return Optional.fromNullable(conditions.get(column));
+        return 1 == andConditions.size() ? andConditions.get(0).find(column) : Optional.<Condition>absent();
     }
 }
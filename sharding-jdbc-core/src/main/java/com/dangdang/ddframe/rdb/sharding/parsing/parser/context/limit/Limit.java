@@ -64,32 +64,40 @@ public final class Limit {
     
     /**
      * 填充改写分页参数.
+     * 
+     * <p>
+     * 解析得到的分页对象可被多次执行共享, 因此不修改自身, 而是返回填充了本次执行分页值的分页对象.
+     * </p>
      *
      * @param parameters 参数
      * @param isRewrite 是否重写参数
      * @param isFetchAll 是否获取所有数据
+     * @return 填充了本次执行分页值的分页对象
      */
-    public void processParameters(final List<Object> parameters, final boolean isRewrite, final boolean isFetchAll) {
-        fill(parameters);
+    public Limit processParameters(final List<Object> parameters, final boolean isRewrite, final boolean isFetchAll) {
+        Limit result = fill(parameters);
         if (isRewrite) {
-            rewrite(parameters, isFetchAll);
+            result.rewrite(parameters, isFetchAll);
         }
+        return result;
     }
     
-    private void fill(final List<Object> parameters) {
+    private Limit fill(final List<Object> parameters) {
+        Limit result = new Limit(rowCountRewriteFlag);
         int offset = 0;
         if (null != this.offset) {
             offset = -1 == this.offset.getIndex() ? getOffsetValue() : NumberUtil.roundHalfUp(parameters.get(this.offset.getIndex()));
-            this.offset.setValue(offset);
+            result.setOffset(new LimitValue(offset, this.offset.getIndex()));
         }
         int rowCount = 0;
         if (null != this.rowCount) {
             rowCount = -1 == this.rowCount.getIndex() ? getRowCountValue() : NumberUtil.roundHalfUp(parameters.get(this.rowCount.getIndex()));
-            this.rowCount.setValue(rowCount);
+            result.setRowCount(new LimitValue(rowCount, this.rowCount.getIndex()));
         }
         if (offset < 0 || rowCount < 0) {
             throw new SQLParsingException("LIMIT offset and row count can not be a negative value.");
         }
+        return result;
     }
     
     private void rewrite(final List<Object> parameters, final boolean isFetchAll) {
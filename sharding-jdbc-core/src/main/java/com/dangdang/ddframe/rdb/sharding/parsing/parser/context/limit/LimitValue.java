@@ -19,7 +19,6 @@ package com.dangdang.ddframe.rdb.sharding.parsing.parser.context.limit;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -29,11 +28,10 @@ import lombok.ToString;
  */
 @AllArgsConstructor
 @Getter
-@Setter
 @ToString
 public final class LimitValue {
     
-    private int value;
+    private final int value;
     
-    private int index;
+    private final int index;
 }
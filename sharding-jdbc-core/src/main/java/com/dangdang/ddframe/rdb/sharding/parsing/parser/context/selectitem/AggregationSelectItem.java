@@ -23,7 +23,6 @@ import com.google.common.base.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.ToString;
 
 import java.util.ArrayList;
@@ -48,9 +47,6 @@ public final class AggregationSelectItem implements SelectItem {
     
     private final List<AggregationSelectItem> derivedAggregationSelectItems = new ArrayList<>(2);
     
-    @Setter
-    private int index = -1;
-    
     @Override
     public String getExpression() {
         return SQLUtil.getExactlyValue(type.name() + innerExpression);
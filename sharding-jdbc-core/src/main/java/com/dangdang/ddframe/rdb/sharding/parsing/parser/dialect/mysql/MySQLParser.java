@@ -18,6 +18,7 @@
 package com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.mysql;
 
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.mysql.MySQLLexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.SQLParser;
 
@@ -29,6 +30,10 @@ import com.dangdang.ddframe.rdb.sharding.parsing.parser.SQLParser;
 public final class MySQLParser extends SQLParser {
     
     public MySQLParser(final String sql, final ShardingRule shardingRule) {
-        super(new MySQLLexer(sql), shardingRule);
+        this(new MySQLLexer(sql), shardingRule);
+    }
+    
+    public MySQLParser(final Lexer lexer, final ShardingRule shardingRule) {
+        super(lexer, shardingRule);
     }
 }
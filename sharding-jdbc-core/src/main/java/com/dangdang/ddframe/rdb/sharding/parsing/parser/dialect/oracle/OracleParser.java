@@ -18,6 +18,7 @@
 package com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.oracle;
 
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.oracle.OracleKeyword;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.oracle.OracleLexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.SQLParser;
@@ -33,7 +34,11 @@ import com.google.common.base.Optional;
 public final class OracleParser extends SQLParser {
     
     public OracleParser(final String sql, final ShardingRule shardingRule) {
-        super(new OracleLexer(sql), shardingRule);
+        this(new OracleLexer(sql), shardingRule);
+    }
+    
+    public OracleParser(final Lexer lexer, final ShardingRule shardingRule) {
+        super(lexer, shardingRule);
     }
     
     @Override
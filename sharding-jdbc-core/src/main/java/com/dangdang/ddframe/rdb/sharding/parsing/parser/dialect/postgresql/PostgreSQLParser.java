@@ -18,6 +18,7 @@
 package com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.postgresql;
 
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.postgresql.PostgreSQLLexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.SQLParser;
 
@@ -29,6 +30,10 @@ import com.dangdang.ddframe.rdb.sharding.parsing.parser.SQLParser;
 public final class PostgreSQLParser extends SQLParser {
     
     public PostgreSQLParser(final String sql, final ShardingRule shardingRule) {
-        super(new PostgreSQLLexer(sql), shardingRule);
+        this(new PostgreSQLLexer(sql), shardingRule);
+    }
+    
+    public PostgreSQLParser(final Lexer lexer, final ShardingRule shardingRule) {
+        super(lexer, shardingRule);
     }
 }
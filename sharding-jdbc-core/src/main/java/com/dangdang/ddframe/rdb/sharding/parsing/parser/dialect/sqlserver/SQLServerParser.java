@@ -18,6 +18,7 @@
 package com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.sqlserver;
 
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.sqlserver.SQLServerLexer;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.SQLParser;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.selectitem.SelectItem;
@@ -32,7 +33,11 @@ import com.google.common.base.Optional;
 public final class SQLServerParser extends SQLParser {
     
     public SQLServerParser(final String sql, final ShardingRule shardingRule) {
-        super(new SQLServerLexer(sql), shardingRule);
+        this(new SQLServerLexer(sql), shardingRule);
+    }
+    
+    public SQLServerParser(final Lexer lexer, final ShardingRule shardingRule) {
+        super(lexer, shardingRule);
     }
     
     @Override
@@ -26,6 +26,8 @@ import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Symbol;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Token;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.SQLParser;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.OrderItem;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Column;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.EqualJoinCondition;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.selectitem.AggregationSelectItem;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.selectitem.CommonSelectItem;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.selectitem.SelectItem;
@@ -348,11 +350,7 @@ public abstract class AbstractSelectParser implements SQLStatementParser {
         if (sqlParser.skipJoin()) {
             parseTable();
             if (sqlParser.skipIfEqual(DefaultKeyword.ON)) {
-                do {
-                    parseTableCondition(sqlParser.getLexer().getCurrentToken().getEndPosition());
-                    sqlParser.accept(Symbol.EQ);
-                    parseTableCondition(sqlParser.getLexer().getCurrentToken().getEndPosition() - sqlParser.getLexer().getCurrentToken().getLiterals().length());
-                } while (sqlParser.skipIfEqual(DefaultKeyword.AND));
+                parseJoinConditions();
             } else if (sqlParser.skipIfEqual(DefaultKeyword.USING)) {
                 sqlParser.skipParentheses();
             }
@@ -360,15 +358,36 @@ public abstract class AbstractSelectParser implements SQLStatementParser {
         }
     }
     
-    private void parseTableCondition(final int startPosition) {
+    private void parseJoinConditions() {
+        List<EqualJoinCondition> equalJoinConditions = new LinkedList<>();
+        boolean isAllEqualJoinConditions = true;
+        do {
+            Optional<Column> leftColumn = parseTableCondition(sqlParser.getLexer().getCurrentToken().getEndPosition());
+            sqlParser.accept(Symbol.EQ);
+            Optional<Column> rightColumn = parseTableCondition(sqlParser.getLexer().getCurrentToken().getEndPosition() - sqlParser.getLexer().getCurrentToken().getLiterals().length());
+            if (leftColumn.isPresent() && rightColumn.isPresent()) {
+                equalJoinConditions.add(new EqualJoinCondition(leftColumn.get(), rightColumn.get()));
+            } else {
+                isAllEqualJoinConditions = false;
+            }
+        } while (sqlParser.skipIfEqual(DefaultKeyword.AND));
+        if (isAllEqualJoinConditions && !sqlParser.equalAny(DefaultKeyword.OR, Symbol.DOUBLE_BAR)) {
+            selectStatement.getEqualJoinConditions().addAll(equalJoinConditions);
+        }
+    }
+    
+    private Optional<Column> parseTableCondition(final int startPosition) {
         SQLExpression sqlExpression = sqlParser.parseExpression();
         if (!(sqlExpression instanceof SQLPropertyExpression)) {
-            return;
+            return Optional.absent();
         }
         SQLPropertyExpression sqlPropertyExpression = (SQLPropertyExpression) sqlExpression;
-        if (selectStatement.getTables().getTableNames().contains(SQLUtil.getExactlyValue(sqlPropertyExpression.getOwner().getName()))) {
+        String owner = SQLUtil.getExactlyValue(sqlPropertyExpression.getOwner().getName());
+        if (selectStatement.getTables().getTableNames().contains(owner)) {
             selectStatement.getSqlTokens().add(new TableToken(startPosition, sqlPropertyExpression.getOwner().getName()));
         }
+        Optional<Table> table = selectStatement.getTables().find(owner);
+        return table.isPresent() ? Optional.of(new Column(SQLUtil.getExactlyValue(sqlPropertyExpression.getName()), table.get().getName())) : Optional.<Column>absent();
     }
     
     private void appendDerivedColumns() {
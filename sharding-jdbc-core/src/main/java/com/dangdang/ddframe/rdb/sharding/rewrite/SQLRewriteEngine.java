@@ -56,10 +56,17 @@ public final class SQLRewriteEngine {
     
     private final SQLStatement sqlStatement;
     
+    private final Limit limit;
+    
     public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, final SQLStatement sqlStatement) {
+        this(shardingRule, originalSQL, sqlStatement, sqlStatement instanceof SelectStatement ? ((SelectStatement) sqlStatement).getLimit() : null);
+    }
+    
+    public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, final SQLStatement sqlStatement, final Limit limit) {
         this.shardingRule = shardingRule;
         this.originalSQL = originalSQL;
         this.sqlStatement = sqlStatement;
+        this.limit = limit;
         sqlTokens.addAll(sqlStatement.getSqlTokens());
     }
     
@@ -127,7 +134,6 @@ public final class SQLRewriteEngine {
     
     private void appendLimitRowCount(final SQLBuilder sqlBuilder, final RowCountToken rowCountToken, final int count, final List<SQLToken> sqlTokens, final boolean isRewrite) {
         SelectStatement selectStatement = (SelectStatement) sqlStatement;
-        Limit limit = selectStatement.getLimit();
         if (!isRewrite) {
             sqlBuilder.appendLiterals(String.valueOf(rowCountToken.getRowCount()));
         } else if ((!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) && !selectStatement.isSameGroupByAndOrderByItems()) {
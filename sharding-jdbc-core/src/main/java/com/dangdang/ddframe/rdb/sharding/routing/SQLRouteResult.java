@@ -17,9 +17,11 @@
 
 package com.dangdang.ddframe.rdb.sharding.routing;
 
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.limit.Limit;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -29,6 +31,10 @@ import java.util.Set;
 /**
  * SQL路由结果.
  * 
+ * <p>
+ * 持有本次执行的分页值和自动生成键, SQL语句对象本身在执行期间保持不变.
+ * </p>
+ * 
  * @author gaohongtao
  * @author zhangliang
  */
@@ -41,4 +47,7 @@ public final class SQLRouteResult {
     private final Set<SQLExecutionUnit> executionUnits = new LinkedHashSet<>();
     
     private final List<Number> generatedKeys = new LinkedList<>();
+    
+    @Setter
+    private Limit limit;
 }
@@ -17,12 +17,16 @@
 
 package com.dangdang.ddframe.rdb.sharding.routing;
 
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
 import com.dangdang.ddframe.rdb.sharding.jdbc.core.ShardingContext;
+import com.dangdang.ddframe.rdb.sharding.parsing.normalize.NormalizedSQL;
+import com.dangdang.ddframe.rdb.sharding.parsing.normalize.SQLNormalizeEngine;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
 import com.dangdang.ddframe.rdb.sharding.routing.router.SQLRouter;
 import com.dangdang.ddframe.rdb.sharding.routing.router.SQLRouterFactory;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * SQL路由器.
@@ -31,20 +35,40 @@ import java.util.Collections;
  */
 public final class StatementRoutingEngine {
     
+    private final DatabaseType databaseType;
+    
     private final SQLRouter sqlRouter;
     
     public StatementRoutingEngine(final ShardingContext shardingContext) {
+        databaseType = shardingContext.getDatabaseType();
         sqlRouter = SQLRouterFactory.createSQLRouter(shardingContext);
     }
     
     /**
      * SQL路由.
+     * 
+     * <p>
+     * 先将字面量SQL规范化为带占位符的SQL和参数列表, 按规范化后的SQL解析和路由以命中解析缓存, 再将执行单元中的占位符还原为字面量.
+     * </p>
      *
      * @param logicSQL 逻辑SQL
      * @return 路由结果
      */
     public SQLRouteResult route(final String logicSQL) {
-        SQLStatement sqlStatement = sqlRouter.parse(logicSQL, 0);
-        return sqlRouter.route(logicSQL, Collections.emptyList(), sqlStatement);
+        NormalizedSQL normalizedSQL = new SQLNormalizeEngine(databaseType, logicSQL).normalize();
+        List<Object> parameters = new ArrayList<>(normalizedSQL.getParameters());
+        SQLStatement sqlStatement = sqlRouter.parse(normalizedSQL.getSql(), parameters.size());
+        SQLRouteResult result = sqlRouter.route(normalizedSQL.getSql(), parameters, sqlStatement);
+        return normalizedSQL.isParameterized() ? restore(result, normalizedSQL, parameters) : result;
+    }
+    
+    private SQLRouteResult restore(final SQLRouteResult routeResult, final NormalizedSQL normalizedSQL, final List<Object> parameters) {
+        SQLRouteResult result = new SQLRouteResult(routeResult.getSqlStatement());
+        result.setLimit(routeResult.getLimit());
+        result.getGeneratedKeys().addAll(routeResult.getGeneratedKeys());
+        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
+            result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSource(), normalizedSQL.restore(each.getSql(), parameters)));
+        }
+        return result;
     }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.routing.cache;
+
+import com.dangdang.ddframe.rdb.sharding.routing.SQLExecutionUnit;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 路由结果缓存.
+ * 
+ * <p>
+ * 以逻辑SQL和分片条件引用的参数为键, 缓存路由和改写后的SQL执行单元, 容量超过上限时按最近最少使用原则淘汰.
+ * 缓存键复制参数列表, 可变的时间类型参数复制后保存, 避免调用方修改参数后键失效.
+ * 缓存假定分片算法是确定的, 使用{@code NondeterministicShardingAlgorithm}的表不缓存路由结果.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class RoutingResultCache {
+    
+    private final boolean enabled;
+    
+    private final Cache<CacheKey, List<SQLExecutionUnit>> cache;
+    
+    public RoutingResultCache(final int maximumSize) {
+        enabled = maximumSize > 0;
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * 判断是否开启路由结果缓存.
+     * 
+     * @return 是否开启路由结果缓存
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * 获取缓存的SQL执行单元.
+     * 
+     * @param logicSQL 逻辑SQL
+     * @param shardingParameters 分片条件引用的参数
+     * @return SQL执行单元集合
+     */
+    public Optional<List<SQLExecutionUnit>> getExecutionUnits(final String logicSQL, final List<Object> shardingParameters) {
+        return Optional.fromNullable(cache.getIfPresent(new CacheKey(logicSQL, shardingParameters)));
+    }
+    
+    /**
+     * 缓存SQL执行单元.
+     * 
+     * @param logicSQL 逻辑SQL
+     * @param shardingParameters 分片条件引用的参数
+     * @param executionUnits SQL执行单元集合
+     */
+    public void put(final String logicSQL, final List<Object> shardingParameters, final Collection<SQLExecutionUnit> executionUnits) {
+        cache.put(new CacheKey(logicSQL, shardingParameters), ImmutableList.copyOf(executionUnits));
+    }
+    
+    /**
+     * 获取缓存命中次数.
+     * 
+     * @return 缓存命中次数
+     */
+    public long getHitCount() {
+        return getStats().hitCount();
+    }
+    
+    /**
+     * 获取缓存未命中次数.
+     * 
+     * @return 缓存未命中次数
+     */
+    public long getMissCount() {
+        return getStats().missCount();
+    }
+    
+    /**
+     * 获取缓存淘汰次数.
+     * 
+     * @return 缓存淘汰次数
+     */
+    public long getEvictionCount() {
+        return getStats().evictionCount();
+    }
+    
+    /**
+     * 获取缓存的路由结果数量.
+     * 
+     * @return 缓存的路由结果数量
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * 清空缓存.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    private CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String logicSQL;
+        
+        private final List<Object> shardingParameters;
+        
+        CacheKey(final String logicSQL, final List<Object> shardingParameters) {
+            this.logicSQL = logicSQL;
+            this.shardingParameters = copy(shardingParameters);
+        }
+        
+        private static List<Object> copy(final List<Object> shardingParameters) {
+            List<Object> result = new ArrayList<>(shardingParameters.size());
+            for (Object each : shardingParameters) {
+                result.add(each instanceof Date ? ((Date) each).clone() : each);
+            }
+            return result;
+        }
+    }
+}
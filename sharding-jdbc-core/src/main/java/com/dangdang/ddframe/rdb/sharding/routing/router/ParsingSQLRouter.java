@@ -20,10 +20,15 @@ package com.dangdang.ddframe.rdb.sharding.routing.router;
 import com.codahale.metrics.Timer.Context;
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
 import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import com.dangdang.ddframe.rdb.sharding.constant.SQLType;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.hint.HintManagerHolder;
 import com.dangdang.ddframe.rdb.sharding.jdbc.core.ShardingContext;
 import com.dangdang.ddframe.rdb.sharding.metrics.MetricsContext;
 import com.dangdang.ddframe.rdb.sharding.parsing.SQLParsingEngine;
+import com.dangdang.ddframe.rdb.sharding.parsing.cache.ParsingResultCache;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.GeneratedKey;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.limit.Limit;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.insert.InsertStatement;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectStatement;
@@ -31,15 +36,18 @@ import com.dangdang.ddframe.rdb.sharding.rewrite.SQLBuilder;
 import com.dangdang.ddframe.rdb.sharding.rewrite.SQLRewriteEngine;
 import com.dangdang.ddframe.rdb.sharding.routing.SQLExecutionUnit;
 import com.dangdang.ddframe.rdb.sharding.routing.SQLRouteResult;
+import com.dangdang.ddframe.rdb.sharding.routing.cache.RoutingResultCache;
 import com.dangdang.ddframe.rdb.sharding.routing.type.RoutingEngine;
 import com.dangdang.ddframe.rdb.sharding.routing.type.RoutingResult;
 import com.dangdang.ddframe.rdb.sharding.routing.type.TableUnit;
+import com.dangdang.ddframe.rdb.sharding.routing.type.broadcast.BroadcastRoutingEngine;
 import com.dangdang.ddframe.rdb.sharding.routing.type.complex.CartesianDataSource;
 import com.dangdang.ddframe.rdb.sharding.routing.type.complex.CartesianRoutingResult;
 import com.dangdang.ddframe.rdb.sharding.routing.type.complex.CartesianTableReference;
 import com.dangdang.ddframe.rdb.sharding.routing.type.complex.ComplexRoutingEngine;
 import com.dangdang.ddframe.rdb.sharding.routing.type.simple.SimpleRoutingEngine;
 import com.dangdang.ddframe.rdb.sharding.util.SQLLogger;
+import com.google.common.base.Optional;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -58,17 +66,30 @@ public final class ParsingSQLRouter implements SQLRouter {
     
     private final boolean showSQL;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    private final RoutingResultCache routingResultCache;
+    
+    private final int cartesianRoutingMaxSize;
+    
     private final List<Number> generatedKeys;
     
     public ParsingSQLRouter(final ShardingContext shardingContext) {
         shardingRule = shardingContext.getShardingRule();
         databaseType = shardingContext.getDatabaseType();
         showSQL = shardingContext.isShowSQL();
+        parsingResultCache = shardingContext.getParsingResultCache();
+        routingResultCache = shardingContext.getRoutingResultCache();
+        cartesianRoutingMaxSize = shardingContext.getCartesianRoutingMaxSize();
         generatedKeys = new LinkedList<>();
     }
     
     @Override
     public SQLStatement parse(final String logicSQL, final int parametersSize) {
+        Optional<SQLStatement> cachedSQLStatement = parsingResultCache.getSQLStatement(databaseType, logicSQL);
+        if (cachedSQLStatement.isPresent()) {
+            return cachedSQLStatement.get();
+        }
         SQLParsingEngine parsingEngine = new SQLParsingEngine(databaseType, logicSQL, shardingRule);
         Context context = MetricsContext.start("Parse SQL");
         SQLStatement result = parsingEngine.parse();
@@ -76,22 +97,46 @@ public final class ParsingSQLRouter implements SQLRouter {
             ((InsertStatement) result).appendGenerateKeyToken(shardingRule, parametersSize);
         }
         MetricsContext.stop(context);
+        if (isCacheable(result)) {
+            parsingResultCache.put(databaseType, logicSQL, result);
+        }
         return result;
     }
     
+    private boolean isCacheable(final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof InsertStatement)) {
+            return true;
+        }
+        GeneratedKey generatedKey = ((InsertStatement) sqlStatement).getGeneratedKey();
+        return null == generatedKey || -1 != generatedKey.getIndex();
+    }
+    
     @Override
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
         final Context context = MetricsContext.start("Route SQL");
         SQLRouteResult result = new SQLRouteResult(sqlStatement);
+        List<Object> shardingParameters = null;
+        if (isRoutingCacheable(sqlStatement)) {
+            shardingParameters = sqlStatement.getConditions().getShardingParameters(parameters);
+            Optional<List<SQLExecutionUnit>> cachedExecutionUnits = routingResultCache.getExecutionUnits(logicSQL, shardingParameters);
+            if (cachedExecutionUnits.isPresent()) {
+                result.getExecutionUnits().addAll(cachedExecutionUnits.get());
+                MetricsContext.stop(context);
+                if (showSQL) {
+                    SQLLogger.logSQL(logicSQL, sqlStatement, result.getExecutionUnits(), parameters);
+                }
+                return result;
+            }
+        }
         if (sqlStatement instanceof InsertStatement && null != ((InsertStatement) sqlStatement).getGeneratedKey()) {
             processGeneratedKey(parameters, (InsertStatement) sqlStatement, result);
         }
         RoutingResult routingResult = route(parameters, sqlStatement);
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, sqlStatement);
         boolean isSingleRouting = routingResult.isSingleRouting();
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
-            processLimit(parameters, (SelectStatement) sqlStatement, isSingleRouting);
+            result.setLimit(processLimit(parameters, (SelectStatement) sqlStatement, isSingleRouting));
         }
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, sqlStatement, result.getLimit());
         SQLBuilder sqlBuilder = rewriteEngine.rewrite(!isSingleRouting);
         if (routingResult instanceof CartesianRoutingResult) {
             for (CartesianDataSource cartesianDataSource : ((CartesianRoutingResult) routingResult).getRoutingDataSources()) {
@@ -104,6 +149,9 @@ public final class ParsingSQLRouter implements SQLRouter {
                 result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder)));
             }
         }
+        if (null != shardingParameters) {
+            routingResultCache.put(logicSQL, shardingParameters, result.getExecutionUnits());
+        }
         MetricsContext.stop(context);
         if (showSQL) {
             SQLLogger.logSQL(logicSQL, sqlStatement, result.getExecutionUnits(), parameters);
@@ -111,14 +159,30 @@ public final class ParsingSQLRouter implements SQLRouter {
         return result;
     }
     
+    private boolean isRoutingCacheable(final SQLStatement sqlStatement) {
+        if (!routingResultCache.isEnabled() || HintManagerHolder.isUseShardingHint() || !shardingRule.isDeterministicSharding(sqlStatement.getTables().getTableNames())) {
+            return false;
+        }
+        if (sqlStatement instanceof InsertStatement) {
+            return null == ((InsertStatement) sqlStatement).getGeneratedKey();
+        }
+        return !(sqlStatement instanceof SelectStatement) || null == ((SelectStatement) sqlStatement).getLimit();
+    }
+    
     private RoutingResult route(final List<Object> parameters, final SQLStatement sqlStatement) {
-        Collection<String> tableNames = sqlStatement.getTables().getTableNames();
+        Collection<String> allTableNames = sqlStatement.getTables().getTableNames();
+        if (shardingRule.isAllBroadcastTables(allTableNames)) {
+            return new BroadcastRoutingEngine(shardingRule, allTableNames.iterator().next(), sqlStatement).route();
+        }
+        Collection<String> tableNames = shardingRule.excludeBroadcastTables(allTableNames);
+        if (SQLType.SELECT != sqlStatement.getType() && tableNames.size() != allTableNames.size()) {
+            throw new ShardingJdbcException("Cannot route DML with both broadcast tables and sharding tables: '%s', please split into separate statements.", allTableNames);
+        }
         RoutingEngine routingEngine;
         if (1 == tableNames.size() || shardingRule.isAllBindingTables(tableNames)) {
             routingEngine = new SimpleRoutingEngine(shardingRule, parameters, tableNames.iterator().next(), sqlStatement);
         } else {
-            // TODO 可配置是否执行笛卡尔积
-            routingEngine = new ComplexRoutingEngine(shardingRule, parameters, tableNames, sqlStatement);
+            routingEngine = new ComplexRoutingEngine(shardingRule, parameters, tableNames, sqlStatement, cartesianRoutingMaxSize);
         }
         return routingEngine.route();
     }
@@ -142,8 +206,8 @@ public final class ParsingSQLRouter implements SQLRouter {
         sqlRouteResult.getGeneratedKeys().addAll(generatedKeys);
     }
     
-    private void processLimit(final List<Object> parameters, final SelectStatement selectStatement, final boolean isSingleRouting) {
+    private Limit processLimit(final List<Object> parameters, final SelectStatement selectStatement, final boolean isSingleRouting) {
         boolean isNeedFetchAll = (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) && !selectStatement.isSameGroupByAndOrderByItems();
-        selectStatement.getLimit().processParameters(parameters, !isSingleRouting, isNeedFetchAll);
+        return selectStatement.getLimit().processParameters(parameters, !isSingleRouting, isNeedFetchAll);
     }
 }
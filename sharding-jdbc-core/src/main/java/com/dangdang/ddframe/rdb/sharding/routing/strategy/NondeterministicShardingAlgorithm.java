@@ -0,0 +1,38 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.routing.strategy;
+
+/**
+ * 非确定性分片算法.
+ * 
+ * <p>
+ * 相同分片值的分片结果可能随时间变化, 如依赖外部目录或过期缓存的分片算法. 使用此类算法的表不缓存路由结果.
+ * 算法是否确定取决于配置时, 由{@code isNondeterministic}判断.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public interface NondeterministicShardingAlgorithm extends ShardingAlgorithm {
+    
+    /**
+     * 判断分片结果是否可能随时间变化.
+     * 
+     * @return 分片结果是否可能随时间变化
+     */
+    boolean isNondeterministic();
+}
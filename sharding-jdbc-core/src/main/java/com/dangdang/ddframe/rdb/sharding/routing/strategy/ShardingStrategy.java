@@ -18,12 +18,17 @@
 package com.dangdang.ddframe.rdb.sharding.routing.strategy;
 
 import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue.ShardingValueType;
 import com.dangdang.ddframe.rdb.sharding.constant.SQLType;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 
 /**
@@ -36,6 +41,7 @@ public class ShardingStrategy {
     @Getter
     private final Collection<String> shardingColumns;
     
+    @Getter
     private final ShardingAlgorithm shardingAlgorithm;
     
     public ShardingStrategy(final String shardingColumn, final ShardingAlgorithm shardingAlgorithm) {
@@ -50,6 +56,13 @@ public class ShardingStrategy {
     
     /**
      * 计算静态分片.
+     * 
+     * <p>
+     * 没有分片值时直接返回可用分片资源集合, 否则返回忽略大小写去重的分片结果集合.
+     * 分片结果是至多一个元素的集合或已经是忽略大小写排序的集合时直接返回, 不再复制.
+     * 分片算法未实现{@code UnboundedRangeShardingAlgorithm}时, 无边界或为空的范围分片值视为没有分片值.
+     * 调用方不应修改返回的集合.
+     * </p>
      *
      * @param sqlType SQL语句的类型
      * @param availableTargetNames 所有的可用分片资源集合
@@ -57,55 +70,92 @@ public class ShardingStrategy {
      * @return 分库后指向的数据源名称集合
      */
     public Collection<String> doStaticSharding(final SQLType sqlType, final Collection<String> availableTargetNames, final Collection<ShardingValue<?>> shardingValues) {
-        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        if (shardingValues.isEmpty()) {
+        Collection<ShardingValue<?>> supportedShardingValues = getSupportedShardingValues(shardingValues);
+        if (supportedShardingValues.isEmpty()) {
             Preconditions.checkState(!isInsertMultiple(sqlType, availableTargetNames), "INSERT statement should contain sharding value.");
-            result.addAll(availableTargetNames);
-        } else {
-            result.addAll(doSharding(shardingValues, availableTargetNames));
+            return availableTargetNames;
         }
-        return result;
+        return doSharding(supportedShardingValues, availableTargetNames);
     }
     
     /**
      * 计算动态分片.
+     * 
+     * <p>
+     * 调用方不应修改返回的集合.
+     * </p>
      *
      * @param shardingValues 分片值集合
      * @return 分库后指向的分片资源集合
      */
     public Collection<String> doDynamicSharding(final Collection<ShardingValue<?>> shardingValues) {
-        Preconditions.checkState(!shardingValues.isEmpty(), "Dynamic table should contain sharding value.");
-        Collection<String> availableTargetNames = Collections.emptyList();
-        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        result.addAll(doSharding(shardingValues, availableTargetNames));
+        Collection<ShardingValue<?>> supportedShardingValues = getSupportedShardingValues(shardingValues);
+        Preconditions.checkState(!supportedShardingValues.isEmpty(), "Dynamic table should contain sharding value.");
+        return doSharding(supportedShardingValues, Collections.<String>emptyList());
+    }
+    
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Collection<ShardingValue<?>> getSupportedShardingValues(final Collection<ShardingValue<?>> shardingValues) {
+        if (shardingAlgorithm instanceof UnboundedRangeShardingAlgorithm || !containsRangeShardingValue(shardingValues)) {
+            return shardingValues;
+        }
+        Collection<ShardingValue<?>> result = new ArrayList<>(shardingValues.size());
+        for (ShardingValue<?> each : shardingValues) {
+            if (ShardingValueType.RANGE != each.getType()) {
+                result.add(each);
+                continue;
+            }
+            Range range = each.getValueRange();
+            if (range.hasLowerBound() && range.hasUpperBound() && !range.isEmpty()) {
+                result.add(new ShardingValue(each.getLogicTableName(), each.getColumnName(), Range.closed(range.lowerEndpoint(), range.upperEndpoint())));
+            }
+        }
         return result;
     }
     
+    private boolean containsRangeShardingValue(final Collection<ShardingValue<?>> shardingValues) {
+        for (ShardingValue<?> each : shardingValues) {
+            if (ShardingValueType.RANGE == each.getType()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private Collection<String> doSharding(final Collection<ShardingValue<?>> shardingValues, final Collection<String> availableTargetNames) {
         if (shardingAlgorithm instanceof NoneKeyShardingAlgorithm) {
-            return Collections.singletonList(((NoneKeyShardingAlgorithm) shardingAlgorithm).doSharding(availableTargetNames, shardingValues.iterator().next()));
+            return distinct(Collections.singleton(((NoneKeyShardingAlgorithm) shardingAlgorithm).doSharding(availableTargetNames, shardingValues.iterator().next())));
         }
         if (shardingAlgorithm instanceof SingleKeyShardingAlgorithm) {
             SingleKeyShardingAlgorithm<?> singleKeyShardingAlgorithm = (SingleKeyShardingAlgorithm<?>) shardingAlgorithm;
             ShardingValue shardingValue = shardingValues.iterator().next();
             switch (shardingValue.getType()) {
                 case SINGLE:
-                    return Collections.singletonList(singleKeyShardingAlgorithm.doEqualSharding(availableTargetNames, shardingValue));
+                    return distinct(Collections.singleton(singleKeyShardingAlgorithm.doEqualSharding(availableTargetNames, shardingValue)));
                 case LIST:
-                    return singleKeyShardingAlgorithm.doInSharding(availableTargetNames, shardingValue);
+                    return distinct(singleKeyShardingAlgorithm.doInSharding(availableTargetNames, shardingValue));
                 case RANGE:
-                    return singleKeyShardingAlgorithm.doBetweenSharding(availableTargetNames, shardingValue);
+                    return distinct(singleKeyShardingAlgorithm.doBetweenSharding(availableTargetNames, shardingValue));
                 default:
                     throw new UnsupportedOperationException(shardingValue.getType().getClass().getName());
             }
         }
         if (shardingAlgorithm instanceof MultipleKeysShardingAlgorithm) {
-            return ((MultipleKeysShardingAlgorithm) shardingAlgorithm).doSharding(availableTargetNames, shardingValues);
+            return distinct(((MultipleKeysShardingAlgorithm) shardingAlgorithm).doSharding(availableTargetNames, shardingValues));
         }
         throw new UnsupportedOperationException(shardingAlgorithm.getClass().getName());
     }
     
+    private Collection<String> distinct(final Collection<String> targetNames) {
+        if (targetNames instanceof Set && targetNames.size() <= 1 || targetNames instanceof SortedSet && String.CASE_INSENSITIVE_ORDER == ((SortedSet<String>) targetNames).comparator()) {
+            return targetNames;
+        }
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(targetNames);
+        return result;
+    }
+    
     private boolean isInsertMultiple(final SQLType sqlType, final Collection<String> availableTargetNames) {
         return SQLType.INSERT == sqlType && availableTargetNames.size() > 1;
     }
@@ -0,0 +1,31 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.routing.strategy;
+
+/**
+ * 根据目标完整名称分片的算法的标识接口.
+ * 
+ * <p>
+ * 分片结果依赖目标名称本身而非名称后缀, 如以目标名称的哈希值构建哈希环的分片算法.
+ * 不同逻辑表的真实表名称不同, 相同分片值可能指向序号不同的真实表, 因此使用此类算法的表不视为同位分片表.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public interface TargetNameAwareShardingAlgorithm extends ShardingAlgorithm {
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.routing.strategy;
+
+/**
+ * 支持无边界范围分片值的分片算法的标识接口.
+ * 
+ * <p>
+ * 实现此接口的分片算法接收原始的范围分片值, 其边界可能为开区间或无边界, 也可能为空范围.
+ * 未实现此接口的分片算法只接收闭区间的范围分片值, 开区间的有界范围按闭区间传入, 无边界或为空的范围分片值被忽略并路由至全部目标.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public interface UnboundedRangeShardingAlgorithm extends ShardingAlgorithm {
+}
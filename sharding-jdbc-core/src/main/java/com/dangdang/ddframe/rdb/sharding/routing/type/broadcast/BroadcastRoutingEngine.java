@@ -0,0 +1,63 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.routing.type.broadcast;
+
+import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.constant.SQLType;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
+import com.dangdang.ddframe.rdb.sharding.routing.type.RoutingEngine;
+import com.dangdang.ddframe.rdb.sharding.routing.type.RoutingResult;
+import com.dangdang.ddframe.rdb.sharding.routing.type.TableUnit;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 广播表路由引擎.
+ * 
+ * <p>
+ * 用于只包含广播表的SQL. 查询路由至一个数据源, 优先使用默认数据源; 写操作路由至全部数据源, 由执行引擎并行执行.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class BroadcastRoutingEngine implements RoutingEngine {
+    
+    private final ShardingRule shardingRule;
+    
+    private final String logicTableName;
+    
+    private final SQLStatement sqlStatement;
+    
+    @Override
+    public RoutingResult route() {
+        RoutingResult result = new RoutingResult();
+        if (SQLType.SELECT == sqlStatement.getType()) {
+            result.getTableUnits().getTableUnits().add(new TableUnit(getReadDataSourceName(), logicTableName, logicTableName));
+            return result;
+        }
+        for (String each : shardingRule.getDataSourceRule().getDataSourceNames()) {
+            result.getTableUnits().getTableUnits().add(new TableUnit(each, logicTableName, logicTableName));
+        }
+        return result;
+    }
+    
+    private String getReadDataSourceName() {
+        return shardingRule.getDataSourceRule().getDefaultDataSource().isPresent()
+                ? shardingRule.getDataSourceRule().getDefaultDataSourceName() : shardingRule.getDataSourceRule().getDataSourceNames().iterator().next();
+    }
+}
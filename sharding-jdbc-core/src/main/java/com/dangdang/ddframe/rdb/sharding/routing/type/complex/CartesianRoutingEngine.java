@@ -17,6 +17,7 @@
 
 package com.dangdang.ddframe.rdb.sharding.routing.type.complex;
 
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
 import com.dangdang.ddframe.rdb.sharding.routing.type.RoutingEngine;
 import com.dangdang.ddframe.rdb.sharding.routing.type.RoutingResult;
 import com.dangdang.ddframe.rdb.sharding.routing.type.TableUnit;
@@ -39,6 +40,11 @@ import java.util.Set;
 /**
  * 笛卡尔积的库表路由.
  * 
+ * <p>
+ * 同位分片表只组合序号相同的真实表.
+ * 笛卡尔积路由的最大数量大于0时, 超出该数量立即抛出异常, 避免执行过多的SQL.
+ * </p>
+ * 
  * @author zhangliang
  */
 @RequiredArgsConstructor
@@ -47,13 +53,20 @@ public final class CartesianRoutingEngine implements RoutingEngine {
     
     private final Collection<RoutingResult> routingResults;
     
+    private final ColocatedTables colocatedTables;
+    
+    private final int maxRoutingSize;
+    
     @Override
     public CartesianRoutingResult route() {
         CartesianRoutingResult result = new CartesianRoutingResult();
+        int routingSize = 0;
         for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
             List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
             List<Set<TableUnit>> tableUnitGroups = toTableUnitGroups(entry.getKey(), actualTableGroups);
-            result.merge(entry.getKey(), getCartesianTableReferences(Sets.cartesianProduct(tableUnitGroups)));
+            List<CartesianTableReference> cartesianTableReferences = getCartesianTableReferences(Sets.cartesianProduct(tableUnitGroups), routingSize);
+            routingSize += cartesianTableReferences.size();
+            result.merge(entry.getKey(), cartesianTableReferences);
         }
         log.trace("cartesian tables sharding result: {}", result);
         return result;
@@ -117,9 +130,15 @@ public final class CartesianRoutingEngine implements RoutingEngine {
         throw new IllegalStateException(String.format("Cannot found routing table factor, data source: %s, actual table: %s", dataSource, actualTable));
     }
     
-    private List<CartesianTableReference> getCartesianTableReferences(final Set<List<TableUnit>> cartesianTableUnitGroups) {
-        List<CartesianTableReference> result = new ArrayList<>(cartesianTableUnitGroups.size());
+    private List<CartesianTableReference> getCartesianTableReferences(final Set<List<TableUnit>> cartesianTableUnitGroups, final int currentRoutingSize) {
+        List<CartesianTableReference> result = new ArrayList<>();
         for (List<TableUnit> each : cartesianTableUnitGroups) {
+            if (!colocatedTables.isAligned(each)) {
+                continue;
+            }
+            if (maxRoutingSize > 0 && currentRoutingSize + result.size() >= maxRoutingSize) {
+                throw new ShardingJdbcException("Cartesian routing size exceeds max routing size '%s', please declare binding tables or join by sharding columns.", maxRoutingSize);
+            }
             result.add(new CartesianTableReference(each));
         }
         return result;
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.routing.type.complex;
+
+import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.routing.type.TableUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * 同位分片表分组.
+ * 
+ * <p>
+ * 等值关联的同位分片表数据位于序号相同的真实表中, 笛卡尔积路由时同组的表只需组合序号相同的真实表.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@ToString(exclude = "shardingRule")
+public final class ColocatedTables {
+    
+    private final ShardingRule shardingRule;
+    
+    private final Map<String, String> logicTableGroups = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    /**
+     * 将两个同位分片的逻辑表加入同一分组.
+     * 
+     * @param logicTable 逻辑表名称
+     * @param otherLogicTable 另一逻辑表名称
+     */
+    public void add(final String logicTable, final String otherLogicTable) {
+        String group = getGroup(logicTable);
+        String otherGroup = getGroup(otherLogicTable);
+        logicTableGroups.put(logicTable, group);
+        logicTableGroups.put(otherLogicTable, group);
+        if (group.equalsIgnoreCase(otherGroup)) {
+            return;
+        }
+        for (Entry<String, String> entry : logicTableGroups.entrySet()) {
+            if (entry.getValue().equalsIgnoreCase(otherGroup)) {
+                entry.setValue(group);
+            }
+        }
+    }
+    
+    private String getGroup(final String logicTable) {
+        String result = logicTableGroups.get(logicTable);
+        return null == result ? logicTable : result;
+    }
+    
+    /**
+     * 判断路由表单元组合中同组的表是否为序号相同的真实表.
+     * 
+     * @param tableUnits 路由表单元组合
+     * @return 是否为序号相同的真实表
+     */
+    public boolean isAligned(final List<TableUnit> tableUnits) {
+        Map<String, Integer> groupIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (TableUnit each : tableUnits) {
+            String group = logicTableGroups.get(each.getLogicTableName());
+            if (null == group) {
+                continue;
+            }
+            int index = shardingRule.getTableRule(each.getLogicTableName()).findActualTableIndex(each.getDataSourceName(), each.getActualTableName());
+            Integer groupIndex = groupIndexes.get(group);
+            if (null == groupIndex) {
+                groupIndexes.put(group, index);
+            } else if (groupIndex != index) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -21,24 +21,29 @@ import com.dangdang.ddframe.rdb.sharding.api.rule.BindingTableRule;
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
 import com.dangdang.ddframe.rdb.sharding.api.rule.TableRule;
 import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.EqualJoinCondition;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectStatement;
 import com.dangdang.ddframe.rdb.sharding.routing.type.RoutingResult;
 import com.dangdang.ddframe.rdb.sharding.routing.type.RoutingEngine;
 import com.dangdang.ddframe.rdb.sharding.routing.type.simple.SimpleRoutingEngine;
-import com.google.common.base.Function;
 import com.google.common.base.Optional;
-import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.TreeSet;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 混合多库表路由引擎.
  * 
+ * <p>
+ * 通过等值关联条件连接的同位分片表按真实表序号对齐, 不做完整的笛卡尔积.
+ * </p>
+ * 
  * @author gaohongtao
  * @author zhangliang
  */
@@ -54,25 +59,26 @@ public final class ComplexRoutingEngine implements RoutingEngine {
     
     private final SQLStatement sqlStatement;
     
+    private final int maxCartesianRoutingSize;
+    
     @Override
     public RoutingResult route() {
         Collection<RoutingResult> result = new ArrayList<>(logicTables.size());
-        Collection<String> bindingTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, String> routedLogicTables = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (String each : logicTables) {
             Optional<TableRule> tableRule = shardingRule.tryFindTableRule(each);
             if (tableRule.isPresent()) {
-                if (!bindingTableNames.contains(each)) {
+                if (!routedLogicTables.containsKey(each)) {
                     result.add(new SimpleRoutingEngine(shardingRule, parameters, tableRule.get().getLogicTable(), sqlStatement).route());
+                    routedLogicTables.put(each, tableRule.get().getLogicTable());
                 }
                 Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each);
                 if (bindingTableRule.isPresent()) {
-                    bindingTableNames.addAll(Lists.transform(bindingTableRule.get().getTableRules(), new Function<TableRule, String>() {
-                        
-                        @Override
-                        public String apply(final TableRule input) {
-                            return input.getLogicTable();
+                    for (TableRule bindingEach : bindingTableRule.get().getTableRules()) {
+                        if (!routedLogicTables.containsKey(bindingEach.getLogicTable())) {
+                            routedLogicTables.put(bindingEach.getLogicTable(), routedLogicTables.get(each));
                         }
-                    }));
+                    }
                 }
             }
         }
@@ -83,6 +89,22 @@ public final class ComplexRoutingEngine implements RoutingEngine {
         if (1 == result.size()) {
             return result.iterator().next();
         }
-        return new CartesianRoutingEngine(result).route();
+        return new CartesianRoutingEngine(result, getColocatedTables(routedLogicTables), maxCartesianRoutingSize).route();
+    }
+    
+    private ColocatedTables getColocatedTables(final Map<String, String> routedLogicTables) {
+        ColocatedTables result = new ColocatedTables(shardingRule);
+        if (!(sqlStatement instanceof SelectStatement)) {
+            return result;
+        }
+        for (EqualJoinCondition each : ((SelectStatement) sqlStatement).getEqualJoinConditions()) {
+            String leftLogicTable = routedLogicTables.get(each.getLeftColumn().getTableName());
+            String rightLogicTable = routedLogicTables.get(each.getRightColumn().getTableName());
+            if (null != leftLogicTable && null != rightLogicTable && !leftLogicTable.equalsIgnoreCase(rightLogicTable) 
+                    && shardingRule.isColocatedTables(each.getLeftColumn(), each.getRightColumn())) {
+                result.add(leftLogicTable, rightLogicTable);
+            }
+        }
+        return result;
     }
 }
@@ -25,6 +25,7 @@ import com.dangdang.ddframe.rdb.sharding.api.strategy.database.DatabaseShardingS
 import com.dangdang.ddframe.rdb.sharding.api.strategy.table.TableShardingStrategy;
 import com.dangdang.ddframe.rdb.sharding.hint.HintManagerHolder;
 import com.dangdang.ddframe.rdb.sharding.hint.ShardingKey;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.AndCondition;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Column;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Condition;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
@@ -36,12 +37,20 @@ import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
  * 简单路由引擎.
  * 
+ * <p>
+ * 包含OR条件时, 分别路由每一组AND条件并取并集.
+ * 范围条件交集为空的AND条件不可能命中数据, 不参与路由; 全部AND条件都不可能命中数据时, 静态表只路由至第一个数据单元.
+ * 静态表的路由结果以表规则中真实数据单元序号的位图表示, 合并时按位取并集, 最后才生成路由表单元.
+ * </p>
+ * 
  * @author zhangliang
  */
 @RequiredArgsConstructor
@@ -58,24 +67,70 @@ public final class SimpleRoutingEngine implements RoutingEngine {
     @Override
     public RoutingResult route() {
         TableRule tableRule = shardingRule.getTableRule(logicTableName);
-        Collection<String> routedDataSources = routeDataSources(tableRule);
-        Collection<String> routedTables = routeTables(tableRule, routedDataSources);
-        return generateRoutingResult(tableRule, routedDataSources, routedTables);
+        DatabaseShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule);
+        TableShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule);
+        if (tableRule.isDynamic()) {
+            return routeDynamicTable(tableRule, databaseShardingStrategy, tableShardingStrategy);
+        }
+        if (HintManagerHolder.isUseShardingHint()) {
+            return generateRoutingResult(tableRule, routeStaticTable(tableRule, getDatabaseShardingValuesFromHint(databaseShardingStrategy.getShardingColumns()), 
+                    getTableShardingValuesFromHint(tableShardingStrategy.getShardingColumns())));
+        }
+        BitSet dataNodeIndexes = new BitSet();
+        for (AndCondition each : sqlStatement.getConditions().getAndConditions()) {
+            if (!isAlwaysFalse(each)) {
+                dataNodeIndexes.or(routeStaticTable(tableRule, each, databaseShardingStrategy, tableShardingStrategy));
+            }
+        }
+        if (dataNodeIndexes.isEmpty()) {
+            // 条件不可能命中任何数据时仍需执行一次SQL, 才能得到包含元数据的空结果集
+            dataNodeIndexes.set(0);
+        }
+        return generateRoutingResult(tableRule, dataNodeIndexes);
+    }
+    
+    private RoutingResult routeDynamicTable(final TableRule tableRule, final DatabaseShardingStrategy databaseShardingStrategy, final TableShardingStrategy tableShardingStrategy) {
+        if (HintManagerHolder.isUseShardingHint()) {
+            return generateRoutingResult(routeDynamicTable(tableRule, getDatabaseShardingValuesFromHint(databaseShardingStrategy.getShardingColumns()), 
+                    getTableShardingValuesFromHint(tableShardingStrategy.getShardingColumns())));
+        }
+        Collection<DataNode> dataNodes = new LinkedHashSet<>();
+        for (AndCondition each : sqlStatement.getConditions().getAndConditions()) {
+            if (!isAlwaysFalse(each)) {
+                dataNodes.addAll(routeDynamicTable(tableRule, getShardingValues(each, databaseShardingStrategy.getShardingColumns()), 
+                        getShardingValues(each, tableShardingStrategy.getShardingColumns())));
+            }
+        }
+        Preconditions.checkState(!dataNodes.isEmpty(), "Sharding conditions of dynamic table '%s' can not match any data.", logicTableName);
+        return generateRoutingResult(dataNodes);
+    }
+    
+    private BitSet routeStaticTable(final TableRule tableRule, final AndCondition andCondition, 
+                                    final DatabaseShardingStrategy databaseShardingStrategy, final TableShardingStrategy tableShardingStrategy) {
+        return routeStaticTable(tableRule, getShardingValues(andCondition, databaseShardingStrategy.getShardingColumns()), getShardingValues(andCondition, tableShardingStrategy.getShardingColumns()));
+    }
+    
+    private BitSet routeStaticTable(final TableRule tableRule, final List<ShardingValue<?>> databaseShardingValues, final List<ShardingValue<?>> tableShardingValues) {
+        Collection<String> routedDataSources = routeDataSources(tableRule, databaseShardingValues);
+        Collection<String> routedTables = routeTables(tableRule, routedDataSources, tableShardingValues);
+        return tableRule.getRoutingDataNodeIndexes(routedDataSources, routedTables);
     }
     
-    private Collection<String> routeDataSources(final TableRule tableRule) {
+    private Collection<DataNode> routeDynamicTable(final TableRule tableRule, final List<ShardingValue<?>> databaseShardingValues, final List<ShardingValue<?>> tableShardingValues) {
+        Collection<String> routedDataSources = routeDataSources(tableRule, databaseShardingValues);
+        Collection<String> routedTables = routeTables(tableRule, routedDataSources, tableShardingValues);
+        return tableRule.getActualDataNodes(routedDataSources, routedTables);
+    }
+    
+    private Collection<String> routeDataSources(final TableRule tableRule, final List<ShardingValue<?>> shardingValues) {
         DatabaseShardingStrategy strategy = shardingRule.getDatabaseShardingStrategy(tableRule);
-        List<ShardingValue<?>> shardingValues = HintManagerHolder.isUseShardingHint() ? getDatabaseShardingValuesFromHint(strategy.getShardingColumns())
-                : getShardingValues(strategy.getShardingColumns());
         Collection<String> result = strategy.doStaticSharding(sqlStatement.getType(), tableRule.getActualDatasourceNames(), shardingValues);
         Preconditions.checkState(!result.isEmpty(), "no database route info");
         return result;
     }
     
-    private Collection<String> routeTables(final TableRule tableRule, final Collection<String> routedDataSources) {
+    private Collection<String> routeTables(final TableRule tableRule, final Collection<String> routedDataSources, final List<ShardingValue<?>> shardingValues) {
         TableShardingStrategy strategy = shardingRule.getTableShardingStrategy(tableRule);
-        List<ShardingValue<?>> shardingValues = HintManagerHolder.isUseShardingHint() ? getTableShardingValuesFromHint(strategy.getShardingColumns())
-                : getShardingValues(strategy.getShardingColumns());
         Collection<String> result = tableRule.isDynamic() ? strategy.doDynamicSharding(shardingValues)
                 : strategy.doStaticSharding(sqlStatement.getType(), tableRule.getActualTableNames(routedDataSources), shardingValues);
         Preconditions.checkState(!result.isEmpty(), "no table route info");
@@ -104,10 +159,19 @@ public final class SimpleRoutingEngine implements RoutingEngine {
         return result;
     }
     
-    private List<ShardingValue<?>> getShardingValues(final Collection<String> shardingColumns) {
+    private boolean isAlwaysFalse(final AndCondition andCondition) {
+        for (Condition each : andCondition.getConditions()) {
+            if (each.isRange() && each.getShardingValue(parameters).getValueRange().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private List<ShardingValue<?>> getShardingValues(final AndCondition andCondition, final Collection<String> shardingColumns) {
         List<ShardingValue<?>> result = new ArrayList<>(shardingColumns.size());
         for (String each : shardingColumns) {
-            Optional<Condition> condition = sqlStatement.getConditions().find(new Column(each, logicTableName));
+            Optional<Condition> condition = andCondition.find(new Column(each, logicTableName));
             if (condition.isPresent()) {
                 result.add(condition.get().getShardingValue(parameters));
             }
@@ -115,9 +179,18 @@ public final class SimpleRoutingEngine implements RoutingEngine {
         return result;
     }
     
-    private RoutingResult generateRoutingResult(final TableRule tableRule, final Collection<String> routedDataSources, final Collection<String> routedTables) {
+    private RoutingResult generateRoutingResult(final TableRule tableRule, final BitSet dataNodeIndexes) {
+        RoutingResult result = new RoutingResult();
+        for (int i = dataNodeIndexes.nextSetBit(0); i >= 0; i = dataNodeIndexes.nextSetBit(i + 1)) {
+            DataNode dataNode = tableRule.getRoutingDataNode(i);
+            result.getTableUnits().getTableUnits().add(new TableUnit(dataNode.getDataSourceName(), logicTableName, dataNode.getTableName()));
+        }
+        return result;
+    }
+    
+    private RoutingResult generateRoutingResult(final Collection<DataNode> dataNodes) {
         RoutingResult result = new RoutingResult();
-        for (DataNode each : tableRule.getActualDataNodes(routedDataSources, routedTables)) {
+        for (DataNode each : dataNodes) {
             result.getTableUnits().getTableUnits().add(new TableUnit(each.getDataSourceName(), logicTableName, each.getTableName()));
         }
         return result;
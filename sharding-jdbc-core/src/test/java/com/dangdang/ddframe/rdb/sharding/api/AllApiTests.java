@@ -26,7 +26,15 @@ import com.dangdang.ddframe.rdb.sharding.api.rule.TableRuleTest;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.common.ShardingStrategyTest;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.database.DatabaseShardingStrategyTest;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.database.NoneDatabaseShardingAlgorithmTest;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.directory.DirectoryShardingAlgorithmTest;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.directory.JdbcShardingDirectoryTest;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.slave.RoundRobinSlaveLoadBalanceStrategyTest;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.ConsistentHashShardingAlgorithmTest;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.HashModuloShardingAlgorithmTest;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.ModuloShardingAlgorithmTest;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.RangeShardingAlgorithmTest;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.TimeIntervalDynamicTableShardingAlgorithmTest;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.TimeIntervalShardingAlgorithmTest;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.table.NoneTableShardingAlgorithmTest;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.table.TableShardingStrategyTest;
 import com.dangdang.ddframe.rdb.sharding.config.ShardingPropertiesConstantTest;
@@ -51,6 +59,14 @@ import org.junit.runners.Suite;
     NoneDatabaseShardingAlgorithmTest.class, 
     TableShardingStrategyTest.class, 
     NoneTableShardingAlgorithmTest.class, 
+    ModuloShardingAlgorithmTest.class, 
+    HashModuloShardingAlgorithmTest.class, 
+    RangeShardingAlgorithmTest.class, 
+    TimeIntervalShardingAlgorithmTest.class, 
+    TimeIntervalDynamicTableShardingAlgorithmTest.class, 
+    ConsistentHashShardingAlgorithmTest.class, 
+    DirectoryShardingAlgorithmTest.class, 
+    JdbcShardingDirectoryTest.class, 
     HintManagerTest.class, 
     MasterSlaveDataSourceFactoryTest.class, 
     RoundRobinSlaveLoadBalanceStrategyTest.class
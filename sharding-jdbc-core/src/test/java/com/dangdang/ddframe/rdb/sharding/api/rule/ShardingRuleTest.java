@@ -19,6 +19,11 @@ package com.dangdang.ddframe.rdb.sharding.api.rule;
 
 import com.dangdang.ddframe.rdb.sharding.api.strategy.database.DatabaseShardingStrategy;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.database.NoneDatabaseShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.directory.DirectoryShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.directory.ShardingDirectory;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.ConsistentHashShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.TimeIntervalDynamicTableShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.TimeIntervalUnit;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.table.NoneTableShardingAlgorithm;
 import com.dangdang.ddframe.rdb.sharding.api.strategy.table.TableShardingStrategy;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Column;
@@ -28,14 +33,18 @@ import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public final class ShardingRuleTest {
     
@@ -89,6 +98,39 @@ public final class ShardingRuleTest {
         assertFalse(actual.tryFindTableRule("null").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleIgnoreCase() {
+        TableRule tableRule = createTableRule();
+        ShardingRule actual = ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Collections.singletonList(tableRule)).build();
+        assertThat(actual.tryFindTableRule("LOGICTABLE").get(), is(tableRule));
+        assertThat(actual.tryFindTableRule("logictable").get(), is(tableRule));
+    }
+    
+    @Test
+    public void assertFindTableRuleIgnoreCaseWithTurkishLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            TableRule tableRule = createTableRule();
+            ShardingRule actual = ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Collections.singletonList(tableRule)).build();
+            assertThat(actual.tryFindTableRule("LOGICTABLE").get(), is(tableRule));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+    
+    @Test
+    public void assertGetTableRuleWithDefaultDataSource() {
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2);
+        dataSourceMap.put("ds0", mock(DataSource.class));
+        dataSourceMap.put("ds1", mock(DataSource.class));
+        ShardingRule actual = ShardingRule.builder().dataSourceRule(new DataSourceRule(dataSourceMap, "ds0")).tableRules(Collections.singletonList(createTableRule())).build();
+        TableRule tableRule = actual.getTableRule("otherTable");
+        assertThat(tableRule.getLogicTable(), is("otherTable"));
+        assertThat(tableRule.getActualDatasourceNames(), is((Collection<String>) Collections.singleton("ds0")));
+        assertThat(actual.getTableRule("otherTable"), sameInstance(tableRule));
+    }
+    
     @Test
     public void assertGetDatabaseShardingStrategyFromTableRule() {
         DatabaseShardingStrategy strategy = createDatabaseShardingStrategy();
@@ -154,6 +196,7 @@ public final class ShardingRuleTest {
         ShardingRule actual = ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Collections.singletonList(createTableRule()))
                 .bindingTableRules(Collections.singletonList(bindingTableRule)).build();
         assertThat(actual.findBindingTableRule("logicTable").get(), is(bindingTableRule));
+        assertThat(actual.findBindingTableRule("LOGICTABLE").get(), is(bindingTableRule));
     }
     
     @Test
@@ -222,6 +265,110 @@ public final class ShardingRuleTest {
                 .tableRules(Collections.singletonList(createTableRuleWithAllStrategies())).build().isShardingColumn(new Column("column", "otherTable")));
     }
     
+    @Test
+    public void assertIsBroadcastTable() {
+        ShardingRule actual = createShardingRuleWithBroadcastTables();
+        assertTrue(actual.isBroadcastTable("CURRENCY"));
+        assertFalse(actual.isBroadcastTable("logicTable"));
+    }
+    
+    @Test
+    public void assertIsAllBroadcastTables() {
+        ShardingRule actual = createShardingRuleWithBroadcastTables();
+        assertTrue(actual.isAllBroadcastTables(Arrays.asList("currency", "region")));
+        assertFalse(actual.isAllBroadcastTables(Arrays.asList("currency", "logicTable")));
+        assertFalse(actual.isAllBroadcastTables(Collections.<String>emptyList()));
+    }
+    
+    @Test
+    public void assertExcludeBroadcastTables() {
+        assertThat(createShardingRuleWithBroadcastTables().excludeBroadcastTables(Arrays.asList("currency", "logicTable")), is((Collection<String>) Collections.singleton("logicTable")));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBroadcastTableWithTableRule() {
+        ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Collections.singletonList(createTableRule())).broadcastTables(Collections.singletonList("LOGICTABLE")).build();
+    }
+    
+    @Test
+    public void assertIsColocatedTables() {
+        assertTrue(createShardingRuleWithDefaultStrategies().isColocatedTables(new Column("column", "logicTable"), new Column("COLUMN", "subLogicTable")));
+    }
+    
+    @Test
+    public void assertIsNotColocatedTablesWithoutShardingColumn() {
+        assertFalse(createShardingRuleWithDefaultStrategies().isColocatedTables(new Column("column", "logicTable"), new Column("other_column", "subLogicTable")));
+    }
+    
+    @Test
+    public void assertIsNotColocatedTablesForSameTable() {
+        assertFalse(createShardingRuleWithDefaultStrategies().isColocatedTables(new Column("column", "logicTable"), new Column("column", "logicTable")));
+    }
+    
+    @Test
+    public void assertIsNotColocatedTablesWithDifferentAlgorithms() {
+        assertFalse(ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Arrays.asList(createTableRuleWithAllStrategies(), createSubTableRule()))
+                .databaseShardingStrategy(createDatabaseShardingStrategy()).tableShardingStrategy(createTableShardingStrategy()).build()
+                .isColocatedTables(new Column("column", "logicTable"), new Column("column", "subLogicTable")));
+    }
+    
+    @Test
+    public void assertIsNotColocatedTablesWithMisalignedTableSuffixes() {
+        TableRule subTableRule = TableRule.builder("subLogicTable").actualTables(Arrays.asList("sub_table_1", "sub_table_0", "sub_table_2")).dataSourceRule(createDataSourceRule()).build();
+        assertFalse(ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Arrays.asList(createTableRule(), subTableRule))
+                .databaseShardingStrategy(createDatabaseShardingStrategy()).tableShardingStrategy(createTableShardingStrategy()).build()
+                .isColocatedTables(new Column("column", "logicTable"), new Column("column", "subLogicTable")));
+    }
+    
+    @Test
+    public void assertIsNotColocatedTablesWithDifferentTableSuffixes() {
+        TableRule subTableRule = TableRule.builder("subLogicTable").actualTables(Arrays.asList("sub_table_10", "sub_table_11", "sub_table_12")).dataSourceRule(createDataSourceRule()).build();
+        assertFalse(ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Arrays.asList(createTableRule(), subTableRule))
+                .databaseShardingStrategy(createDatabaseShardingStrategy()).tableShardingStrategy(createTableShardingStrategy()).build()
+                .isColocatedTables(new Column("column", "logicTable"), new Column("column", "subLogicTable")));
+    }
+    
+    @Test
+    public void assertIsNotColocatedTablesWithTargetNameAwareAlgorithm() {
+        assertFalse(ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Arrays.asList(createTableRule(), createSubTableRule()))
+                .databaseShardingStrategy(createDatabaseShardingStrategy())
+                .tableShardingStrategy(new TableShardingStrategy("column", new ConsistentHashShardingAlgorithm<Integer>())).build()
+                .isColocatedTables(new Column("column", "logicTable"), new Column("column", "subLogicTable")));
+    }
+    
+    @Test
+    public void assertIsDeterministicSharding() {
+        assertTrue(createShardingRuleWithDefaultStrategies().isDeterministicSharding(Arrays.asList("logicTable", "subLogicTable", "otherTable")));
+    }
+    
+    @Test
+    public void assertIsNotDeterministicShardingWithDirectoryAlgorithm() {
+        ShardingRule actual = ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Arrays.asList(createTableRule(), createSubTableRule()))
+                .databaseShardingStrategy(new DatabaseShardingStrategy("column", new DirectoryShardingAlgorithm<Long>(mock(ShardingDirectory.class)))).build();
+        assertFalse(actual.isDeterministicSharding(Collections.singletonList("SUBLOGICTABLE")));
+        assertTrue(actual.isDeterministicSharding(Collections.singletonList("otherTable")));
+    }
+    
+    @Test
+    public void assertIsDeterministicShardingWithTimeIntervalDynamicTableAlgorithm() {
+        assertTrue(ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Collections.singletonList(createTableRule()))
+                .tableShardingStrategy(new TableShardingStrategy("column", new TimeIntervalDynamicTableShardingAlgorithm<Date>("table_", TimeIntervalUnit.MONTH, new Date(0L), new Date())))
+                .build().isDeterministicSharding(Collections.singletonList("logicTable")));
+        assertFalse(ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Collections.singletonList(createTableRule()))
+                .tableShardingStrategy(new TableShardingStrategy("column", new TimeIntervalDynamicTableShardingAlgorithm<Date>("table_", TimeIntervalUnit.MONTH, new Date(0L))))
+                .build().isDeterministicSharding(Collections.singletonList("logicTable")));
+    }
+    
+    private ShardingRule createShardingRuleWithDefaultStrategies() {
+        return ShardingRule.builder().dataSourceRule(createDataSourceRule()).tableRules(Arrays.asList(createTableRule(), createSubTableRule()))
+                .databaseShardingStrategy(createDatabaseShardingStrategy()).tableShardingStrategy(createTableShardingStrategy()).build();
+    }
+    
+    private ShardingRule createShardingRuleWithBroadcastTables() {
+        return ShardingRule.builder().dataSourceRule(createDataSourceRule())
+                .tableRules(Collections.singletonList(createTableRule())).broadcastTables(Arrays.asList("currency", "region")).build();
+    }
+    
     private ShardingRule createShardingRule() {
         return ShardingRule.builder().dataSourceRule(createDataSourceRule())
                 .tableRules(Collections.singletonList(createTableRule())).bindingTableRules(Collections.singletonList(createBindingTableRule())).build();
@@ -28,12 +28,15 @@ import org.junit.Test;
 
 import javax.sql.DataSource;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -158,6 +161,47 @@ public final class TableRuleTest {
                 (Collection<DataNode>) Sets.newLinkedHashSet(Arrays.asList(new DataNode("ds1", "table_0"), new DataNode("ds1", "table_1")))));
     }
     
+    @Test
+    public void assertGetRoutingDataNodeIndexes() {
+        TableRule actual = TableRule.builder("logicTable").actualTables(Arrays.asList("ds1.table_1", "ds0.table_1", "ds1.table_0", "ds0.table_0")).build();
+        BitSet actualIndexes = actual.getRoutingDataNodeIndexes(Arrays.asList("ds1", "ds2"), Arrays.asList("table_1", "table_0", "table_2"));
+        assertThat(actualIndexes.cardinality(), is(2));
+        assertThat(actual.getRoutingDataNode(actualIndexes.nextSetBit(0)), is(new DataNode("ds1", "table_1")));
+        assertThat(actual.getRoutingDataNode(actualIndexes.nextSetBit(actualIndexes.nextSetBit(0) + 1)), is(new DataNode("ds1", "table_0")));
+    }
+    
+    @Test
+    public void assertGetRoutingDataNodeIndexesKeepActualTablesOrder() {
+        TableRule actual = TableRule.builder("logicTable").actualTables(Arrays.asList("ds0.table_2", "ds0.table_10", "ds0.table_1")).build();
+        BitSet actualIndexes = actual.getRoutingDataNodeIndexes(Collections.singletonList("ds0"), Arrays.asList("table_1", "table_2", "table_10"));
+        assertThat(actualIndexes.cardinality(), is(3));
+        assertThat(actual.getRoutingDataNode(0), is(new DataNode("ds0", "table_2")));
+        assertThat(actual.getRoutingDataNode(1), is(new DataNode("ds0", "table_10")));
+        assertThat(actual.getRoutingDataNode(2), is(new DataNode("ds0", "table_1")));
+    }
+    
+    @Test
+    public void assertGetRoutingDataNodeIndexesIgnoreCase() {
+        TableRule actual = TableRule.builder("logicTable").actualTables(Arrays.asList("ds0.table_0", "ds0.table_1")).build();
+        BitSet actualIndexes = actual.getRoutingDataNodeIndexes(Collections.singletonList("DS0"), Collections.singletonList("TABLE_1"));
+        assertThat(actualIndexes.cardinality(), is(1));
+        assertThat(actual.getRoutingDataNode(actualIndexes.nextSetBit(0)), is(new DataNode("ds0", "table_1")));
+    }
+    
+    @Test
+    public void assertGetActualDataNodesIgnoreCase() {
+        TableRule actual = TableRule.builder("logicTable").actualTables(Arrays.asList("ds0.table_0", "ds0.table_1")).build();
+        assertThat(actual.getActualDataNodes(Collections.singletonList("DS0"), Collections.singletonList("TABLE_1")), 
+                is((Collection<DataNode>) Sets.newLinkedHashSet(Collections.singletonList(new DataNode("ds0", "table_1")))));
+        assertThat(actual.getActualTableNames(Collections.singletonList("DS0")), is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("table_0", "table_1"))));
+        assertThat(actual.findActualTableIndex("DS0", "TABLE_1"), is(1));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetRoutingDataNodeIndexesForDynamic() {
+        TableRule.builder("logicTable").dynamic(true).dataSourceRule(createDataSourceRule()).build().getRoutingDataNodeIndexes(Collections.singletonList("ds1"), Collections.singletonList("table_0"));
+    }
+    
     @Test
     public void assertGetActualDatasourceNames() {
         TableRule actual = TableRule.builder("logicTable")
@@ -179,6 +223,30 @@ public final class TableRuleTest {
         assertThat(actual.findActualTableIndex("ds1", "table_1"), is(4));
     }
     
+    @Test
+    public void assertGetActualTableNamesForMultipleDataSources() {
+        TableRule actual = TableRule.builder("logicTable")
+                .actualTables(Arrays.asList("ds0.table_0", "ds0.table_1", "ds1.table_1", "ds1.table_2", "ds2.table_3")).build();
+        assertThat(actual.getActualTableNames(Arrays.asList("ds1", "ds0")), is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("table_0", "table_1", "table_2"))));
+        assertTrue(actual.getActualTableNames(Collections.singletonList("ds3")).isEmpty());
+    }
+    
+    @Test
+    public void assertGetActualTableNamesForSameDataSourcesReturnSameInstance() {
+        TableRule actual = TableRule.builder("logicTable")
+                .actualTables(Arrays.asList("ds0.table_0", "ds0.table_1", "ds1.table_1", "ds1.table_2", "ds2.table_3")).build();
+        Collection<String> expected = actual.getActualTableNames(Arrays.asList("ds0", "ds1"));
+        assertThat(actual.getActualTableNames(Arrays.asList("DS1", "ds0")), sameInstance(expected));
+        assertThat(actual.getActualTableNames(Arrays.asList("ds0", "ds2")), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertFindActualTableIndexIgnoreCase() {
+        TableRule actual = TableRule.builder("logicTable")
+                .actualTables(Arrays.asList("ds0.table_0", "ds0.table_1", "ds0.table_2", "ds1.table_0", "ds1.table_1", "ds1.table_2")).build();
+        assertThat(actual.findActualTableIndex("DS1", "TABLE_1"), is(4));
+    }
+    
     @Test
     public void assertFindActualTableIndexForNotFound() {
         TableRule actual = TableRule.builder("logicTable")
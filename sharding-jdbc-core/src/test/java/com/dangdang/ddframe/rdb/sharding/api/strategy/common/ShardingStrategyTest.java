@@ -27,10 +27,13 @@ import com.google.common.collect.Sets;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.TreeSet;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public final class ShardingStrategyTest {
@@ -43,6 +46,12 @@ public final class ShardingStrategyTest {
         assertThat(strategy.doStaticSharding(SQLType.SELECT, targets, Collections.<ShardingValue<?>>emptySet()), is(targets));
     }
     
+    @Test
+    public void assertDoStaticShardingWithoutShardingColumnsReturnsAvailableTargets() {
+        ShardingStrategy strategy = new ShardingStrategy(Sets.newHashSet("column"), null);
+        assertThat(strategy.doStaticSharding(SQLType.SELECT, targets, Collections.<ShardingValue<?>>emptySet()), sameInstance(targets));
+    }
+    
     @Test(expected = IllegalStateException.class)
     public void assertDoStaticShardingForInsertWithoutShardingColumns() {
         ShardingStrategy strategy = new ShardingStrategy(Sets.newHashSet("column"), null);
@@ -63,6 +72,20 @@ public final class ShardingStrategyTest {
                 is((Collection<String>) Sets.newHashSet("1", "3")));
     }
     
+    @Test
+    public void assertDoStaticShardingForInSingleKeyIgnoreCase() {
+        ShardingStrategy strategy = new ShardingStrategy("column", new TestSingleKeyShardingAlgorithm());
+        assertThat(strategy.doStaticSharding(SQLType.SELECT, targets, createShardingValues(new ShardingValue<>("logicTable", "column", Sets.newHashSet("a", "A")))).size(), is(1));
+    }
+    
+    @Test
+    public void assertDoStaticShardingForInSingleKeyWithCaseInsensitiveResult() {
+        ShardingStrategy strategy = new ShardingStrategy("column", new TestSingleKeyShardingAlgorithm());
+        Collection<String> values = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        values.addAll(Arrays.asList("1", "3"));
+        assertThat(strategy.doStaticSharding(SQLType.SELECT, targets, createShardingValues(new ShardingValue<>("logicTable", "column", values))), sameInstance(values));
+    }
+    
     @Test
     public void assertDoStaticShardingForBetweenSingleKey() {
         ShardingStrategy strategy = new ShardingStrategy("column", new TestSingleKeyShardingAlgorithm());
@@ -70,6 +93,18 @@ public final class ShardingStrategyTest {
                 is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
     
+    @Test
+    public void assertDoStaticShardingForUnboundedRangeSingleKey() {
+        ShardingStrategy strategy = new ShardingStrategy("column", new TestSingleKeyShardingAlgorithm());
+        assertThat(strategy.doStaticSharding(SQLType.SELECT, targets, createShardingValues(new ShardingValue<>("logicTable", "column", Range.greaterThan("1")))), sameInstance(targets));
+    }
+    
+    @Test
+    public void assertDoStaticShardingForEmptyRangeSingleKey() {
+        ShardingStrategy strategy = new ShardingStrategy("column", new TestSingleKeyShardingAlgorithm());
+        assertThat(strategy.doStaticSharding(SQLType.SELECT, targets, createShardingValues(new ShardingValue<>("logicTable", "column", Range.closedOpen("2", "2")))), sameInstance(targets));
+    }
+    
     @Test
     public void assertDoStaticShardingForMultipleKeys() {
         ShardingStrategy strategy = new ShardingStrategy("column", new TestMultipleKeysShardingAlgorithm());
@@ -101,6 +136,12 @@ public final class ShardingStrategyTest {
         assertThat(strategy.doDynamicSharding(createShardingValues(new ShardingValue<>("logicTable", "column", Range.open("1", "3")))), is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
     
+    @Test(expected = IllegalStateException.class)
+    public void assertDoDynamicShardingForUnboundedRangeSingleKey() {
+        ShardingStrategy strategy = new ShardingStrategy("column", new TestSingleKeyShardingAlgorithm());
+        strategy.doDynamicSharding(createShardingValues(new ShardingValue<>("logicTable", "column", Range.atMost("3"))));
+    }
+    
     @Test
     public void assertDoDynamicShardingForMultipleKeys() {
         ShardingStrategy strategy = new ShardingStrategy("column", new TestMultipleKeysShardingAlgorithm());
@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.directory;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.ModuloShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.google.common.collect.Range;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DirectoryShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("ds_0", "ds_1", "ds_vip");
+    
+    private final CountingShardingDirectory directory = new CountingShardingDirectory();
+    
+    @Test
+    public void assertDoEqualShardingWithCache() {
+        DirectoryShardingAlgorithm<Long> algorithm = new DirectoryShardingAlgorithm<>(directory);
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", 100L)), is("ds_vip"));
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", 100L)), is("ds_vip"));
+        assertThat(directory.lookupCount, is(1));
+    }
+    
+    @Test
+    public void assertDoEqualShardingWithFallback() {
+        DirectoryShardingAlgorithm<Long> algorithm = new DirectoryShardingAlgorithm<>(directory, 100L, 60L, 60L, new ModuloShardingAlgorithm<Long>(2));
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", 3L)), is("ds_1"));
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", 3L)), is("ds_1"));
+        assertThat(directory.lookupCount, is(1));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertDoEqualShardingWithoutTarget() {
+        new DirectoryShardingAlgorithm<Long>(directory).doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", 3L));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertDoEqualShardingWithUnavailableTarget() {
+        new DirectoryShardingAlgorithm<Long>(directory).doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", 200L));
+    }
+    
+    @Test
+    public void assertDoInShardingWithBatchLookup() {
+        DirectoryShardingAlgorithm<Long> algorithm = new DirectoryShardingAlgorithm<>(directory, 100L, 60L, 60L, new ModuloShardingAlgorithm<Long>(2));
+        algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", 100L));
+        assertThat(algorithm.doInSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", Arrays.asList(100L, 2L, 3L, 3L))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("ds_vip", "ds_0", "ds_1"))));
+        assertThat(directory.lookupCount, is(2));
+        assertThat(directory.lookupValues.get(1), is((Collection<Comparable<?>>) Arrays.<Comparable<?>>asList(2L, 3L)));
+    }
+    
+    @Test
+    public void assertDoBetweenSharding() {
+        assertThat(new DirectoryShardingAlgorithm<Long>(directory).doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", Range.closed(1L, 2L))), 
+                is((Collection<String>) Sets.newLinkedHashSet(availableTargetNames)));
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        DirectoryShardingAlgorithm<Long> algorithm = new DirectoryShardingAlgorithm<>(directory);
+        algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", 100L));
+        directory.mappings.put("100", "ds_0");
+        algorithm.invalidate(100L);
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "tenant_id", 100L)), is("ds_0"));
+        assertThat(directory.lookupCount, is(2));
+    }
+    
+    private static final class CountingShardingDirectory implements ShardingDirectory {
+        
+        private final Map<String, String> mappings = new HashMap<>();
+        
+        private final List<Collection<Comparable<?>>> lookupValues = new ArrayList<>();
+        
+        private int lookupCount;
+        
+        CountingShardingDirectory() {
+            mappings.put("100", "ds_vip");
+            mappings.put("200", "ds_removed");
+        }
+        
+        @Override
+        public <T extends Comparable<?>> Map<T, String> lookup(final Collection<T> shardingValues) {
+            lookupCount++;
+            lookupValues.add(new ArrayList<Comparable<?>>(shardingValues));
+            Map<T, String> result = new HashMap<>();
+            for (T each : shardingValues) {
+                if (mappings.containsKey(each.toString())) {
+                    result.put(each, mappings.get(each.toString()));
+                }
+            }
+            return result;
+        }
+    }
+}
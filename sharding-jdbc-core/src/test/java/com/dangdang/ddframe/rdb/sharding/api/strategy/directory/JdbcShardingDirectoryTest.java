@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.directory;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class JdbcShardingDirectoryTest {
+    
+    private final JdbcDataSource dataSource = new JdbcDataSource();
+    
+    @Before
+    public void setUp() throws SQLException {
+        dataSource.setURL("jdbc:h2:mem:sharding_directory;DB_CLOSE_DELAY=-1");
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_tenant_directory");
+            statement.execute("CREATE TABLE t_tenant_directory (tenant_id BIGINT PRIMARY KEY, data_source_name VARCHAR(50))");
+            statement.execute("INSERT INTO t_tenant_directory VALUES (1, 'ds_0'), (2, 'ds_vip')");
+            statement.execute("DROP TABLE IF EXISTS t_region_directory");
+            statement.execute("CREATE TABLE t_region_directory (region_id DECIMAL(10, 2), region_code CHAR(5), data_source_name VARCHAR(50))");
+            statement.execute("INSERT INTO t_region_directory VALUES (1, 'cn', 'ds_cn'), (2.5, 'us', 'ds_us')");
+        }
+    }
+    
+    @Test
+    public void assertLookup() {
+        Map<Long, String> actual = new JdbcShardingDirectory(dataSource, "t_tenant_directory", "tenant_id", "data_source_name").lookup(Arrays.asList(1L, 2L, 3L));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(1L), is("ds_0"));
+        assertThat(actual.get(2L), is("ds_vip"));
+    }
+    
+    @Test
+    public void assertLookupWithDecimalKeyColumn() {
+        Map<Comparable<?>, String> actual = new JdbcShardingDirectory(dataSource, "t_region_directory", "region_id", "data_source_name")
+                .lookup(Arrays.<Comparable<?>>asList(1L, 2.5D, 3L));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(1L), is("ds_cn"));
+        assertThat(actual.get(2.5D), is("ds_us"));
+    }
+    
+    @Test
+    public void assertLookupWithCharKeyColumn() {
+        Map<String, String> actual = new JdbcShardingDirectory(dataSource, "t_region_directory", "region_code", "data_source_name").lookup(Arrays.asList("cn", "jp"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("cn"), is("ds_cn"));
+    }
+    
+    @Test
+    public void assertLookupWithMultipleBatches() {
+        Collection<Long> shardingValues = new ArrayList<>(JdbcShardingDirectory.MAX_BATCH_SIZE + 2);
+        for (long i = 0; i < JdbcShardingDirectory.MAX_BATCH_SIZE + 2; i++) {
+            shardingValues.add(i);
+        }
+        assertThat(new JdbcShardingDirectory(dataSource, "t_tenant_directory", "tenant_id", "data_source_name").lookup(shardingValues).size(), is(2));
+    }
+    
+    @Test
+    public void assertLookupWithEmptyShardingValues() {
+        assertTrue(new JdbcShardingDirectory(dataSource, "t_tenant_directory", "tenant_id", "data_source_name").lookup(Collections.<Long>emptyList()).isEmpty());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.google.common.collect.Range;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConsistentHashShardingAlgorithmTest {
+    
+    private static final int KEY_COUNT = 10000;
+    
+    private final Collection<String> availableTargetNames = Collections.unmodifiableList(Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3"));
+    
+    private final Collection<String> expandedTargetNames = Collections.unmodifiableList(Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3", "ds_4"));
+    
+    private final ConsistentHashShardingAlgorithm<Long> algorithm = new ConsistentHashShardingAlgorithm<>();
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCreateWithInvalidVirtualNodeCount() {
+        new ConsistentHashShardingAlgorithm<Long>(0);
+    }
+    
+    @Test
+    public void assertDoEqualShardingWithDifferentNumberTypes() {
+        ConsistentHashShardingAlgorithm<Comparable<?>> algorithm = new ConsistentHashShardingAlgorithm<>();
+        for (int i = 0; i < 100; i++) {
+            assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<Comparable<?>>("t_order", "order_id", i)), 
+                    is(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<Comparable<?>>("t_order", "order_id", (long) i))));
+        }
+    }
+    
+    @Test
+    public void assertDoEqualShardingDistribution() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (long i = 0; i < KEY_COUNT; i++) {
+            String target = algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", i));
+            counts.put(target, counts.containsKey(target) ? counts.get(target) + 1 : 1);
+        }
+        assertThat(counts.size(), is(4));
+        for (int each : counts.values()) {
+            assertTrue(each > KEY_COUNT / 4 * 0.7 && each < KEY_COUNT / 4 * 1.3);
+        }
+    }
+    
+    @Test
+    public void assertDoInSharding() {
+        Collection<String> actual = algorithm.doInSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Arrays.asList(1L, 2L, 3L)));
+        assertTrue(actual.size() >= 1 && actual.size() <= 3);
+        assertTrue(availableTargetNames.containsAll(actual));
+    }
+    
+    @Test
+    public void assertDoBetweenSharding() {
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Range.closed(1L, 1L))), 
+                is((Collection<String>) Collections.singleton(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", 1L)))));
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Range.closed(1L, 100L))).size(), is(4));
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Range.atLeast(1L))).size(), is(4));
+    }
+    
+    @Test
+    public void assertGetMovedRangesWhenTargetAdded() {
+        List<ConsistentHashRange> movedRanges = algorithm.getMovedRanges(availableTargetNames, expandedTargetNames);
+        assertFalse(movedRanges.isEmpty());
+        int movedCount = 0;
+        for (long i = 0; i < KEY_COUNT; i++) {
+            String currentTarget = algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", i));
+            String newTarget = algorithm.doEqualSharding(expandedTargetNames, new ShardingValue<>("t_order", "order_id", i));
+            boolean moved = !currentTarget.equals(newTarget);
+            if (moved) {
+                movedCount++;
+                assertThat(newTarget, is("ds_4"));
+            }
+            assertThat(isInMovedRanges(movedRanges, i, currentTarget, newTarget), is(moved));
+        }
+        assertTrue(movedCount < KEY_COUNT * 0.3);
+    }
+    
+    @Test
+    public void assertGetMovedRangesWhenTargetsUnchanged() {
+        assertTrue(algorithm.getMovedRanges(availableTargetNames, availableTargetNames).isEmpty());
+    }
+    
+    @Test
+    public void assertConsistentHashRangeContains() {
+        ConsistentHashRange range = new ConsistentHashRange(10, 20, "ds_0", "ds_1");
+        assertFalse(range.contains(10));
+        assertTrue(range.contains(20));
+        ConsistentHashRange wrappedRange = new ConsistentHashRange(100, -100, "ds_0", "ds_1");
+        assertTrue(wrappedRange.contains(Integer.MAX_VALUE));
+        assertTrue(wrappedRange.contains(-100));
+        assertFalse(wrappedRange.contains(0));
+    }
+    
+    private boolean isInMovedRanges(final List<ConsistentHashRange> movedRanges, final long value, final String currentTarget, final String newTarget) {
+        int hash = ConsistentHashShardingAlgorithm.hash(value);
+        for (ConsistentHashRange each : movedRanges) {
+            if (each.contains(hash)) {
+                assertThat(each.getFromTarget(), is(currentTarget));
+                assertThat(each.getToTarget(), is(newTarget));
+                return true;
+            }
+        }
+        return false;
+    }
+}
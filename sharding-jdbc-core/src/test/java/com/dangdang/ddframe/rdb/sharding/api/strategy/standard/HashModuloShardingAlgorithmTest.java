@@ -0,0 +1,60 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.google.common.collect.Range;
+import com.google.common.math.IntMath;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class HashModuloShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Collections.unmodifiableList(Arrays.asList("ds_0", "ds_1", "ds_2"));
+    
+    @Test
+    public void assertDoEqualSharding() {
+        HashModuloShardingAlgorithm<String> algorithm = new HashModuloShardingAlgorithm<>();
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_user", "user_name", "zhangsan")), is("ds_" + IntMath.mod("zhangsan".hashCode(), 3)));
+    }
+    
+    @Test
+    public void assertDoEqualShardingWithDifferentNumberTypes() {
+        HashModuloShardingAlgorithm<Comparable<?>> algorithm = new HashModuloShardingAlgorithm<>();
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<Comparable<?>>("t_user", "user_id", 10)), 
+                is(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<Comparable<?>>("t_user", "user_id", 10L))));
+    }
+    
+    @Test
+    public void assertDoInSharding() {
+        assertThat(new HashModuloShardingAlgorithm<String>().doInSharding(availableTargetNames, new ShardingValue<>("t_user", "user_name", Arrays.asList("a", "b", "c"))).size(), is(3));
+    }
+    
+    @Test
+    public void assertDoBetweenSharding() {
+        HashModuloShardingAlgorithm<Integer> algorithm = new HashModuloShardingAlgorithm<>();
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_user", "user_id", Range.closed(1, 1))).size(), is(1));
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_user", "user_id", Range.closed(1, 100))).size(), is(3));
+    }
+}
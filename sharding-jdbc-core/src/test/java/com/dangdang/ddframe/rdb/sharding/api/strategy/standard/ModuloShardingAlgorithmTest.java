@@ -0,0 +1,68 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.google.common.collect.Range;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ModuloShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Collections.unmodifiableList(Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3"));
+    
+    @Test
+    public void assertDoEqualSharding() {
+        ModuloShardingAlgorithm<Long> algorithm = new ModuloShardingAlgorithm<>();
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", 6L)), is("t_order_2"));
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", -1L)), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertDoEqualShardingWithShardingCount() {
+        assertThat(new ModuloShardingAlgorithm<Long>(2).doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", 7L)), is("t_order_1"));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertDoEqualShardingWithoutTarget() {
+        new ModuloShardingAlgorithm<Long>(8).doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", 7L));
+    }
+    
+    @Test
+    public void assertDoInSharding() {
+        assertThat(new ModuloShardingAlgorithm<Integer>().doInSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Arrays.asList(1, 5, 6))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("t_order_1", "t_order_2"))));
+    }
+    
+    @Test
+    public void assertDoBetweenSharding() {
+        ModuloShardingAlgorithm<Integer> algorithm = new ModuloShardingAlgorithm<>();
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Range.closed(3, 4))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("t_order_3", "t_order_0"))));
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Range.closedOpen(3, 100))).size(), is(4));
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Range.greaterThan(3))).size(), is(4));
+    }
+}
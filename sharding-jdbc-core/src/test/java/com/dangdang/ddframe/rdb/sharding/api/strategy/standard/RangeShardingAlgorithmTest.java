@@ -0,0 +1,65 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.google.common.collect.Range;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class RangeShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Collections.unmodifiableList(Arrays.asList("t_order_0", "t_order_1", "t_order_2"));
+    
+    private final RangeShardingAlgorithm<Long> algorithm = new RangeShardingAlgorithm<>(1000L, 2000L);
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCreateWithUnorderedBoundaries() {
+        new RangeShardingAlgorithm<Long>(2000L, 1000L);
+    }
+    
+    @Test
+    public void assertDoEqualSharding() {
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", 999L)), is("t_order_0"));
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", 1000L)), is("t_order_1"));
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", 2000L)), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertDoInSharding() {
+        assertThat(algorithm.doInSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Arrays.asList(1L, 10L, 3000L))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("t_order_0", "t_order_2"))));
+    }
+    
+    @Test
+    public void assertDoBetweenSharding() {
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Range.closed(500L, 1500L))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("t_order_0", "t_order_1"))));
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Range.atLeast(1500L))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("t_order_1", "t_order_2"))));
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "order_id", Range.lessThan(500L))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Collections.singletonList("t_order_0"))));
+    }
+}
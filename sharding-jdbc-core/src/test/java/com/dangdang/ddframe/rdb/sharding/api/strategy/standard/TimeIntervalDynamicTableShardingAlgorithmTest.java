@@ -0,0 +1,150 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.dangdang.ddframe.rdb.sharding.api.rule.DataSourceRule;
+import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.api.rule.TableRule;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.table.TableShardingStrategy;
+import com.dangdang.ddframe.rdb.sharding.constant.ShardingOperator;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Column;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Condition;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLPlaceholderExpression;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectStatement;
+import com.dangdang.ddframe.rdb.sharding.routing.type.simple.SimpleRoutingEngine;
+import com.google.common.collect.Range;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TimeIntervalDynamicTableShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Collections.emptyList();
+    
+    @Test
+    public void assertDoEqualSharding() throws ParseException {
+        assertThat(createAlgorithm().doEqualSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", parse("2016-12-31 23:59:59"))), is("t_log_201612"));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertDoEqualShardingOutOfWindow() throws ParseException {
+        createAlgorithm().doEqualSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", parse("2015-12-31 23:59:59")));
+    }
+    
+    @Test
+    public void assertDoEqualShardingInWindowEndInterval() throws ParseException {
+        assertThat(createAlgorithm().doEqualSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", parse("2017-06-30 10:00:00"))), is("t_log_201706"));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertDoEqualShardingAfterWindowEndInterval() throws ParseException {
+        createAlgorithm().doEqualSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", parse("2017-07-01 00:00:00")));
+    }
+    
+    @Test
+    public void assertDoInSharding() throws ParseException {
+        assertThat(createAlgorithm().doInSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", Arrays.asList(parse("2016-01-01 00:00:00"), parse("2016-01-15 00:00:00")))), 
+                is((Collection<String>) Collections.singleton("t_log_201601")));
+    }
+    
+    @Test
+    public void assertDoBetweenSharding() throws ParseException {
+        assertThat(createAlgorithm().doBetweenSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", Range.closed(parse("2016-11-15 00:00:00"), parse("2017-01-15 00:00:00")))), 
+                is((Collection<String>) Arrays.asList("t_log_201611", "t_log_201612", "t_log_201701")));
+    }
+    
+    @Test
+    public void assertDoBetweenShardingWithOpenUpperBound() throws ParseException {
+        assertThat(createAlgorithm().doBetweenSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", Range.closedOpen(parse("2016-11-15 00:00:00"), parse("2017-01-01 00:00:00")))), 
+                is((Collection<String>) Arrays.asList("t_log_201611", "t_log_201612")));
+    }
+    
+    @Test
+    public void assertDoBetweenShardingWithUnboundedRange() throws ParseException {
+        assertThat(createAlgorithm().doBetweenSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", Range.atMost(parse("2016-02-15 00:00:00")))), 
+                is((Collection<String>) Arrays.asList("t_log_201601", "t_log_201602")));
+        assertThat(createAlgorithm().doBetweenSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", Range.atLeast(parse("2017-05-15 00:00:00")))), 
+                is((Collection<String>) Arrays.asList("t_log_201705", "t_log_201706")));
+    }
+    
+    @Test
+    public void assertDoBetweenShardingInWindowEndInterval() throws ParseException {
+        assertThat(createAlgorithm().doBetweenSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", Range.atLeast(parse("2017-06-30 10:00:00")))), 
+                is((Collection<String>) Collections.singletonList("t_log_201706")));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertDoBetweenShardingOutOfWindow() throws ParseException {
+        createAlgorithm().doBetweenSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", Range.lessThan(parse("2016-01-01 00:00:00"))));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertRouteOutOfWindow() throws ParseException {
+        Map<String, DataSource> dataSourceMap = new HashMap<>(1);
+        dataSourceMap.put("ds", null);
+        DataSourceRule dataSourceRule = new DataSourceRule(dataSourceMap);
+        ShardingRule shardingRule = ShardingRule.builder().dataSourceRule(dataSourceRule).tableRules(Collections.singletonList(
+                TableRule.builder("t_log").dynamic(true).dataSourceRule(dataSourceRule).tableShardingStrategy(new TableShardingStrategy("create_time", createAlgorithm())).build())).build();
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getConditions().add(new Condition(new Column("create_time", "t_log"), ShardingOperator.GREATER_THAN, new SQLPlaceholderExpression(0)));
+        new SimpleRoutingEngine(shardingRule, Collections.<Object>singletonList(parse("2017-07-01 00:00:00")), "t_log", selectStatement).route();
+    }
+    
+    @Test
+    public void assertDoBetweenShardingWithoutWindowEnd() throws ParseException {
+        TimeIntervalDynamicTableShardingAlgorithm<Date> algorithm = new TimeIntervalDynamicTableShardingAlgorithm<>("t_log_", TimeIntervalUnit.DAY, parse("2016-01-01 00:00:00"));
+        Collection<String> actual = algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_log", "create_time", Range.atLeast(new Date(System.currentTimeMillis() - 86400000L))));
+        assertTrue(actual.size() >= 2 && actual.size() <= 3);
+    }
+    
+    @Test
+    public void assertIsNondeterministic() throws ParseException {
+        assertFalse(createAlgorithm().isNondeterministic());
+        assertTrue(new TimeIntervalDynamicTableShardingAlgorithm<Date>("t_log_", TimeIntervalUnit.MONTH, parse("2016-01-01 00:00:00")).isNondeterministic());
+    }
+    
+    @Test
+    public void assertDoDynamicSharding() throws ParseException {
+        TableShardingStrategy strategy = new TableShardingStrategy("create_time", createAlgorithm());
+        assertThat(strategy.doDynamicSharding(Collections.<ShardingValue<?>>singletonList(
+                new ShardingValue<>("t_log", "create_time", Range.closed(parse("2016-12-15 00:00:00"), parse("2017-01-15 00:00:00"))))).size(), is(2));
+    }
+    
+    private TimeIntervalDynamicTableShardingAlgorithm<Date> createAlgorithm() throws ParseException {
+        return new TimeIntervalDynamicTableShardingAlgorithm<>("t_log_", TimeIntervalUnit.MONTH, parse("2016-01-15 00:00:00"), parse("2017-06-30 00:00:00"));
+    }
+    
+    private Date parse(final String date) throws ParseException {
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse(date);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.api.strategy.standard;
+
+import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.google.common.collect.Range;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class TimeIntervalShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Collections.unmodifiableList(Arrays.asList("t_order_201611", "t_order_201612", "t_order_201701", "t_order_201702"));
+    
+    private final TimeIntervalShardingAlgorithm<Date> algorithm = new TimeIntervalShardingAlgorithm<>(TimeIntervalUnit.MONTH);
+    
+    @Test
+    public void assertDoEqualSharding() throws ParseException {
+        assertThat(algorithm.doEqualSharding(availableTargetNames, new ShardingValue<>("t_order", "create_time", parse("2016-12-31 23:59:59"))), is("t_order_201612"));
+    }
+    
+    @Test
+    public void assertDoInSharding() throws ParseException {
+        assertThat(algorithm.doInSharding(availableTargetNames, new ShardingValue<>("t_order", "create_time", Arrays.asList(parse("2016-11-01 00:00:00"), parse("2017-02-15 12:00:00")))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("t_order_201611", "t_order_201702"))));
+    }
+    
+    @Test
+    public void assertDoBetweenSharding() throws ParseException {
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "create_time", Range.closed(parse("2016-12-15 00:00:00"), parse("2017-01-15 00:00:00")))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("t_order_201612", "t_order_201701"))));
+        assertThat(algorithm.doBetweenSharding(availableTargetNames, new ShardingValue<>("t_order", "create_time", Range.atLeast(parse("2017-01-15 00:00:00")))), 
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("t_order_201701", "t_order_201702"))));
+    }
+    
+    @Test
+    public void assertDoEqualShardingWithDayUnit() throws ParseException {
+        assertThat(new TimeIntervalShardingAlgorithm<Long>(TimeIntervalUnit.DAY).doEqualSharding(Arrays.asList("log_20170101", "log_20170102"), 
+                new ShardingValue<>("log", "create_time", parse("2017-01-02 08:00:00").getTime())), is("log_20170102"));
+    }
+    
+    private Date parse(final String date) throws ParseException {
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse(date);
+    }
+}
@@ -27,6 +27,10 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         ExecutorExceptionHandlerTest.class, 
+        ExecutorRejectedPolicyTest.class, 
+        DataSourceBulkheadTest.class, 
+        ExecutorServiceProviderFactoryTest.class, 
+        ExecutorEngineTest.class, 
         StatementExecutorTest.class, 
         PreparedStatementExecutorTest.class,
         BatchPreparedStatementExecutorTest.class
@@ -0,0 +1,62 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.executor;
+
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.fail;
+
+public final class DataSourceBulkheadTest {
+    
+    @Test
+    public void assertAcquireWithoutLimit() {
+        DataSourceBulkhead dataSourceBulkhead = new DataSourceBulkhead(0);
+        dataSourceBulkhead.acquire(Arrays.asList("ds_0", "ds_0", "ds_0"));
+        dataSourceBulkhead.acquire(Arrays.asList("ds_0", "ds_0", "ds_0"));
+    }
+    
+    @Test
+    public void assertAcquireAndRelease() {
+        DataSourceBulkhead dataSourceBulkhead = new DataSourceBulkhead(2);
+        dataSourceBulkhead.acquire(Arrays.asList("ds_0", "ds_0", "ds_1"));
+        dataSourceBulkhead.release(Collections.singletonList("ds_0"));
+        dataSourceBulkhead.acquire(Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertAcquireWhenSaturated() {
+        DataSourceBulkhead dataSourceBulkhead = new DataSourceBulkhead(1);
+        dataSourceBulkhead.acquire(Collections.singletonList("ds_0"));
+        dataSourceBulkhead.acquire(Collections.singletonList("ds_0"));
+    }
+    
+    @Test
+    public void assertAcquireReleasesAcquiredPermitsWhenSaturated() {
+        DataSourceBulkhead dataSourceBulkhead = new DataSourceBulkhead(1);
+        try {
+            dataSourceBulkhead.acquire(Arrays.asList("ds_0", "ds_1", "ds_1"));
+            fail("Expected ShardingJdbcException.");
+        } catch (final ShardingJdbcException ignored) {
+        }
+        dataSourceBulkhead.acquire(Arrays.asList("ds_0", "ds_1"));
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.executor;
+
+import com.codahale.metrics.MetricRegistry;
+import com.dangdang.ddframe.rdb.sharding.constant.SQLType;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.executor.type.statement.StatementUnit;
+import com.dangdang.ddframe.rdb.sharding.routing.SQLExecutionUnit;
+import com.google.common.util.concurrent.ListenableFuture;
+import lombok.RequiredArgsConstructor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecutorEngineTest {
+    
+    private ExecutorEngine executorEngine;
+    
+    private MetricRegistry metricRegistry;
+    
+    @Before
+    public void setUp() {
+        executorEngine = createExecutorEngine(1, 1, 0);
+        metricRegistry = new MetricRegistry();
+        executorEngine.registerMetrics(metricRegistry);
+    }
+    
+    @After
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    @Test
+    public void assertRegisterMetrics() {
+        assertTrue(metricRegistry.getGauges().containsKey("ExecutorEngine-queueSize"));
+        assertTrue(metricRegistry.getGauges().containsKey("ExecutorEngine-activeCount"));
+        assertThat(metricRegistry.getGauges().get("ExecutorEngine-queueSize").getValue(), is((Object) 0));
+        assertThat(metricRegistry.getGauges().get("ExecutorEngine-activeCount").getValue(), is((Object) 0));
+        assertThat(metricRegistry.timer("ExecutorEngine-waitTime").getCount(), is(0L));
+    }
+    
+    @Test
+    public void assertExecuteWhenWorkQueueIsFull() throws SQLException {
+        assertThat(executorEngine.executeStatement(SQLType.SELECT, createStatementUnits("ds_0", "ds_1", "ds_2", "ds_3"), new DataSourceExecuteCallback()), 
+                is(Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3")));
+        assertThat(metricRegistry.timer("ExecutorEngine-waitTime").getCount(), is(3L));
+    }
+    
+    @Test
+    public void assertExecuteWhenDataSourceIsSaturated() throws SQLException {
+        try (ExecutorEngine actual = createExecutorEngine(2, 0, 1)) {
+            try {
+                actual.executeStatement(SQLType.SELECT, createStatementUnits("ds_0", "ds_1", "ds_1"), new DataSourceExecuteCallback());
+                fail("Expected ShardingJdbcException.");
+            } catch (final ShardingJdbcException ignored) {
+            }
+            assertThat(actual.executeStatement(SQLType.SELECT, createStatementUnits("ds_0", "ds_1"), new DataSourceExecuteCallback()), is(Arrays.asList("ds_0", "ds_1")));
+        }
+    }
+    
+    @Test
+    public void assertExecuteWhenDataSourceIsNotSaturated() throws SQLException {
+        try (ExecutorEngine actual = createExecutorEngine(2, 0, 1)) {
+            assertThat(actual.executeStatement(SQLType.SELECT, createStatementUnits("ds_0", "ds_1", "ds_2"), new DataSourceExecuteCallback()), 
+                    is(Arrays.asList("ds_0", "ds_1", "ds_2")));
+        }
+    }
+    
+    @Test
+    public void assertRegisterMetricsWithoutThreadPool() throws SQLException {
+        try (ExecutorEngine actual = new ExecutorEngine(Executors.newSingleThreadExecutor(), 0)) {
+            MetricRegistry metricRegistry = new MetricRegistry();
+            actual.registerMetrics(metricRegistry);
+            assertTrue(metricRegistry.getGauges().isEmpty());
+            assertThat(actual.executeStatement(SQLType.SELECT, createStatementUnits("ds_0", "ds_1"), new DataSourceExecuteCallback()), is(Arrays.asList("ds_0", "ds_1")));
+            assertThat(metricRegistry.timer("ExecutorEngine-waitTime").getCount(), is(1L));
+        }
+    }
+    
+    @Test
+    public void assertExecuteStatementAsync() throws SQLException, InterruptedException, ExecutionException {
+        assertThat(executorEngine.executeStatementAsync(SQLType.SELECT, createStatementUnits("ds_0", "ds_1", "ds_2"), new DataSourceExecuteCallback()).get(), 
+                is(Arrays.asList("ds_0", "ds_1", "ds_2")));
+    }
+    
+    @Test
+    public void assertExecuteStatementAsyncWithoutStatementUnits() throws InterruptedException, ExecutionException {
+        assertTrue(executorEngine.executeStatementAsync(SQLType.SELECT, Collections.<StatementUnit>emptyList(), new DataSourceExecuteCallback()).get().isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteStatementAsyncWhenDataSourceIsSaturated() throws SQLException, InterruptedException {
+        try (ExecutorEngine actual = createExecutorEngine(2, 0, 1)) {
+            try {
+                actual.executeStatementAsync(SQLType.SELECT, createStatementUnits("ds_0", "ds_0"), new DataSourceExecuteCallback()).get();
+                fail("Expected ExecutionException.");
+            } catch (final ExecutionException ex) {
+                assertThat(ex.getCause(), instanceOf(ShardingJdbcException.class));
+            }
+        }
+    }
+    
+    @Test
+    public void assertExecuteStatementAsyncAfterQueuedExecutionCancelled() throws SQLException, InterruptedException, ExecutionException {
+        try (ExecutorEngine actual = createExecutorEngine(1, 1, 1)) {
+            CountDownLatch latch = new CountDownLatch(1);
+            ListenableFuture<List<String>> blockingFuture = actual.executeStatementAsync(SQLType.SELECT, createStatementUnits("ds_0"), new BlockingExecuteCallback(latch));
+            ListenableFuture<List<String>> queuedFuture = actual.executeStatementAsync(SQLType.SELECT, createStatementUnits("ds_1"), new DataSourceExecuteCallback());
+            assertTrue(queuedFuture.cancel(false));
+            assertThat(actual.executeStatementAsync(SQLType.SELECT, createStatementUnits("ds_1"), new DataSourceExecuteCallback()).get(), is(Collections.singletonList("ds_1")));
+            latch.countDown();
+            assertThat(blockingFuture.get(), is(Collections.singletonList("ds_0")));
+        }
+    }
+    
+    private ExecutorEngine createExecutorEngine(final int executorSize, final int queueSize, final int maxConcurrencyPerDataSource) {
+        return new ExecutorEngine(new ThreadPoolExecutorServiceProvider().createExecutorService(executorSize, queueSize, ExecutorRejectedPolicy.CALLER_RUNS, 0L), maxConcurrencyPerDataSource);
+    }
+    
+    private Collection<StatementUnit> createStatementUnits(final String... dataSourceNames) throws SQLException {
+        Collection<StatementUnit> result = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            Statement statement = mock(Statement.class);
+            when(statement.getConnection()).thenReturn(mock(Connection.class));
+            result.add(new StatementUnit(new SQLExecutionUnit(each, "SELECT 1"), statement));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BlockingExecuteCallback implements ExecuteCallback<String> {
+        
+        private final CountDownLatch latch;
+        
+        @Override
+        public String execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+            latch.await();
+            return baseStatementUnit.getSqlExecutionUnit().getDataSource();
+        }
+    }
+    
+    private static final class DataSourceExecuteCallback implements ExecuteCallback<String> {
+        
+        @Override
+        public String execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+            return baseStatementUnit.getSqlExecutionUnit().getDataSource();
+        }
+    }
+}
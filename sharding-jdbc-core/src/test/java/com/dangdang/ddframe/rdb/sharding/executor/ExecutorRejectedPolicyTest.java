@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.executor;
+
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutorRejectedPolicyTest {
+    
+    private final CountDownLatch latch = new CountDownLatch(1);
+    
+    private ThreadPoolExecutor executor;
+    
+    @Before
+    public void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(1));
+        executor.execute(new BlockingTask());
+        executor.execute(new BlockingTask());
+    }
+    
+    @After
+    public void tearDown() {
+        latch.countDown();
+        executor.shutdownNow();
+    }
+    
+    @Test
+    public void assertCallerRuns() {
+        final AtomicReference<Thread> actual = new AtomicReference<>();
+        ExecutorRejectedPolicy.CALLER_RUNS.createRejectedExecutionHandler(0L).rejectedExecution(new Runnable() {
+            
+            @Override
+            public void run() {
+                actual.set(Thread.currentThread());
+            }
+        }, executor);
+        assertThat(actual.get(), is(Thread.currentThread()));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertAbort() {
+        ExecutorRejectedPolicy.ABORT.createRejectedExecutionHandler(0L).rejectedExecution(new BlockingTask(), executor);
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertWaitTimeout() {
+        ExecutorRejectedPolicy.WAIT.createRejectedExecutionHandler(10L).rejectedExecution(new BlockingTask(), executor);
+    }
+    
+    @Test
+    public void assertWaitSuccess() {
+        latch.countDown();
+        ExecutorRejectedPolicy.WAIT.createRejectedExecutionHandler(1000L).rejectedExecution(new BlockingTask(), executor);
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertCallerRunsAfterShutdown() {
+        executor.shutdown();
+        ExecutorRejectedPolicy.CALLER_RUNS.createRejectedExecutionHandler(0L).rejectedExecution(new BlockingTask(), executor);
+    }
+    
+    private final class BlockingTask implements Runnable {
+        
+        @Override
+        public void run() {
+            try {
+                latch.await();
+            } catch (final InterruptedException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutorServiceProviderFactoryTest {
+    
+    @Test
+    public void assertCreateExecutorServiceProviderSuccess() {
+        assertThat(ExecutorServiceProviderFactory.createExecutorServiceProvider(ThreadPoolExecutorServiceProvider.class.getName()), instanceOf(ThreadPoolExecutorServiceProvider.class));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCreateExecutorServiceProviderFailureWithClassNotFound() {
+        ExecutorServiceProviderFactory.createExecutorServiceProvider("not.existed.ExecutorServiceProvider");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCreateExecutorServiceProviderFailureWithWrongType() {
+        ExecutorServiceProviderFactory.createExecutorServiceProvider(Object.class.getName());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCreateExecutorServiceProviderFailureWithIllegalAccess() {
+        ExecutorServiceProviderFactory.createExecutorServiceProvider(IllegalAccessExecutorServiceProvider.class.getName());
+    }
+    
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class IllegalAccessExecutorServiceProvider implements ExecutorServiceProvider {
+        
+        @Override
+        public ExecutorService createExecutorService(final int executorSize, final int queueSize, final ExecutorRejectedPolicy rejectedPolicy, final long rejectedWaitMilliseconds) {
+            return null;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
@@ -103,6 +104,47 @@ public final class StatementExecutorTest extends AbstractBaseExecutorTest {
         verify(getEventCaller(), times(0)).verifyException(null);
     }
     
+    @Test
+    public void assertExecuteQueryForMultipleStatementsOnSameConnectionSuccess() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        ResultSet resultSet1 = mock(ResultSet.class);
+        ResultSet resultSet2 = mock(ResultSet.class);
+        when(statement1.executeQuery(DQL_SQL)).thenReturn(resultSet1);
+        when(statement1.getConnection()).thenReturn(connection);
+        when(statement2.executeQuery(DQL_SQL)).thenReturn(resultSet2);
+        when(statement2.getConnection()).thenReturn(connection);
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.SELECT, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_0"));
+        assertThat(actual.executeQuery(), is(Arrays.asList(resultSet1, resultSet2)));
+        verify(statement1).executeQuery(DQL_SQL);
+        verify(statement1).getConnection();
+        verify(statement2).executeQuery(DQL_SQL);
+        verify(statement2).getConnection();
+        verify(getEventCaller(), times(4)).verifyDataSource("ds_0");
+        verify(getEventCaller(), times(2)).verifyEventExecutionType(EventExecutionType.BEFORE_EXECUTE);
+        verify(getEventCaller(), times(2)).verifyEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
+        verify(getEventCaller(), times(0)).verifyException(null);
+    }
+    
+    @Test
+    public void assertExecuteQueryAsyncForMultipleStatementsSuccess() throws SQLException, InterruptedException, ExecutionException {
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        ResultSet resultSet1 = mock(ResultSet.class);
+        ResultSet resultSet2 = mock(ResultSet.class);
+        when(statement1.executeQuery(DQL_SQL)).thenReturn(resultSet1);
+        when(statement1.getConnection()).thenReturn(mock(Connection.class));
+        when(statement2.executeQuery(DQL_SQL)).thenReturn(resultSet2);
+        when(statement2.getConnection()).thenReturn(mock(Connection.class));
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.SELECT, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_1"));
+        assertThat(actual.executeQueryAsync().get(), is(Arrays.asList(resultSet1, resultSet2)));
+        verify(statement1).executeQuery(DQL_SQL);
+        verify(statement1).getConnection();
+        verify(statement2).executeQuery(DQL_SQL);
+        verify(statement2).getConnection();
+    }
+    
     @Test
     public void assertExecuteQueryForSingleStatementFailure() throws SQLException {
         Statement statement = mock(Statement.class);
@@ -184,6 +226,20 @@ public final class StatementExecutorTest extends AbstractBaseExecutorTest {
         verify(getEventCaller(), times(0)).verifyException(null);
     }
     
+    @Test
+    public void assertExecuteUpdateAsyncForMultipleStatementsSuccess() throws SQLException, InterruptedException, ExecutionException {
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        when(statement1.executeUpdate(DML_SQL)).thenReturn(10);
+        when(statement2.executeUpdate(DML_SQL)).thenReturn(20);
+        when(statement1.getConnection()).thenReturn(mock(Connection.class));
+        when(statement2.getConnection()).thenReturn(mock(Connection.class));
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.DELETE, createStatementUnits(DML_SQL, statement1, "ds_0", statement2, "ds_1"));
+        assertThat(actual.executeUpdateAsync().get(), is(30));
+        verify(statement1).executeUpdate(DML_SQL);
+        verify(statement2).executeUpdate(DML_SQL);
+    }
+    
     @Test
     public void assertExecuteUpdateForSingleStatementFailure() throws SQLException {
         Statement statement = mock(Statement.class);
@@ -24,6 +24,9 @@ import com.dangdang.ddframe.rdb.sharding.constant.SQLType;
 import com.dangdang.ddframe.rdb.sharding.fixture.TestDataSource;
 import com.dangdang.ddframe.rdb.sharding.jdbc.core.ShardingContext;
 import com.dangdang.ddframe.rdb.sharding.jdbc.core.datasource.MasterSlaveDataSource;
+import com.dangdang.ddframe.rdb.sharding.parsing.cache.ParsingResultCache;
+import com.dangdang.ddframe.rdb.sharding.routing.SQLExecutionUnit;
+import com.dangdang.ddframe.rdb.sharding.routing.cache.RoutingResultCache;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -32,12 +35,16 @@ import org.junit.Test;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
 
 public final class ShardingConnectionTest {
     
@@ -49,6 +56,8 @@ public final class ShardingConnectionTest {
     
     private static final String DS_NAME = "default";
     
+    private ShardingRule shardingRule;
+    
     private ShardingConnection connection;
     
     @BeforeClass
@@ -61,10 +70,13 @@ public final class ShardingConnectionTest {
         Map<String, DataSource> dataSourceMap = new HashMap<>(1);
         dataSourceMap.put(DS_NAME, MASTER_SLAVE_DATA_SOURCE);
         DataSourceRule dataSourceRule = new DataSourceRule(dataSourceMap);
-        ShardingRule rule = new ShardingRule.ShardingRuleBuilder().dataSourceRule(dataSourceRule)
+        shardingRule = new ShardingRule.ShardingRuleBuilder().dataSourceRule(dataSourceRule)
                 .tableRules(Collections.singleton(new  TableRule.TableRuleBuilder("test").dataSourceRule(dataSourceRule).build())).build();
-        ShardingContext shardingContext = new ShardingContext(rule, null, null, false);
-        connection = new ShardingConnection(shardingContext);
+        connection = createShardingConnection(1);
+    }
+    
+    private ShardingConnection createShardingConnection(final int maxConnectionsSizePerQuery) {
+        return new ShardingConnection(new ShardingContext(shardingRule, null, null, false, new ParsingResultCache(0), new RoutingResultCache(0), 0, maxConnectionsSizePerQuery));
     }
     
     @After
@@ -112,4 +124,36 @@ public final class ShardingConnectionTest {
         connection.release(conn);
         assertNotSame(conn, connection.getConnection(DS_NAME, SQLType.UPDATE));
     }
+    
+    @Test
+    public void assertGetExecutionConnectionsWhenExceedMaxConnectionsSize() throws Exception {
+        List<Connection> actual = connection.getExecutionConnections(createExecutionUnits(), SQLType.SELECT);
+        assertThat(actual.size(), is(2));
+        assertSame(actual.get(0), actual.get(1));
+        assertSame(actual.get(0), connection.getConnection(DS_NAME, SQLType.SELECT));
+    }
+    
+    @Test
+    public void assertGetExecutionConnectionsWithinMaxConnectionsSize() throws Exception {
+        connection = createShardingConnection(2);
+        List<Connection> actual = connection.getExecutionConnections(createExecutionUnits(), SQLType.SELECT);
+        assertThat(actual.size(), is(2));
+        assertNotSame(actual.get(0), actual.get(1));
+        assertSame(actual.get(0), connection.getConnection(DS_NAME, SQLType.SELECT));
+        assertThat(connection.getExecutionConnections(createExecutionUnits(), SQLType.SELECT), is(actual));
+        assertThat(connection.getConnections().size(), is(2));
+    }
+    
+    @Test
+    public void assertGetExecutionConnectionsWithoutAutoCommit() throws Exception {
+        connection = createShardingConnection(2);
+        connection.setAutoCommit(false);
+        List<Connection> actual = connection.getExecutionConnections(createExecutionUnits(), SQLType.SELECT);
+        assertThat(actual.size(), is(2));
+        assertSame(actual.get(0), actual.get(1));
+    }
+    
+    private List<SQLExecutionUnit> createExecutionUnits() {
+        return Arrays.asList(new SQLExecutionUnit(DS_NAME, "SELECT * FROM test_0"), new SQLExecutionUnit(DS_NAME, "SELECT * FROM test_1"));
+    }
 }
@@ -17,13 +17,17 @@
 
 package com.dangdang.ddframe.rdb.sharding.jdbc.core.datasource;
 
+import com.codahale.metrics.ScheduledReporter;
 import com.dangdang.ddframe.rdb.sharding.api.rule.DataSourceRule;
 import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
 import com.dangdang.ddframe.rdb.sharding.api.rule.TableRule;
+import com.dangdang.ddframe.rdb.sharding.config.ShardingPropertiesConstant;
 import com.dangdang.ddframe.rdb.sharding.constant.SQLType;
+import com.google.common.base.Optional;
 import org.junit.Test;
 
 import javax.sql.DataSource;
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
@@ -31,9 +35,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -47,6 +55,36 @@ public final class ShardingDataSourceTest {
         assertThat(createShardingDataSource(dataSource).getConnection().getConnection("ds", SQLType.SELECT), is(connection));
     }
     
+    @Test
+    public void assertCloseWithMetricsEnable() throws SQLException, ReflectiveOperationException {
+        Connection connection = mockConnection();
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.METRICS_ENABLE.getKey(), Boolean.TRUE.toString());
+        ShardingDataSource shardingDataSource = createShardingDataSource(dataSource, props);
+        Field metricsReporterField = ShardingDataSource.class.getDeclaredField("metricsReporter");
+        metricsReporterField.setAccessible(true);
+        Object metricsReporter = ((Optional<?>) metricsReporterField.get(shardingDataSource)).get();
+        Field executorField = ScheduledReporter.class.getDeclaredField("executor");
+        executorField.setAccessible(true);
+        ExecutorService reporterExecutor = (ExecutorService) executorField.get(metricsReporter);
+        assertFalse(reporterExecutor.isShutdown());
+        shardingDataSource.close();
+        assertTrue(reporterExecutor.isShutdown());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewShardingDataSourceWithMoreConnectionsPerQueryThanMaxConcurrency() throws SQLException {
+        Connection connection = mockConnection();
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "4");
+        props.setProperty(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE.getKey(), "2");
+        createShardingDataSource(dataSource, props);
+    }
+    
     private Connection mockConnection() throws SQLException {
         Connection result = mock(Connection.class);
         DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
@@ -56,11 +94,15 @@ public final class ShardingDataSourceTest {
     }
     
     private ShardingDataSource createShardingDataSource(final DataSource dataSource) {
+        return createShardingDataSource(dataSource, new Properties());
+    }
+    
+    private ShardingDataSource createShardingDataSource(final DataSource dataSource, final Properties props) {
         Map<String, DataSource> dataSourceMap = new HashMap<>(1);
         dataSourceMap.put("ds", dataSource);
         DataSourceRule dataSourceRule = new DataSourceRule(dataSourceMap);
         TableRule tableRule = TableRule.builder("logicTable").actualTables(Arrays.asList("table_0", "table_1", "table_2")).dataSourceRule(dataSourceRule).build();
         return new ShardingDataSource(ShardingRule.builder()
-                .dataSourceRule(dataSourceRule).tableRules(Collections.singletonList(tableRule)).build());
+                .dataSourceRule(dataSourceRule).tableRules(Collections.singletonList(tableRule)).build(), props);
     }
 }
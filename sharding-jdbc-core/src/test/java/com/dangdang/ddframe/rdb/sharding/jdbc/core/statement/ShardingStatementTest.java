@@ -19,13 +19,16 @@ package com.dangdang.ddframe.rdb.sharding.jdbc.core.statement;
 
 import com.dangdang.ddframe.rdb.integrate.db.AbstractShardingDatabaseOnlyDBUnitTest;
 import com.dangdang.ddframe.rdb.sharding.jdbc.core.datasource.ShardingDataSource;
+import com.google.common.util.concurrent.SettableFuture;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.ExecutionException;
 
 import static com.dangdang.ddframe.rdb.sharding.constant.DatabaseType.PostgreSQL;
 import static junit.framework.TestCase.assertFalse;
@@ -59,6 +62,42 @@ public final class ShardingStatementTest extends AbstractShardingDatabaseOnlyDBU
         }
     }
     
+    @Test
+    public void assertExecuteQueryAsync() throws SQLException, InterruptedException, ExecutionException {
+        try (
+                Connection connection = shardingDataSource.getConnection();
+                ShardingStatement stmt = (ShardingStatement) connection.createStatement();
+                ResultSet resultSet = stmt.executeQueryAsync(sql).get()) {
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getLong(1), is(40L));
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryAfterAsyncExecutionDone() throws SQLException, InterruptedException, ExecutionException {
+        try (
+                Connection connection = shardingDataSource.getConnection();
+                ShardingStatement stmt = (ShardingStatement) connection.createStatement()) {
+            stmt.executeQueryAsync(sql).get().close();
+            try (ResultSet resultSet = stmt.executeQuery(sql)) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getLong(1), is(40L));
+            }
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertExecuteQueryWhileAsyncExecutionRunning() throws SQLException, ReflectiveOperationException {
+        try (
+                Connection connection = shardingDataSource.getConnection();
+                ShardingStatement stmt = (ShardingStatement) connection.createStatement()) {
+            Field asyncExecutionField = ShardingStatement.class.getDeclaredField("asyncExecution");
+            asyncExecutionField.setAccessible(true);
+            asyncExecutionField.set(stmt, SettableFuture.create());
+            stmt.executeQuery(sql);
+        }
+    }
+    
     @Test
     public void assertExecuteUpdate() throws SQLException {
         try (
@@ -18,6 +18,7 @@
 package com.dangdang.ddframe.rdb.sharding.merger.groupby;
 
 import com.dangdang.ddframe.rdb.sharding.constant.OrderType;
+import com.dangdang.ddframe.rdb.sharding.merger.common.ColumnIndexes;
 import com.dangdang.ddframe.rdb.sharding.merger.common.MemoryResultSetRow;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.OrderItem;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectStatement;
@@ -27,6 +28,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
@@ -43,7 +45,7 @@ public final class GroupByRowComparatorTest {
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getOrderByItems().addAll(Arrays.asList(new OrderItem(1, OrderType.ASC), new OrderItem(2, OrderType.ASC)));
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderType.DESC), new OrderItem(2, OrderType.DESC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, OrderType.ASC);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new ColumnIndexes(selectStatement, Collections.<String, Integer>emptyMap()), OrderType.ASC);
         assertTrue(groupByRowComparator.compare(o1, o2) < 0);
     }
     
@@ -54,7 +56,7 @@ public final class GroupByRowComparatorTest {
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getOrderByItems().addAll(Arrays.asList(new OrderItem(1, OrderType.DESC), new OrderItem(2, OrderType.DESC)));
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderType.ASC), new OrderItem(2, OrderType.ASC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, OrderType.ASC);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new ColumnIndexes(selectStatement, Collections.<String, Integer>emptyMap()), OrderType.ASC);
         assertTrue(groupByRowComparator.compare(o1, o2) > 0);
     }
     
@@ -65,7 +67,7 @@ public final class GroupByRowComparatorTest {
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getOrderByItems().addAll(Arrays.asList(new OrderItem(1, OrderType.ASC), new OrderItem(2, OrderType.DESC)));
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderType.DESC), new OrderItem(2, OrderType.ASC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, OrderType.ASC);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new ColumnIndexes(selectStatement, Collections.<String, Integer>emptyMap()), OrderType.ASC);
         assertThat(groupByRowComparator.compare(o1, o2), is(0));
     }
     
@@ -75,7 +77,7 @@ public final class GroupByRowComparatorTest {
         MemoryResultSetRow o2 = new MemoryResultSetRow(mockResult("3", "4"));
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderType.ASC), new OrderItem(2, OrderType.ASC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, OrderType.ASC);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new ColumnIndexes(selectStatement, Collections.<String, Integer>emptyMap()), OrderType.ASC);
         assertTrue(groupByRowComparator.compare(o1, o2) < 0);
     }
     
@@ -85,7 +87,7 @@ public final class GroupByRowComparatorTest {
         MemoryResultSetRow o2 = new MemoryResultSetRow(mockResult("3", "4"));
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderType.DESC), new OrderItem(2, OrderType.DESC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, OrderType.ASC);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new ColumnIndexes(selectStatement, Collections.<String, Integer>emptyMap()), OrderType.ASC);
         assertTrue(groupByRowComparator.compare(o1, o2) > 0);
     }
     
@@ -95,7 +97,7 @@ public final class GroupByRowComparatorTest {
         MemoryResultSetRow o2 = new MemoryResultSetRow(mockResult("1", "2"));
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderType.ASC), new OrderItem(2, OrderType.DESC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, OrderType.ASC);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new ColumnIndexes(selectStatement, Collections.<String, Integer>emptyMap()), OrderType.ASC);
         assertThat(groupByRowComparator.compare(o1, o2), is(0));
     }
     
@@ -58,14 +58,10 @@ public final class GroupByStreamResultSetMergerTest {
         resultSets = Lists.newArrayList(mockResultSet(), mockResultSet(), mockResultSet());
         selectStatement = new SelectStatement();
         AggregationSelectItem aggregationSelectItem1 = new AggregationSelectItem(AggregationType.COUNT, "(*)", Optional.<String>absent());
-        aggregationSelectItem1.setIndex(1);
         AggregationSelectItem aggregationSelectItem2 = new AggregationSelectItem(AggregationType.AVG, "(num)", Optional.<String>absent());
-        aggregationSelectItem2.setIndex(2);
         AggregationSelectItem derivedAggregationSelectItem1 = new AggregationSelectItem(AggregationType.COUNT, "(num)", Optional.of("AVG_DERIVED_COUNT_0"));
-        aggregationSelectItem2.setIndex(5);
         aggregationSelectItem2.getDerivedAggregationSelectItems().add(derivedAggregationSelectItem1);
         AggregationSelectItem derivedAggregationSelectItem2 = new AggregationSelectItem(AggregationType.SUM, "(num)", Optional.of("AVG_DERIVED_SUM_0"));
-        aggregationSelectItem2.setIndex(6);
         aggregationSelectItem2.getDerivedAggregationSelectItems().add(derivedAggregationSelectItem2);
         selectStatement.getItems().add(aggregationSelectItem1);
         selectStatement.getItems().add(aggregationSelectItem2);
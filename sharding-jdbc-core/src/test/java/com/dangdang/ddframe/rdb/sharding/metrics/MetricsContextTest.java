@@ -17,15 +17,22 @@
 
 package com.dangdang.ddframe.rdb.sharding.metrics;
 
+import com.codahale.metrics.Timer;
 import com.dangdang.ddframe.rdb.sharding.config.ShardingProperties;
 import com.dangdang.ddframe.rdb.sharding.config.ShardingPropertiesConstant;
+import com.google.common.util.concurrent.SettableFuture;
 import org.junit.After;
 import org.junit.Test;
 
 import java.util.Properties;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public final class MetricsContextTest {
     
@@ -58,6 +65,21 @@ public final class MetricsContextTest {
         MetricsContext.stop(MetricsContext.start("name"));
     }
     
+    @Test
+    public void assertStopOnCompletion() {
+        Timer.Context context = mock(Timer.Context.class);
+        SettableFuture<Integer> future = SettableFuture.create();
+        MetricsContext.stopOnCompletion(context, future);
+        verify(context, never()).stop();
+        future.set(1);
+        verify(context).stop();
+    }
+    
+    @Test
+    public void assertStopOnCompletionWhenMetricsDisable() {
+        MetricsContext.stopOnCompletion(null, SettableFuture.<Integer>create());
+    }
+    
     @Test
     public void assertClear() {
         initEnabledMetrics();
@@ -65,6 +87,18 @@ public final class MetricsContextTest {
         assertNull(MetricsContext.start("name"));
     }
     
+    @Test
+    public void assertCreateMetricRegistryWhenMetricsDisable() {
+        assertFalse(MetricsContext.createMetricRegistry(new ShardingProperties(new Properties())).isPresent());
+    }
+    
+    @Test
+    public void assertCreateMetricRegistryWhenMetricsEnable() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.METRICS_ENABLE.getKey(), Boolean.TRUE.toString());
+        assertTrue(MetricsContext.createMetricRegistry(new ShardingProperties(props)).isPresent());
+    }
+    
     private void initDisabledMetrics() {
         MetricsContext.init(new ShardingProperties(new Properties()));
     }
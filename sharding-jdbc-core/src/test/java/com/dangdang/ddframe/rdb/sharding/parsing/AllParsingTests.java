@@ -17,8 +17,15 @@
 
 package com.dangdang.ddframe.rdb.sharding.parsing;
 
+import com.dangdang.ddframe.rdb.sharding.parsing.cache.ParsingResultCacheTest;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.AllLexerTests;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.analyzer.DictionaryTest;
 import com.dangdang.ddframe.rdb.sharding.parsing.lexer.analyzer.TokenizerTest;
+import com.dangdang.ddframe.rdb.sharding.parsing.normalize.SQLNormalizeEngineTest;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.SimpleSQLParserTest;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.ConditionTest;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.ConditionsTest;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.limit.LimitTest;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.mysql.AllMySQLStatementTests;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.AllStatementParserTests;
 import org.junit.runner.RunWith;
@@ -27,11 +34,18 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     TokenizerTest.class,
+    DictionaryTest.class,
     AllLexerTests.class,
     AllStatementParserTests.class,
     AllMySQLStatementTests.class,
     SQLParsingEngineTest.class,
-    UnsupportedParseTest.class
+    UnsupportedParseTest.class,
+    ParsingResultCacheTest.class,
+    ConditionTest.class,
+    ConditionsTest.class,
+    LimitTest.class,
+    SimpleSQLParserTest.class,
+    SQLNormalizeEngineTest.class
     })
 public class AllParsingTests {
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.cache;
+
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatementWhenHit() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16);
+        SQLStatement sqlStatement = new SelectStatement();
+        parsingResultCache.put(DatabaseType.MySQL, "SELECT * FROM t_order", sqlStatement);
+        assertThat(parsingResultCache.getSQLStatement(DatabaseType.MySQL, "SELECT * FROM t_order").get(), sameInstance(sqlStatement));
+        assertThat(parsingResultCache.getHitCount(), is(1L));
+        assertThat(parsingResultCache.getMissCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetSQLStatementWhenMissWithDifferentDatabaseType() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16);
+        parsingResultCache.put(DatabaseType.MySQL, "SELECT * FROM t_order", new SelectStatement());
+        assertFalse(parsingResultCache.getSQLStatement(DatabaseType.Oracle, "SELECT * FROM t_order").isPresent());
+        assertThat(parsingResultCache.getHitCount(), is(0L));
+        assertThat(parsingResultCache.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumSize() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1);
+        parsingResultCache.put(DatabaseType.MySQL, "SELECT * FROM t_order", new SelectStatement());
+        parsingResultCache.put(DatabaseType.MySQL, "SELECT * FROM t_order_item", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertThat(parsingResultCache.getEvictionCount(), is(1L));
+        assertTrue(parsingResultCache.getSQLStatement(DatabaseType.MySQL, "SELECT * FROM t_order_item").isPresent());
+    }
+    
+    @Test
+    public void assertNotCacheWhenMaximumSizeIsZero() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(0);
+        parsingResultCache.put(DatabaseType.MySQL, "SELECT * FROM t_order", new SelectStatement());
+        assertFalse(parsingResultCache.getSQLStatement(DatabaseType.MySQL, "SELECT * FROM t_order").isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16);
+        parsingResultCache.put(DatabaseType.MySQL, "SELECT * FROM t_order", new SelectStatement());
+        parsingResultCache.clear();
+        assertThat(parsingResultCache.size(), is(0L));
+    }
+}
@@ -39,6 +39,20 @@ public final class LexerTest {
         LexerAssert.assertNextToken(lexer, Assist.END, "");
     }
     
+    @Test
+    public void assertReplayRecordedTokens() {
+        Lexer lexer = new Lexer("SELECT * FROM TABLE_XXX", dictionary);
+        lexer.record();
+        LexerAssert.assertNextToken(lexer, DefaultKeyword.SELECT, "SELECT");
+        LexerAssert.assertNextToken(lexer, Symbol.STAR, "*");
+        lexer.replay();
+        LexerAssert.assertNextToken(lexer, DefaultKeyword.SELECT, "SELECT");
+        LexerAssert.assertNextToken(lexer, Symbol.STAR, "*");
+        LexerAssert.assertNextToken(lexer, DefaultKeyword.FROM, "FROM");
+        LexerAssert.assertNextToken(lexer, Literals.IDENTIFIER, "TABLE_XXX");
+        LexerAssert.assertNextToken(lexer, Assist.END, "");
+    }
+    
     @Test
     public void assertNextTokenForOrderBy() {
         Lexer lexer = new Lexer("SELECT * FROM ORDER  ORDER \t  BY XX DESC", dictionary);
@@ -0,0 +1,65 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.lexer.analyzer;
+
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.mysql.MySQLKeyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.DefaultKeyword;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.Literals;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.token.TokenType;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public final class DictionaryTest {
+    
+    private final Dictionary dictionary = new Dictionary(MySQLKeyword.values());
+    
+    @Test
+    public void assertFindTokenTypeIgnoreCase() {
+        assertThat(dictionary.findTokenType("SELECT", Literals.IDENTIFIER), is((TokenType) DefaultKeyword.SELECT));
+        assertThat(dictionary.findTokenType("select", Literals.IDENTIFIER), is((TokenType) DefaultKeyword.SELECT));
+        assertThat(dictionary.findTokenType("SeLeCt", Literals.IDENTIFIER), is((TokenType) DefaultKeyword.SELECT));
+    }
+    
+    @Test
+    public void assertFindDialectTokenType() {
+        assertThat(dictionary.findTokenType("limit", Literals.IDENTIFIER), is((TokenType) MySQLKeyword.LIMIT));
+    }
+    
+    @Test
+    public void assertFindTokenTypeWithCharRange() {
+        String sql = "SELECT order_id FROM t_order";
+        assertThat(dictionary.findTokenType(sql, 0, 6, Literals.IDENTIFIER), is((TokenType) DefaultKeyword.SELECT));
+        assertThat(dictionary.findTokenType(sql, sql.indexOf("FROM"), 4, Literals.IDENTIFIER), is((TokenType) DefaultKeyword.FROM));
+        assertThat(dictionary.findTokenType(sql, sql.indexOf("order_id"), 5, Literals.IDENTIFIER), is((TokenType) DefaultKeyword.ORDER));
+        assertThat(dictionary.findTokenType(sql, sql.indexOf("order_id"), 8, Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+    }
+    
+    @Test
+    public void assertFindTokenTypeWithPrefixOfKeyword() {
+        assertThat(dictionary.findTokenType("SEL", Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+        assertThat(dictionary.findTokenType("SELECTS", Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+        assertThat(dictionary.findTokenType("", Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertFindTokenTypeFailure() {
+        dictionary.findTokenType("not_keyword");
+    }
+}
@@ -180,4 +180,21 @@ public final class TokenizerTest {
         Tokenizer tokenizer = new Tokenizer(sql, dictionary, sql.indexOf("`"));
         tokenizer.scanChars();
     }
+    
+    @Test
+    public void assertScanSymbolWithLongestMatch() {
+        String sql = "SELECT * FROM XXX_TABLE WHERE YY<=>1 AND ZZ<>(2)";
+        Tokenizer tokenizer = new Tokenizer(sql, dictionary, sql.indexOf("<=>"));
+        assertTrue(new ReflectionEquals(tokenizer.scanSymbol()).matches(new Token(Symbol.LT_EQ_GT, "<=>", sql.indexOf("<=>") + 3)));
+        tokenizer = new Tokenizer(sql, dictionary, sql.indexOf("<>"));
+        assertTrue(new ReflectionEquals(tokenizer.scanSymbol()).matches(new Token(Symbol.LT_GT, "<>", sql.indexOf("<>") + 2)));
+    }
+    
+    @Test
+    public void assertMoveTo() {
+        String sql = "SELECT XX FROM XXX_TABLE";
+        Tokenizer tokenizer = new Tokenizer(sql, dictionary, 0);
+        assertTrue(new ReflectionEquals(tokenizer.scanIdentifier()).matches(new Token(DefaultKeyword.SELECT, "SELECT", sql.indexOf(" "))));
+        assertTrue(new ReflectionEquals(tokenizer.moveTo(sql.indexOf("XXX")).scanIdentifier()).matches(new Token(Literals.IDENTIFIER, "XXX_TABLE", sql.length())));
+    }
 }
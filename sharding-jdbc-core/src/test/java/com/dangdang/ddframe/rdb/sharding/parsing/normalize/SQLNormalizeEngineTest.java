@@ -0,0 +1,101 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.normalize;
+
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+
+public final class SQLNormalizeEngineTest {
+    
+    @Test
+    public void assertNormalizeSelect() {
+        NormalizedSQL actual = new SQLNormalizeEngine(DatabaseType.MySQL,
+                "SELECT * FROM t_order WHERE user_id = 10 AND status = 'init' AND order_id IN (1, 2) AND price BETWEEN 1.5 AND 2.5 LIMIT 5, 10").normalize();
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND status = ? AND order_id IN (?, ?) AND price BETWEEN 1.5 AND 2.5 LIMIT ?, ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(10, "init", 1, 2, 5, 10)));
+    }
+    
+    @Test
+    public void assertNormalizeKeepsLiteralsOutsideValuePositions() {
+        String sql = "SELECT COUNT(1), user_id + 1 FROM t_order WHERE user_id = 10 GROUP BY 2 ORDER BY 1 DESC";
+        NormalizedSQL actual = new SQLNormalizeEngine(DatabaseType.MySQL, sql).normalize();
+        assertThat(actual.getSql(), is("SELECT COUNT(1), user_id + 1 FROM t_order WHERE user_id = ? GROUP BY 2 ORDER BY 1 DESC"));
+        assertThat(actual.getParameters(), is(Collections.<Object>singletonList(10)));
+    }
+    
+    @Test
+    public void assertNormalizeKeepsCompositeExpressions() {
+        NormalizedSQL actual = new SQLNormalizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id = 10 + 1 AND order_id = N'1'").normalize();
+        assertFalse(actual.isParameterized());
+    }
+    
+    @Test
+    public void assertNormalizeUpdate() {
+        NormalizedSQL actual = new SQLNormalizeEngine(DatabaseType.Oracle, "UPDATE t_order SET status = 'it''s', amount = amount + 1 WHERE order_id = -1").normalize();
+        assertThat(actual.getSql(), is("UPDATE t_order SET status = ?, amount = amount + 1 WHERE order_id = ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList("it''s", -1)));
+    }
+    
+    @Test
+    public void assertNormalizeInsertOnlyValues() {
+        NormalizedSQL actual = new SQLNormalizeEngine(DatabaseType.MySQL, "INSERT INTO t_order (order_id, status) VALUES (1, 'init') ON DUPLICATE KEY UPDATE status = 'init'").normalize();
+        assertThat(actual.getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?) ON DUPLICATE KEY UPDATE status = 'init'"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, "init")));
+    }
+    
+    @Test
+    public void assertNotNormalizeLimitForSQLServer() {
+        NormalizedSQL actual = new SQLNormalizeEngine(DatabaseType.SQLServer, "SELECT * FROM t_order WHERE user_id = 10 ORDER BY order_id OFFSET 5 ROWS").normalize();
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE user_id = ? ORDER BY order_id OFFSET 5 ROWS"));
+    }
+    
+    @Test
+    public void assertNotNormalizeSubqueryOrPlaceholder() {
+        assertFalse(new SQLNormalizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id IN (SELECT user_id FROM t_user WHERE age = 10)").normalize().isParameterized());
+        assertFalse(new SQLNormalizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id = ? AND order_id = 1").normalize().isParameterized());
+        assertFalse(new SQLNormalizeEngine(DatabaseType.MySQL, "SHOW TABLES").normalize().isParameterized());
+    }
+    
+    @Test
+    public void assertRestore() {
+        String sql = "SELECT * FROM t_order WHERE status = 'it''s' AND user_id = 10 LIMIT 5, 10";
+        NormalizedSQL normalizedSQL = new SQLNormalizeEngine(DatabaseType.MySQL, sql).normalize();
+        List<Object> parameters = new ArrayList<>(normalizedSQL.getParameters());
+        assertThat(normalizedSQL.restore(normalizedSQL.getSql().replace("t_order", "t_order_0"), parameters), is(sql.replace("t_order", "t_order_0")));
+        parameters.set(2, 0);
+        parameters.set(3, 15);
+        assertThat(normalizedSQL.restore(normalizedSQL.getSql(), parameters), is("SELECT * FROM t_order WHERE status = 'it''s' AND user_id = 10 LIMIT 0, 15"));
+    }
+    
+    @Test
+    public void assertRestoreAppendedParameter() {
+        NormalizedSQL normalizedSQL = new SQLNormalizeEngine(DatabaseType.MySQL, "INSERT INTO t_order (status) VALUES ('init')").normalize();
+        List<Object> parameters = new ArrayList<>(normalizedSQL.getParameters());
+        parameters.add(100L);
+        assertThat(normalizedSQL.restore("INSERT INTO t_order (status, order_id) VALUES (?, ?)", parameters), is("INSERT INTO t_order (status, order_id) VALUES ('init', 100)"));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.parser;
+
+import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.Lexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.mysql.MySQLLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.oracle.OracleLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.postgresql.PostgreSQLLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.lexer.dialect.sqlserver.SQLServerLexer;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.mysql.MySQLParser;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.oracle.OracleParser;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.postgresql.PostgreSQLParser;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.dialect.sqlserver.SQLServerParser;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.AbstractStatementParserTest;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.SQLStatement;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.delete.DeleteParserFactory;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.select.SelectParserFactory;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.update.UpdateParserFactory;
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SimpleSQLParserTest extends AbstractStatementParserTest {
+    
+    private final ShardingRule shardingRule = createShardingRule();
+    
+    @Test
+    public void assertParseSelect() {
+        assertSameAsFullParser("SELECT * FROM TABLE_XXX WHERE field1 = ?");
+        assertSameAsFullParser("SELECT field1, TABLE_XXX.field2 FROM TABLE_XXX WHERE TABLE_XXX.field1 = 1 AND field2 = 'x' AND other = ?");
+        assertSameAsFullParser("select `field1` from `TABLE_XXX` where field1 in (?, 2, ?) and field2 = ?");
+        assertSameAsFullParser("SELECT field1 FROM TABLE_XXX");
+        assertSameAsFullParser("SELECT field1 FROM other_table WHERE field1 = ?");
+    }
+    
+    @Test
+    public void assertParseUpdate() {
+        assertSameAsFullParser("UPDATE TABLE_XXX SET field1 = ?, TABLE_XXX.field2 = 'x' WHERE field1 = ? AND TABLE_XXX.field2 IN (?, ?)");
+        assertSameAsFullParser("UPDATE TABLE_XXX SET field1 = 1");
+    }
+    
+    @Test
+    public void assertParseDelete() {
+        assertSameAsFullParser("DELETE FROM TABLE_XXX WHERE field1 = ? AND TABLE_XXX.field2 = 2");
+    }
+    
+    @Test
+    public void assertFallbackToFullParser() {
+        assertNotSimple("SELECT COUNT(*) FROM TABLE_XXX WHERE field1 = ?");
+        assertNotSimple("SELECT field1 AS f FROM TABLE_XXX WHERE field1 = ?");
+        assertNotSimple("SELECT t.* FROM TABLE_XXX t WHERE t.field1 = ?");
+        assertNotSimple("SELECT field1 FROM TABLE_XXX WHERE field1 = ? ORDER BY field1");
+        assertNotSimple("SELECT field1 FROM TABLE_XXX WHERE field1 = ? OR field2 = ?");
+        assertNotSimple("SELECT field1 FROM TABLE_XXX WHERE field1 > ?");
+        assertNotSimple("SELECT field1 FROM TABLE_XXX WHERE field1 = ? + 1");
+        assertNotSimple("SELECT field1 FROM TABLE_XXX, TABLE_YYY WHERE field1 = ?");
+        assertNotSimple("SELECT field1 FROM db.TABLE_XXX WHERE field1 = ?");
+        assertNotSimple("UPDATE TABLE_XXX SET field1 = field1 + 1 WHERE field1 = ?");
+        assertNotSimple("DELETE TABLE_XXX WHERE field1 = ?");
+        assertNotSimple("INSERT INTO TABLE_XXX (field1) VALUES (?)");
+    }
+    
+    private void assertSameAsFullParser(final String sql) {
+        assertSameAsFullParser(new MySQLLexer(sql), new MySQLParser(sql, shardingRule));
+        assertSameAsFullParser(new OracleLexer(sql), new OracleParser(sql, shardingRule));
+        assertSameAsFullParser(new SQLServerLexer(sql), new SQLServerParser(sql, shardingRule));
+        assertSameAsFullParser(new PostgreSQLLexer(sql), new PostgreSQLParser(sql, shardingRule));
+    }
+    
+    private void assertSameAsFullParser(final Lexer lexer, final SQLParser sqlParser) {
+        Optional<SQLStatement> actual = new SimpleSQLParser(lexer, shardingRule).parse();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().toString(), is(parseWithFullParser(sqlParser).toString()));
+    }
+    
+    private SQLStatement parseWithFullParser(final SQLParser sqlParser) {
+        switch (sqlParser.getLexer().getCurrentToken().getLiterals().toUpperCase()) {
+            case "SELECT":
+                return SelectParserFactory.newInstance(sqlParser).parse();
+            case "UPDATE":
+                return UpdateParserFactory.newInstance(sqlParser).parse();
+            default:
+                return DeleteParserFactory.newInstance(sqlParser).parse();
+        }
+    }
+    
+    private void assertNotSimple(final String sql) {
+        assertFalse(new SimpleSQLParser(new MySQLLexer(sql), shardingRule).parse().isPresent());
+    }
+}
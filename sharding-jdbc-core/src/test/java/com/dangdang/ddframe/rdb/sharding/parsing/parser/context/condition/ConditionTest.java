@@ -1,16 +1,21 @@
 package com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition;
 
 import com.dangdang.ddframe.rdb.sharding.api.ShardingValue;
+import com.dangdang.ddframe.rdb.sharding.constant.ShardingOperator;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLExpression;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLNumberExpression;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLPlaceholderExpression;
+import com.google.common.collect.Range;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ConditionTest {
     
@@ -32,4 +37,54 @@ public final class ConditionTest {
         assertThat((Integer) shardingValue.getValueRange().lowerEndpoint(), is(1));
         assertThat((Integer) shardingValue.getValueRange().upperEndpoint(), is(2));
     }
+    
+    @Test
+    public void assertGetShardingValueWithComparison() {
+        Condition condition = new Condition(new Column("test", "test"), ShardingOperator.LESS_THAN, new SQLPlaceholderExpression(0));
+        ShardingValue<?> shardingValue = condition.getShardingValue(Collections.<Object>singletonList(10));
+        assertThat(shardingValue.getType(), is(ShardingValue.ShardingValueType.RANGE));
+        assertThat(shardingValue.getValueRange(), is((Range) Range.lessThan(10)));
+    }
+    
+    @Test
+    public void assertIntersect() {
+        Condition condition = new Condition(new Column("test", "test"), ShardingOperator.GREATER_THAN, new SQLNumberExpression(1))
+                .intersect(new Condition(new Column("test", "test"), new SQLPlaceholderExpression(0), new SQLNumberExpression(10)));
+        assertThat(condition.getOperator(), is(ShardingOperator.BETWEEN));
+        assertThat(condition.getShardingValue(Collections.<Object>singletonList(5)).getValueRange(), is((Range) Range.closed(5, 10)));
+        assertThat(condition.getShardingValue(Collections.<Object>singletonList(0)).getValueRange(), is((Range) Range.openClosed(1, 10)));
+    }
+    
+    @Test
+    public void assertIntersectDisconnectedRanges() {
+        Condition condition = new Condition(new Column("test", "test"), ShardingOperator.GREATER_THAN, new SQLNumberExpression(10))
+                .intersect(new Condition(new Column("test", "test"), ShardingOperator.LESS_THAN_OR_EQUAL, new SQLNumberExpression(1)));
+        assertTrue(condition.getShardingValue(Collections.emptyList()).getValueRange().isEmpty());
+    }
+    
+    @Test
+    public void assertIntersectWithLiteralAndParameterOfDifferentIntegralTypes() {
+        Condition condition = new Condition(new Column("test", "test"), ShardingOperator.GREATER_THAN, new SQLNumberExpression(10))
+                .intersect(new Condition(new Column("test", "test"), ShardingOperator.LESS_THAN, new SQLPlaceholderExpression(0)));
+        assertThat(condition.getShardingValue(Collections.<Object>singletonList(20L)).getValueRange(), is((Range) Range.open(10L, 20L)));
+    }
+    
+    @Test
+    public void assertIntersectWithLiteralAndParameterOfDifferentNumberTypes() {
+        Condition condition = new Condition(new Column("test", "test"), ShardingOperator.GREATER_THAN_OR_EQUAL, new SQLNumberExpression(10))
+                .intersect(new Condition(new Column("test", "test"), ShardingOperator.LESS_THAN, new SQLPlaceholderExpression(0)));
+        assertThat(condition.getShardingValue(Collections.<Object>singletonList(new BigDecimal("20.5"))).getValueRange(), is((Range) Range.closedOpen(new BigDecimal("10"), new BigDecimal("20.5"))));
+    }
+    
+    @Test
+    public void assertIntersectWithIncompatibleTypes() {
+        Condition condition = new Condition(new Column("test", "test"), ShardingOperator.GREATER_THAN, new SQLNumberExpression(10))
+                .intersect(new Condition(new Column("test", "test"), ShardingOperator.LESS_THAN, new SQLPlaceholderExpression(0)));
+        assertThat(condition.getShardingValue(Collections.<Object>singletonList("20")).getValueRange(), is((Range) Range.all()));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertIntersectWithEqualCondition() {
+        new Condition(new Column("test", "test"), ShardingOperator.GREATER_THAN, new SQLNumberExpression(10)).intersect(new Condition(new Column("test", "test"), new SQLNumberExpression(1)));
+    }
 }
@@ -0,0 +1,61 @@
+package com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition;
+
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.expression.SQLNumberExpression;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConditionsTest {
+    
+    @Test
+    public void assertOr() {
+        Conditions actual = createConditions(new Column("id", "test"), 1);
+        actual.or(createConditions(new Column("id", "test"), 2));
+        assertThat(actual.getAndConditions().size(), is(2));
+        assertThat(actual.getAndConditions().get(0).find(new Column("id", "test")).get(), is(new Condition(new Column("id", "test"), new SQLNumberExpression(1))));
+        assertThat(actual.getAndConditions().get(1).find(new Column("id", "test")).get(), is(new Condition(new Column("id", "test"), new SQLNumberExpression(2))));
+        assertFalse(actual.find(new Column("id", "test")).isPresent());
+    }
+    
+    @Test
+    public void assertOrWithoutShardingCondition() {
+        Conditions actual = createConditions(new Column("id", "test"), 1);
+        actual.or(new Conditions());
+        assertThat(actual.getAndConditions().size(), is(1));
+        assertTrue(actual.getAndConditions().get(0).isEmpty());
+    }
+    
+    @Test
+    public void assertAnd() {
+        Conditions actual = createConditions(new Column("id", "test"), 1);
+        actual.or(createConditions(new Column("id", "test"), 2));
+        actual.and(createConditions(new Column("user_id", "test"), 3));
+        assertThat(actual.getAndConditions().size(), is(2));
+        for (AndCondition each : actual.getAndConditions()) {
+            assertThat(each.find(new Column("user_id", "test")).get(), is(new Condition(new Column("user_id", "test"), new SQLNumberExpression(3))));
+        }
+    }
+    
+    @Test
+    public void assertAndExceedMaxSize() {
+        Conditions actual = createConditions(new Column("id", "test"), 0);
+        Conditions other = createConditions(new Column("user_id", "test"), 0);
+        for (int i = 1; i < 10; i++) {
+            actual.or(createConditions(new Column("id", "test"), i));
+            other.or(createConditions(new Column("user_id", "test"), i));
+        }
+        assertThat(actual.getAndConditions().size(), is(10));
+        actual.and(other);
+        assertThat(actual.getAndConditions().size(), is(1));
+        assertTrue(actual.getAndConditions().get(0).isEmpty());
+    }
+    
+    private Conditions createConditions(final Column column, final int value) {
+        Conditions result = new Conditions();
+        result.add(new Condition(column, new SQLNumberExpression(value)));
+        return result;
+    }
+}
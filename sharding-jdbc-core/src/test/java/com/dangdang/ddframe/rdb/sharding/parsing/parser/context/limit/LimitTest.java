@@ -0,0 +1,80 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.parsing.parser.context.limit;
+
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.exception.SQLParsingException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public final class LimitTest {
+    
+    @Test
+    public void assertProcessParametersWithoutRewrite() {
+        Limit limit = createLimitWithPlaceholders();
+        List<Object> parameters = new ArrayList<Object>(Arrays.asList(2, 10));
+        Limit actual = limit.processParameters(parameters, false, false);
+        assertThat(actual.getOffsetValue(), is(2));
+        assertThat(actual.getRowCountValue(), is(10));
+        assertThat(parameters, is(Arrays.<Object>asList(2, 10)));
+    }
+    
+    @Test
+    public void assertProcessParametersWithRewrite() {
+        Limit limit = createLimitWithPlaceholders();
+        List<Object> parameters = new ArrayList<Object>(Arrays.asList(2, 10));
+        Limit actual = limit.processParameters(parameters, true, false);
+        assertThat(actual.getOffsetValue(), is(2));
+        assertThat(actual.getRowCountValue(), is(10));
+        assertThat(parameters, is(Arrays.<Object>asList(0, 12)));
+    }
+    
+    @Test
+    public void assertProcessParametersWithFetchAll() {
+        Limit limit = createLimitWithPlaceholders();
+        List<Object> parameters = new ArrayList<Object>(Arrays.asList(2, 10));
+        limit.processParameters(parameters, true, true);
+        assertThat(parameters, is(Arrays.<Object>asList(0, Integer.MAX_VALUE)));
+    }
+    
+    @Test
+    public void assertProcessParametersNotChangeParsedLimit() {
+        Limit limit = createLimitWithPlaceholders();
+        limit.processParameters(new ArrayList<Object>(Arrays.asList(2, 10)), false, false);
+        limit.processParameters(new ArrayList<Object>(Arrays.asList(4, 20)), false, false);
+        assertThat(limit.getOffset().getValue(), is(-1));
+        assertThat(limit.getRowCount().getValue(), is(-1));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertProcessParametersWithNegativeValue() {
+        createLimitWithPlaceholders().processParameters(new ArrayList<Object>(Arrays.asList(-1, 10)), false, false);
+    }
+    
+    private Limit createLimitWithPlaceholders() {
+        Limit result = new Limit(true);
+        result.setOffset(new LimitValue(-1, 0));
+        result.setRowCount(new LimitValue(-1, 1));
+        return result;
+    }
+}
@@ -103,6 +103,24 @@ public final class DeleteStatementParserTest extends AbstractStatementParserTest
         assertThat(shardingValues3.upperEndpoint(), is((Comparable) 70));
     }
     
+    @Test
+    public void parseWithRangeConditions() {
+        ShardingRule shardingRule = createShardingRule();
+        SQLParsingEngine statementParser = new SQLParsingEngine(DatabaseType.MySQL, 
+                "DELETE FROM TABLE_XXX WHERE field4>=? AND field4<? AND field5>10 AND field1=1 AND field1>0 AND field6<=? AND field6 BETWEEN 5 AND 20", shardingRule);
+        DeleteStatement deleteStatement = (DeleteStatement) statementParser.parse();
+        List<Object> actualParameters = Arrays.<Object>asList(10, 20, 15);
+        Condition condition1 = deleteStatement.getConditions().find(new Column("field1", "TABLE_XXX")).get();
+        assertThat(condition1.getOperator(), is(ShardingOperator.EQUAL));
+        Condition condition4 = deleteStatement.getConditions().find(new Column("field4", "TABLE_XXX")).get();
+        assertThat(condition4.getOperator(), is(ShardingOperator.BETWEEN));
+        assertThat(condition4.getShardingValue(actualParameters).getValueRange(), is((Range) Range.closedOpen(10, 20)));
+        Condition condition5 = deleteStatement.getConditions().find(new Column("field5", "TABLE_XXX")).get();
+        assertThat(condition5.getShardingValue(actualParameters).getValueRange(), is((Range) Range.greaterThan(10)));
+        Condition condition6 = deleteStatement.getConditions().find(new Column("field6", "TABLE_XXX")).get();
+        assertThat(condition6.getShardingValue(actualParameters).getValueRange(), is((Range) Range.closed(5, 15)));
+    }
+    
     @Test(expected = UnsupportedOperationException.class)
     public void parseStatementWithDeleteMultipleTable() {
         ShardingRule shardingRule = createShardingRule();
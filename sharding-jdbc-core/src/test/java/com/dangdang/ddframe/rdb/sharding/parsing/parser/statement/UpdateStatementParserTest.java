@@ -21,9 +21,9 @@ import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
 import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
 import com.dangdang.ddframe.rdb.sharding.constant.ShardingOperator;
 import com.dangdang.ddframe.rdb.sharding.parsing.SQLParsingEngine;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.AndCondition;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Column;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.condition.Condition;
-import com.dangdang.ddframe.rdb.sharding.parsing.parser.exception.SQLParsingUnsupportedException;
 import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.update.UpdateStatement;
 import com.google.common.collect.Range;
 import org.junit.Test;
@@ -104,10 +104,31 @@ public final class UpdateStatementParserTest extends AbstractStatementParserTest
         assertThat(shardingValue3.upperEndpoint(), is((Comparable) 80));
     }
     
-    @Test(expected = SQLParsingUnsupportedException.class)
+    @Test
     public void parseWithOr() {
         ShardingRule shardingRule = createShardingRule();
-        new SQLParsingEngine(DatabaseType.Oracle, "UPDATE TABLE_XXX SET field1=1 WHERE field1<1 AND (field1 >2 OR field2 =1)", shardingRule).parse();
+        UpdateStatement updateStatement = (UpdateStatement) new SQLParsingEngine(DatabaseType.Oracle, "UPDATE TABLE_XXX SET field1=1 WHERE field3=1 AND (field1=2 OR field2=3)", shardingRule).parse();
+        assertFalse(updateStatement.getConditions().find(new Column("field3", "TABLE_XXX")).isPresent());
+        List<AndCondition> andConditions = updateStatement.getConditions().getAndConditions();
+        assertThat(andConditions.size(), is(2));
+        assertThat(andConditions.get(0).find(new Column("field3", "TABLE_XXX")).get().getShardingValue(Collections.emptyList()).getValue(), is((Comparable) 1));
+        assertThat(andConditions.get(0).find(new Column("field1", "TABLE_XXX")).get().getShardingValue(Collections.emptyList()).getValue(), is((Comparable) 2));
+        assertFalse(andConditions.get(0).find(new Column("field2", "TABLE_XXX")).isPresent());
+        assertThat(andConditions.get(1).find(new Column("field3", "TABLE_XXX")).get().getShardingValue(Collections.emptyList()).getValue(), is((Comparable) 1));
+        assertThat(andConditions.get(1).find(new Column("field2", "TABLE_XXX")).get().getShardingValue(Collections.emptyList()).getValue(), is((Comparable) 3));
+        assertFalse(andConditions.get(1).find(new Column("field1", "TABLE_XXX")).isPresent());
+    }
+    
+    @Test
+    public void parseWithLeadingOrGroup() {
+        ShardingRule shardingRule = createShardingRule();
+        UpdateStatement updateStatement = (UpdateStatement) new SQLParsingEngine(DatabaseType.MySQL, "UPDATE TABLE_XXX SET field1=1 WHERE (field1=1 OR field1=2) AND field3=3", shardingRule).parse();
+        List<AndCondition> andConditions = updateStatement.getConditions().getAndConditions();
+        assertThat(andConditions.size(), is(2));
+        assertThat(andConditions.get(0).find(new Column("field1", "TABLE_XXX")).get().getShardingValue(Collections.emptyList()).getValue(), is((Comparable) 1));
+        assertThat(andConditions.get(0).find(new Column("field3", "TABLE_XXX")).get().getShardingValue(Collections.emptyList()).getValue(), is((Comparable) 3));
+        assertThat(andConditions.get(1).find(new Column("field1", "TABLE_XXX")).get().getShardingValue(Collections.emptyList()).getValue(), is((Comparable) 2));
+        assertThat(andConditions.get(1).find(new Column("field3", "TABLE_XXX")).get().getShardingValue(Collections.emptyList()).getValue(), is((Comparable) 3));
     }
     
     @Test
@@ -17,6 +17,7 @@
 
 package com.dangdang.ddframe.rdb.sharding.routing;
 
+import com.dangdang.ddframe.rdb.sharding.routing.cache.RoutingResultCacheTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -25,8 +26,11 @@ import org.junit.runners.Suite;
         SelectSingleTableTest.class, 
         SelectBindingTableTest.class, 
         SelectMixedTablesTest.class, 
+        ColocatedJoinTest.class, 
         DMLTest.class, 
-        DatabaseTest.class
+        BroadcastTableTest.class, 
+        DatabaseTest.class, 
+        RoutingResultCacheTest.class
     })
 public class AllRoutingTests {
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.routing;
+
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.jdbc.core.ShardingContext;
+import com.dangdang.ddframe.rdb.sharding.parsing.cache.ParsingResultCache;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.context.table.Table;
+import com.dangdang.ddframe.rdb.sharding.parsing.parser.statement.update.UpdateStatement;
+import com.dangdang.ddframe.rdb.sharding.routing.cache.RoutingResultCache;
+import com.dangdang.ddframe.rdb.sharding.routing.router.ParsingSQLRouter;
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public final class BroadcastTableTest extends AbstractBaseRouteSqlTest {
+    
+    @Test
+    public void assertSelectBroadcastTable() {
+        assertMultipleTargetsWithoutParameter("select * from currency where id = 1", 1, Collections.<String>emptyList(), Collections.singletonList("select * from currency where id = 1"));
+    }
+    
+    @Test
+    public void assertInsertBroadcastTable() {
+        assertMultipleTargetsWithParameters("insert into currency (id, name) values (?, ?)", Arrays.<Object>asList(1, "CNY"), 2, Arrays.asList("ds_0", "ds_1"), 
+                Collections.singletonList("insert into currency (id, name) values (?, ?)"));
+    }
+    
+    @Test
+    public void assertUpdateBroadcastTable() {
+        assertMultipleTargetsWithoutParameter("update currency set name = 'CNY' where id = 1", 2, Arrays.asList("ds_0", "ds_1"), 
+                Collections.singletonList("update currency set name = 'CNY' where id = 1"));
+    }
+    
+    @Test
+    public void assertSelectShardingTableJoinBroadcastTable() {
+        assertSingleTargetWithoutParameter("select * from order o join currency c on o.currency_id = c.id where o.order_id = 1", "ds_1", 
+                "select * from order_1 o join currency c on o.currency_id = c.id where o.order_id = 1");
+    }
+    
+    @Test
+    public void assertSelectBindingTablesJoinBroadcastTable() {
+        assertSingleTargetWithoutParameter("select * from order o join order_item i using(order_id) join currency c on o.currency_id = c.id where o.order_id = 1", "ds_1", 
+                "select * from order_1 o join order_item_1 i using(order_id) join currency c on o.currency_id = c.id where o.order_id = 1");
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertUpdateWithBroadcastTableAndShardingTable() {
+        UpdateStatement updateStatement = new UpdateStatement();
+        updateStatement.getTables().add(new Table("order", Optional.<String>absent()));
+        updateStatement.getTables().add(new Table("currency", Optional.<String>absent()));
+        ShardingContext shardingContext = new ShardingContext(getShardingRule(), DatabaseType.MySQL, null, false, new ParsingResultCache(1024), new RoutingResultCache(0), 0, 1);
+        new ParsingSQLRouter(shardingContext).route("update order, currency set currency.name = 'CNY' where order.order_id = 1", Collections.emptyList(), updateStatement);
+    }
+}
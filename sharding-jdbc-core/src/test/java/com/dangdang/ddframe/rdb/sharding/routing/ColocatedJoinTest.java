@@ -0,0 +1,114 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.routing;
+
+import com.dangdang.ddframe.rdb.sharding.api.rule.DataSourceRule;
+import com.dangdang.ddframe.rdb.sharding.api.rule.ShardingRule;
+import com.dangdang.ddframe.rdb.sharding.api.rule.TableRule;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.database.DatabaseShardingStrategy;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.AbstractModuloShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.HashModuloShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.standard.ModuloShardingAlgorithm;
+import com.dangdang.ddframe.rdb.sharding.api.strategy.table.TableShardingStrategy;
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.jdbc.core.ShardingContext;
+import com.dangdang.ddframe.rdb.sharding.parsing.cache.ParsingResultCache;
+import com.dangdang.ddframe.rdb.sharding.routing.cache.RoutingResultCache;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ColocatedJoinTest {
+    
+    private ShardingRule shardingRule;
+    
+    @Before
+    public void setUp() {
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("ds_0", null);
+        dataSourceMap.put("ds_1", null);
+        DataSourceRule dataSourceRule = new DataSourceRule(dataSourceMap);
+        shardingRule = ShardingRule.builder().dataSourceRule(dataSourceRule).tableRules(Arrays.asList(
+                createTableRule("t_order", dataSourceRule, new ModuloShardingAlgorithm<Integer>()), 
+                createTableRule("t_order_item", dataSourceRule, new ModuloShardingAlgorithm<Integer>()), 
+                createTableRule("t_order_extra", dataSourceRule, new HashModuloShardingAlgorithm<Integer>()))).build();
+    }
+    
+    @Test
+    public void assertRouteColocatedJoin() {
+        assertThat(route("select * from t_order o join t_order_item i on o.order_id = i.order_id", 0).getExecutionUnits().size(), is(4));
+    }
+    
+    @Test
+    public void assertRouteColocatedJoinWithShardingValue() {
+        SQLRouteResult actual = route("select * from t_order o join t_order_item i on o.order_id = i.order_id where o.order_id = 1", 0);
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        SQLExecutionUnit actualUnit = actual.getExecutionUnits().iterator().next();
+        assertThat(actualUnit.getDataSource(), is("ds_1"));
+        assertThat(actualUnit.getSql(), is("select * from t_order_1 o join t_order_item_1 i on o.order_id = i.order_id where o.order_id = 1"));
+    }
+    
+    @Test
+    public void assertRouteJoinWithoutShardingColumns() {
+        assertThat(route("select * from t_order o join t_order_item i on o.user_id = i.user_id", 0).getExecutionUnits().size(), is(8));
+    }
+    
+    @Test
+    public void assertRouteJoinWithOrCondition() {
+        assertThat(route("select * from t_order o join t_order_item i on o.order_id = i.order_id or o.user_id = i.user_id", 0).getExecutionUnits().size(), is(8));
+    }
+    
+    @Test
+    public void assertRouteJoinWithNonColumnCondition() {
+        assertThat(route("select * from t_order o join t_order_item i on o.order_id = i.order_id and o.status = 'init'", 0).getExecutionUnits().size(), is(8));
+    }
+    
+    @Test
+    public void assertRouteJoinWithDifferentShardingAlgorithms() {
+        assertThat(route("select * from t_order o join t_order_extra e on o.order_id = e.order_id", 0).getExecutionUnits().size(), is(8));
+    }
+    
+    @Test
+    public void assertRouteColocatedJoinWithinMaxSize() {
+        assertThat(route("select * from t_order o join t_order_item i on o.order_id = i.order_id", 4).getExecutionUnits().size(), is(4));
+    }
+    
+    @Test(expected = ShardingJdbcException.class)
+    public void assertRouteJoinExceedsMaxSize() {
+        route("select * from t_order o join t_order_item i on o.user_id = i.user_id", 4);
+    }
+    
+    private TableRule createTableRule(final String logicTable, final DataSourceRule dataSourceRule, final AbstractModuloShardingAlgorithm<Integer> tableShardingAlgorithm) {
+        return TableRule.builder(logicTable).actualTables(Arrays.asList(logicTable + "_0", logicTable + "_1")).dataSourceRule(dataSourceRule)
+                .databaseShardingStrategy(new DatabaseShardingStrategy("order_id", new ModuloShardingAlgorithm<Integer>()))
+                .tableShardingStrategy(new TableShardingStrategy("order_id", tableShardingAlgorithm)).build();
+    }
+    
+    private SQLRouteResult route(final String sql, final int cartesianRoutingMaxSize) {
+        ShardingContext shardingContext = new ShardingContext(shardingRule, DatabaseType.MySQL, null, false, new ParsingResultCache(0), new RoutingResultCache(0), cartesianRoutingMaxSize, 1);
+        return new StatementRoutingEngine(shardingContext).route(sql);
+    }
+}
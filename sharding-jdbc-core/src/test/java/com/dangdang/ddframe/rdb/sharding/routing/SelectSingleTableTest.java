@@ -17,7 +17,12 @@
 
 package com.dangdang.ddframe.rdb.sharding.routing;
 
+import com.dangdang.ddframe.rdb.sharding.api.rule.DataNode;
+import com.dangdang.ddframe.rdb.sharding.constant.DatabaseType;
 import com.dangdang.ddframe.rdb.sharding.constant.ShardingOperator;
+import com.dangdang.ddframe.rdb.sharding.jdbc.core.ShardingContext;
+import com.dangdang.ddframe.rdb.sharding.parsing.cache.ParsingResultCache;
+import com.dangdang.ddframe.rdb.sharding.routing.cache.RoutingResultCache;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -69,6 +74,43 @@ public final class SelectSingleTableTest extends AbstractDynamicRouteSqlTest {
                 Arrays.asList("ds_0", "ds_1"), Arrays.asList("select * from order_0", "select * from order_1"));
     }
     
+    @Test
+    public void assertSelectWithOr() {
+        assertSingleTargetWithoutParameter("select * from order where order_id = 1 or order_id = 3", "ds_1", "select * from order_1 where order_id = 1 or order_id = 3");
+        assertMultipleTargetsWithParameters("select * from order where order_id = ? or order_id = ?", Arrays.<Object>asList(1, 2), 2,
+                Arrays.asList("ds_0", "ds_1"), Arrays.asList("select * from order_0 where order_id = ? or order_id = ?", "select * from order_1 where order_id = ? or order_id = ?"));
+        assertSingleTargetWithParameters("select * from order where (order_id = ? or order_id in (?, ?)) and status = ?", Arrays.<Object>asList(1, 3, 5, "init"), 
+                "ds_1", "select * from order_1 where (order_id = ? or order_id in (?, ?)) and status = ?");
+        assertMultipleTargetsWithoutParameter("select * from order where order_id = 1 or status = 'init'", 4, 
+                Arrays.asList("ds_0", "ds_1"), Arrays.asList("select * from order_0 where order_id = 1 or status = 'init'", "select * from order_1 where order_id = 1 or status = 'init'"));
+    }
+    
+    @Test
+    public void assertSelectWithRoutingResultCache() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16);
+        ShardingContext shardingContext = new ShardingContext(getShardingRule(), DatabaseType.MySQL, null, false, new ParsingResultCache(1024), routingResultCache, 0, 1);
+        PreparedStatementRoutingEngine routingEngine = new PreparedStatementRoutingEngine("select * from order where order_id = ?", shardingContext);
+        SQLRouteResult actual = routingEngine.route(Collections.<Object>singletonList(2));
+        assertThat(routingEngine.route(Collections.<Object>singletonList(2)).getExecutionUnits(), is(actual.getExecutionUnits()));
+        assertThat(routingEngine.route(Collections.<Object>singletonList(1)).getExecutionUnits().iterator().next(), is(new SQLExecutionUnit("ds_1", "select * from order_1 where order_id = ?")));
+        assertThat(routingResultCache.getHitCount(), is(1L));
+        assertThat(routingResultCache.size(), is(2L));
+        new PreparedStatementRoutingEngine("select * from order where order_id = ? limit 5", shardingContext).route(Collections.<Object>singletonList(2));
+        assertThat(routingResultCache.size(), is(2L));
+    }
+    
+    @Test
+    public void assertSelectWithLiteralsSharingParsingResult() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1024);
+        ShardingContext shardingContext = new ShardingContext(getShardingRule(), DatabaseType.MySQL, null, false, parsingResultCache, new RoutingResultCache(0), 0, 1);
+        StatementRoutingEngine routingEngine = new StatementRoutingEngine(shardingContext);
+        SQLRouteResult actual = routingEngine.route("select * from order where order_id = 1");
+        assertThat(actual.getExecutionUnits().iterator().next(), is(new SQLExecutionUnit("ds_1", "select * from order_1 where order_id = 1")));
+        assertThat(routingEngine.route("select * from order where order_id = 1").getExecutionUnits(), is(actual.getExecutionUnits()));
+        assertThat(routingEngine.route("select * from order where order_id = 2").getExecutionUnits().iterator().next(), is(new SQLExecutionUnit("ds_0", "select * from order_0 where order_id = 2")));
+        assertThat(parsingResultCache.size(), is(1L));
+    }
+    
     @Test
     @Ignore
     // TODO or
@@ -86,6 +128,19 @@ public final class SelectSingleTableTest extends AbstractDynamicRouteSqlTest {
                 Arrays.asList("ds_0", "ds_1"), Arrays.asList("select * from order_0", "select * from order_1"));
     }
     
+    @Test
+    public void assertSelectWithUnboundedRange() {
+        assertMultipleTargetsWithParameters("select * from order where order_id > ?", Collections.<Object>singletonList(1), 4,
+                Arrays.asList("ds_0", "ds_1"), Arrays.asList("select * from order_0 where order_id > ?", "select * from order_1 where order_id > ?"));
+    }
+    
+    @Test
+    public void assertSelectWithDisconnectedRanges() {
+        DataNode firstDataNode = getShardingRule().getTableRule("order").getRoutingDataNode(0);
+        assertSingleTargetWithoutParameter("select * from order where order_id > 10 and order_id < 1", 
+                firstDataNode.getDataSourceName(), "select * from " + firstDataNode.getTableName() + " where order_id > 10 and order_id < 1");
+    }
+    
     @Test
     @Ignore
     // TODO or
@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.routing.cache;
+
+import com.dangdang.ddframe.rdb.sharding.routing.SQLExecutionUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class RoutingResultCacheTest {
+    
+    @Test
+    public void assertGetExecutionUnitsWhenHit() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16);
+        routingResultCache.put("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(1), 
+                Collections.singletonList(new SQLExecutionUnit("ds_1", "SELECT * FROM t_order_1 WHERE order_id = ?")));
+        assertThat(routingResultCache.getExecutionUnits("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(1)).get(), 
+                is(Collections.singletonList(new SQLExecutionUnit("ds_1", "SELECT * FROM t_order_1 WHERE order_id = ?"))));
+        assertThat(routingResultCache.getHitCount(), is(1L));
+        assertThat(routingResultCache.getMissCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetExecutionUnitsWhenMissWithDifferentShardingParameters() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16);
+        routingResultCache.put("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(1), 
+                Collections.singletonList(new SQLExecutionUnit("ds_1", "SELECT * FROM t_order_1 WHERE order_id = ?")));
+        assertFalse(routingResultCache.getExecutionUnits("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(2)).isPresent());
+        assertThat(routingResultCache.getHitCount(), is(0L));
+        assertThat(routingResultCache.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetExecutionUnitsAfterShardingParameterModified() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16);
+        Date orderTime = new Date(0L);
+        routingResultCache.put("SELECT * FROM t_order WHERE order_time = ?", Collections.<Object>singletonList(orderTime), 
+                Collections.singletonList(new SQLExecutionUnit("ds_1", "SELECT * FROM t_order_1 WHERE order_time = ?")));
+        orderTime.setTime(1000L);
+        assertTrue(routingResultCache.getExecutionUnits("SELECT * FROM t_order WHERE order_time = ?", Collections.<Object>singletonList(new Date(0L))).isPresent());
+        assertFalse(routingResultCache.getExecutionUnits("SELECT * FROM t_order WHERE order_time = ?", Collections.<Object>singletonList(orderTime)).isPresent());
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumSize() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(1);
+        routingResultCache.put("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(1), 
+                Collections.singletonList(new SQLExecutionUnit("ds_1", "SELECT * FROM t_order_1 WHERE order_id = ?")));
+        routingResultCache.put("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(2), 
+                Collections.singletonList(new SQLExecutionUnit("ds_0", "SELECT * FROM t_order_0 WHERE order_id = ?")));
+        assertThat(routingResultCache.size(), is(1L));
+        assertThat(routingResultCache.getEvictionCount(), is(1L));
+        assertTrue(routingResultCache.getExecutionUnits("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(2)).isPresent());
+    }
+    
+    @Test
+    public void assertDisabledWhenMaximumSizeIsZero() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(0);
+        assertFalse(routingResultCache.isEnabled());
+        routingResultCache.put("SELECT * FROM t_order", Collections.emptyList(), 
+                Arrays.asList(new SQLExecutionUnit("ds_0", "SELECT * FROM t_order_0"), new SQLExecutionUnit("ds_1", "SELECT * FROM t_order_1")));
+        assertFalse(routingResultCache.getExecutionUnits("SELECT * FROM t_order", Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16);
+        routingResultCache.put("SELECT * FROM t_order", Collections.emptyList(), Collections.singletonList(new SQLExecutionUnit("ds_0", "SELECT * FROM t_order_0")));
+        routingResultCache.clear();
+        assertThat(routingResultCache.size(), is(0L));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.plugin.executor;
+
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.executor.ExecutorRejectedPolicy;
+import com.dangdang.ddframe.rdb.sharding.executor.ExecutorServiceProvider;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 基于虚拟线程的执行器服务提供者.
+ * 
+ * <p>
+ * 每个任务使用独立的虚拟线程执行, 阻塞的JDBC调用不再占用平台线程, 需运行在JDK 21及以上版本.
+ * 工作线程数量, 工作队列容量和拒绝策略对虚拟线程无效, 可通过配置项{@code executor.max.concurrency.per.data.source}限制每个数据源的并发任务数量.
+ * JDK 24以下版本在synchronized块中阻塞会固定虚拟线程的载体线程, 建议运行在JDK 24及以上版本.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class VirtualThreadExecutorServiceProvider implements ExecutorServiceProvider {
+    
+    @Override
+    public ExecutorService createExecutorService(final int executorSize, final int queueSize, final ExecutorRejectedPolicy rejectedPolicy, final long rejectedWaitMilliseconds) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final NoSuchMethodException ex) {
+            throw new ShardingJdbcException("Virtual thread executor requires JDK 21 or above, current JDK is %s.", System.getProperty("java.version"));
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            throw new ShardingJdbcException(ex);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package com.dangdang.ddframe.rdb.sharding.plugin.executor;
+
+import com.dangdang.ddframe.rdb.sharding.exception.ShardingJdbcException;
+import com.dangdang.ddframe.rdb.sharding.executor.ExecutorRejectedPolicy;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public final class VirtualThreadExecutorServiceProviderTest {
+    
+    @Test
+    public void assertCreateExecutorService() throws InterruptedException, ExecutionException {
+        if (!isVirtualThreadSupported()) {
+            try {
+                new VirtualThreadExecutorServiceProvider().createExecutorService(1, 0, ExecutorRejectedPolicy.CALLER_RUNS, 0L);
+                fail("Expected ShardingJdbcException.");
+            } catch (final ShardingJdbcException ignored) {
+            }
+            return;
+        }
+        ExecutorService executorService = new VirtualThreadExecutorServiceProvider().createExecutorService(1, 0, ExecutorRejectedPolicy.CALLER_RUNS, 0L);
+        try {
+            assertThat(executorService.submit(new Callable<Boolean>() {
+                
+                @Override
+                public Boolean call() throws Exception {
+                    return (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+                }
+            }).get(), is(true));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}